@@ -15,11 +15,16 @@
  */
 package de.learnlib.algorithm.aaar;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 
 import de.learnlib.algorithm.LearnerConstructor;
 import de.learnlib.algorithm.LearningAlgorithm;
@@ -97,35 +102,69 @@ public abstract class AbstractAAARLearner<L extends LearningAlgorithm<CM, CI, D>
     public boolean refineHypothesis(DefaultQuery<CI, D> query) {
 
         final Word<CI> input = query.getInput();
+
+        // The i-th test word consists of the first i representatives and the remaining concrete symbols of the input.
+        // Since the prefixes of the tests only depend on the (already known) representatives, the tests of several
+        // positions are independent of each other and can be answered in a single batch. The positions are processed in
+        // batches of exponentially growing size, so that the search still stops (roughly) at the first split: the number
+        // of queries is at most about twice the number of positions up to the split (instead of always |ce| + 1), while
+        // only logarithmically many batches are required.
+        final Map<CI, CI> representatives = new HashMap<>();
         final WordBuilder<CI> wb = new WordBuilder<>(input.size());
+        final List<DefaultQuery<CI, D>> tests = new ArrayList<>(input.size() + 1);
+        final Map<Word<CI>, DefaultQuery<CI, D>> uniqueTests = new HashMap<>();
+
+        int lo = 0;
+        int batchSize = 1;
+
+        while (lo < input.size()) {
+            final int hi = Math.min(input.size(), lo + batchSize);
+            final Word<CI> symbols = input.subWord(lo, hi);
+
+            computeRepresentatives(symbols, representatives);
+            for (CI ci : symbols) {
+                wb.append(representatives.get(ci));
+            }
+
+            final List<DefaultQuery<CI, D>> batch = new ArrayList<>(hi - lo + 1);
+            for (int i = tests.size(); i <= hi; i++) {
+                final Word<CI> test = wb.toWord(0, i).concat(input.suffix(input.size() - i));
+                DefaultQuery<CI, D> q = uniqueTests.get(test);
 
-        Word<CI> prefix = Word.epsilon();
+                if (q == null) {
+                    q = new DefaultQuery<>(test);
+                    uniqueTests.put(test, q);
+                    batch.add(q);
+                }
 
-        for (int i = 0; i < input.size(); i++) {
-            final CI cur = input.getSymbol(i);
-            // lift & lower
-            final AbstractAbstractionTree<AI, CI, D> tree = getTreeForRepresentative(cur);
-            final AI a = tree.getAbstractSymbol(cur);
-            final CI r = tree.getRepresentative(a);
+                tests.add(q);
+            }
 
-            final Word<CI> suffix = input.suffix(input.size() - i - 1);
+            if (!batch.isEmpty()) {
+                oracle.processQueries(batch);
+            }
 
-            final Word<CI> testOld = prefix.append(r).concat(suffix);
-            final Word<CI> testNew = prefix.append(cur).concat(suffix);
+            for (int i = lo; i < hi; i++) {
+                final D outNew = tests.get(i).getOutput();
+                final D outOld = tests.get(i + 1).getOutput();
 
-            final D outOld = oracle.answerQuery(testOld);
-            final D outNew = oracle.answerQuery(testNew);
+                if (!Objects.equals(outOld, outNew)) { // add new abstraction
+                    final CI cur = input.getSymbol(i);
+                    final CI r = representatives.get(cur);
+                    final Word<CI> prefix = wb.toWord(0, i);
+                    final Word<CI> suffix = input.suffix(input.size() - i - 1);
 
-            if (Objects.equals(outOld, outNew)) {
-                prefix = prefix.append(r);
-                wb.append(r);
-            } else { // add new abstraction
-                final AI newA = tree.splitLeaf(r, cur, prefix, suffix, outOld);
-                abs.addSymbol(newA);
-                rep.addSymbol(cur);
-                learner.addAlphabetSymbol(cur);
-                return true;
+                    final AbstractAbstractionTree<AI, CI, D> tree = getTreeForRepresentative(cur);
+                    final AI newA = tree.splitLeaf(r, cur, prefix, suffix, outOld);
+                    abs.addSymbol(newA);
+                    rep.addSymbol(cur);
+                    learner.addAlphabetSymbol(cur);
+                    return true;
+                }
             }
+
+            lo = hi;
+            batchSize *= 2;
         }
 
         final int prefixLen = query.getPrefix().length();
@@ -135,6 +174,36 @@ public abstract class AbstractAAARLearner<L extends LearningAlgorithm<CM, CI, D>
         return learner.refineHypothesis(concreteCE);
     }
 
+    /**
+     * Lifts and lowers the given symbols, i.e., computes for each symbol the representative of its abstraction, and
+     * stores the results in the given map. Symbols whose representatives are already contained in the map are skipped.
+     * The sifting queries are batched per abstraction tree.
+     *
+     * @param symbols
+     *         the (concrete) symbols
+     * @param representatives
+     *         the map storing the representative of each symbol
+     */
+    private void computeRepresentatives(Iterable<CI> symbols, Map<CI, CI> representatives) {
+        final Map<AbstractAbstractionTree<AI, CI, D>, Set<CI>> symbolsPerTree = new LinkedHashMap<>();
+
+        for (CI ci : symbols) {
+            if (!representatives.containsKey(ci)) {
+                symbolsPerTree.computeIfAbsent(getTreeForRepresentative(ci), t -> new LinkedHashSet<>()).add(ci);
+            }
+        }
+
+        for (Entry<AbstractAbstractionTree<AI, CI, D>, Set<CI>> e : symbolsPerTree.entrySet()) {
+            final AbstractAbstractionTree<AI, CI, D> tree = e.getKey();
+            final List<CI> treeSymbols = new ArrayList<>(e.getValue());
+            final List<AI> abstracts = tree.getAbstractSymbols(treeSymbols);
+
+            for (int i = 0; i < treeSymbols.size(); i++) {
+                representatives.put(treeSymbols.get(i), tree.getRepresentative(abstracts.get(i)));
+            }
+        }
+    }
+
     /**
      * Returns the (abstract) alphabet of the current (abstract) hypothesis model (cf. {@link #getHypothesisModel()}).
      *
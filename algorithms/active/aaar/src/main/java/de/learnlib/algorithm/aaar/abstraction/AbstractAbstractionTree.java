@@ -30,6 +30,7 @@ import de.learnlib.algorithm.aaar.Abstraction;
 import de.learnlib.algorithm.aaar.abstraction.Node.InnerNode;
 import de.learnlib.algorithm.aaar.abstraction.Node.Leaf;
 import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.query.DefaultQuery;
 import net.automatalib.graph.Graph;
 import net.automatalib.graph.concept.GraphViewable;
 import net.automatalib.visualization.DefaultVisualizationHelper;
@@ -114,6 +115,68 @@ public abstract class AbstractAbstractionTree<AI, CI, D>
         return leaf.abs;
     }
 
+    /**
+     * Batched version of {@link #getAbstractSymbol(Object)}. All given symbols are sifted through the tree
+     * simultaneously such that the queries of each level of the tree are posed to the oracle in a single batch.
+     *
+     * @param cs
+     *         the concrete symbols
+     *
+     * @return the abstract symbols of the given concrete symbols (in the same order)
+     */
+    public List<AI> getAbstractSymbols(List<? extends CI> cs) {
+        final Node[] current = new Node[cs.size()];
+        Arrays.fill(current, root);
+
+        List<Integer> active = new ArrayList<>(cs.size());
+        if (root instanceof InnerNode) {
+            for (int i = 0; i < cs.size(); i++) {
+                active.add(i);
+            }
+        }
+
+        while (!active.isEmpty()) {
+            final List<DefaultQuery<CI, D>> queries = new ArrayList<>(active.size());
+
+            for (Integer idx : active) {
+                @SuppressWarnings("unchecked")
+                final InnerNode<CI, D> n = (InnerNode<CI, D>) current[idx];
+                queries.add(new DefaultQuery<>(n.prefix.append(cs.get(idx)).concat(n.suffix)));
+            }
+
+            oracle.processQueries(queries);
+
+            final List<Integer> nextActive = new ArrayList<>(active.size());
+
+            for (int i = 0; i < active.size(); i++) {
+                final int idx = active.get(i);
+                @SuppressWarnings("unchecked")
+                final InnerNode<CI, D> n = (InnerNode<CI, D>) current[idx];
+
+                if (Objects.equals(n.out, queries.get(i).getOutput())) {
+                    current[idx] = n.equalsNext;
+                } else {
+                    current[idx] = n.otherNext;
+                }
+
+                if (current[idx] instanceof InnerNode) {
+                    nextActive.add(idx);
+                }
+            }
+
+            active = nextActive;
+        }
+
+        final List<AI> result = new ArrayList<>(cs.size());
+        for (Node n : current) {
+            @SuppressWarnings("unchecked")
+            final Leaf<AI, CI> leaf = (Leaf<AI, CI>) n;
+            result.add(leaf.abs);
+        }
+
+        return result;
+    }
+
     @Override
     public CI getRepresentative(AI a) {
         final CI ci = gamma.get(a);
@@ -15,10 +15,15 @@
  */
 package de.learnlib.algorithm.aaar;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import de.learnlib.algorithm.LearningAlgorithm;
+import de.learnlib.algorithm.aaar.abstraction.AbstractAbstractionTree;
 import de.learnlib.oracle.MembershipOracle;
 import de.learnlib.oracle.equivalence.SampleSetEQOracle;
 import de.learnlib.oracle.membership.SimulatorOracle;
@@ -65,6 +70,22 @@ public abstract class AbstractAAARTest<L extends AbstractAAARLearner<?, A, A, I,
 
         Assert.assertEquals(new HashSet<>(aaarLearner.getLearnerAlphabet()), new HashSet<>(alphabet));
         Assert.assertTrue(Automata.testEquivalence(automaton, hyp, alphabet));
+
+        // batched sifting must be consistent with sifting individual symbols
+        final Map<AbstractAbstractionTree<?, I, D>, List<I>> symbolsPerTree = new LinkedHashMap<>();
+        for (I i : alphabet) {
+            symbolsPerTree.computeIfAbsent(aaarLearner.getTreeForRepresentative(i), t -> new ArrayList<>()).add(i);
+        }
+
+        for (Entry<AbstractAbstractionTree<?, I, D>, List<I>> e : symbolsPerTree.entrySet()) {
+            final AbstractAbstractionTree<?, I, D> tree = e.getKey();
+            final List<I> symbols = e.getValue();
+            final List<?> abstracts = tree.getAbstractSymbols(symbols);
+
+            for (int i = 0; i < symbols.size(); i++) {
+                Assert.assertEquals(abstracts.get(i), tree.getAbstractSymbol(symbols.get(i)));
+            }
+        }
     }
 
     protected abstract L getLearner(Alphabet<I> alphabet, MembershipOracle<I, D> oracle);
@@ -19,12 +19,18 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import de.learnlib.algorithm.aaar.AAARTestUtil;
 import de.learnlib.algorithm.aaar.AbstractAAARTest;
 import de.learnlib.algorithm.aaar.abstraction.AbstractAbstractionTree;
 import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.oracle.membership.SimulatorOracle;
+import de.learnlib.query.DefaultQuery;
+import de.learnlib.query.Query;
 import de.learnlib.testsupport.example.mealy.ExampleGrid;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.transducer.MealyMachine;
@@ -32,6 +38,7 @@ import net.automatalib.common.util.IOUtil;
 import net.automatalib.graph.concept.GraphViewable;
 import net.automatalib.serialization.dot.GraphDOT;
 import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -68,4 +75,42 @@ public class GenericAAARLearnerMealyTest
             Assert.assertEquals(w.toString(), expected);
         }
     }
+
+    @Test
+    public void testRefinementQueries() {
+        final ExampleGrid example = ExampleGrid.createExample(SIZE, SIZE);
+        final Alphabet<Character> alphabet = example.getAlphabet();
+        final MealyMachine<?, Character, ?, Integer> target = example.getReferenceAutomaton();
+        final MembershipOracle<Character, Word<Integer>> delegate = new SimulatorOracle<>(target);
+
+        final AtomicLong queries = new AtomicLong();
+        final MembershipOracle<Character, Word<Integer>> counter = new MembershipOracle<Character, Word<Integer>>() {
+
+            @Override
+            public void processQueries(Collection<? extends Query<Character, Word<Integer>>> qs) {
+                queries.addAndGet(qs.size());
+                delegate.processQueries(qs);
+            }
+        };
+
+        final GenericAAARLearnerMealy<?, Character, Character, Integer> learner = getLearner(alphabet, counter);
+        learner.startLearning();
+
+        // the first symbol of the counterexample already distinguishes the two symbols (unique outputs), the
+        // (non-repetitive) remainder only adds length
+        final int padding = 1000;
+        final Random random = new Random(42);
+        final WordBuilder<Character> wb = new WordBuilder<>(padding + 1);
+        wb.append(alphabet.getSymbol(1));
+        for (int i = 0; i < padding; i++) {
+            wb.append(alphabet.getSymbol(random.nextInt(alphabet.size())));
+        }
+
+        final Word<Character> input = wb.toWord();
+        final DefaultQuery<Character, Word<Integer>> ce = new DefaultQuery<>(input, target.computeOutput(input));
+
+        queries.set(0);
+        Assert.assertTrue(learner.refineHypothesis(ce));
+        Assert.assertTrue(queries.get() < padding / 2, "refinement posed " + queries.get() + " queries");
+    }
 }
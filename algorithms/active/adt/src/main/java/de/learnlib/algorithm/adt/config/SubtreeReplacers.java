@@ -17,14 +17,19 @@ package de.learnlib.algorithm.adt.config;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import de.learnlib.algorithm.adt.adt.ADT;
 import de.learnlib.algorithm.adt.api.SubtreeReplacer;
+import de.learnlib.algorithm.adt.config.model.ADSCalculator;
 import de.learnlib.algorithm.adt.config.model.calculator.BestEffortCalculator;
 import de.learnlib.algorithm.adt.config.model.calculator.MinLengthCalculator;
 import de.learnlib.algorithm.adt.config.model.calculator.MinSizeCalculator;
 import de.learnlib.algorithm.adt.config.model.replacer.ExhaustiveReplacer;
 import de.learnlib.algorithm.adt.config.model.replacer.LevelOrderReplacer;
+import de.learnlib.algorithm.adt.config.model.replacer.ParallelExhaustiveReplacer;
+import de.learnlib.algorithm.adt.config.model.replacer.ParallelLevelOrderReplacer;
 import de.learnlib.algorithm.adt.config.model.replacer.SingleReplacer;
 import de.learnlib.algorithm.adt.model.ReplacementResult;
 import net.automatalib.alphabet.Alphabet;
@@ -61,4 +66,56 @@ public final class SubtreeReplacers {
     private SubtreeReplacers() {
         // prevent instantiation
     }
+
+    /**
+     * Returns a {@link SubtreeReplacer} that behaves like the {@code EXHAUSTIVE_*} replacers but evaluates all
+     * candidate ADSs concurrently within the given time budget (per replacement round). Computations that are still
+     * running when the budget expires are aborted at their next transition lookup on the (snapshot of the) hypothesis,
+     * so that they do not occupy the threads of the pool beyond the replacement round.
+     *
+     * @param adsCalculator
+     *         the calculator for computing the candidate ADSs
+     * @param pool
+     *         the pool on which the candidate ADSs are computed
+     * @param budget
+     *         the time budget for each replacement round
+     * @param unit
+     *         the time unit of the budget
+     *
+     * @return the parallel exhaustive replacer
+     *
+     * @see ParallelExhaustiveReplacer
+     */
+    public static SubtreeReplacer parallelExhaustive(ADSCalculator adsCalculator,
+                                                     ForkJoinPool pool,
+                                                     long budget,
+                                                     TimeUnit unit) {
+        return new ParallelExhaustiveReplacer(adsCalculator, pool, budget, unit);
+    }
+
+    /**
+     * Returns a {@link SubtreeReplacer} that behaves like the {@code LEVELED_*} replacers but evaluates all nodes of a
+     * level concurrently within the given time budget (per replacement round). As for
+     * {@link #parallelExhaustive(ADSCalculator, ForkJoinPool, long, TimeUnit)}, computations that are still running when
+     * the budget expires are aborted at their next transition lookup on the (snapshot of the) hypothesis.
+     *
+     * @param adsCalculator
+     *         the calculator for computing the candidate ADSs
+     * @param pool
+     *         the pool on which the candidate ADSs are computed
+     * @param budget
+     *         the time budget for each replacement round
+     * @param unit
+     *         the time unit of the budget
+     *
+     * @return the parallel level-order replacer
+     *
+     * @see ParallelLevelOrderReplacer
+     */
+    public static SubtreeReplacer parallelLeveled(ADSCalculator adsCalculator,
+                                                  ForkJoinPool pool,
+                                                  long budget,
+                                                  TimeUnit unit) {
+        return new ParallelLevelOrderReplacer(adsCalculator, pool, budget, unit);
+    }
 }
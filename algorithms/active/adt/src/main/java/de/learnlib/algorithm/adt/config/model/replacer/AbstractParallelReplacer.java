@@ -0,0 +1,287 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.algorithm.adt.config.model.replacer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.learnlib.algorithm.adt.adt.ADTLeafNode;
+import de.learnlib.algorithm.adt.adt.ADTNode;
+import de.learnlib.algorithm.adt.adt.ADTSymbolNode;
+import de.learnlib.algorithm.adt.api.SubtreeReplacer;
+import de.learnlib.algorithm.adt.config.model.ADSCalculator;
+import de.learnlib.algorithm.adt.util.ADTUtil;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.impl.CompactTransition;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.common.util.HashUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Base class for {@link SubtreeReplacer}s that evaluate their candidate ADS computations concurrently on a
+ * {@link ForkJoinPool}. Each call to {@link #computeReplacements(MealyMachine, Alphabet, de.learnlib.algorithm.adt.adt.ADT)
+ * computeReplacements} is limited by a time budget after which the best replacement found so far is returned.
+ * <p>
+ * The ADS computations operate on a snapshot of the hypothesis, so that they can run concurrently to the learner
+ * modifying its hypothesis. Since the {@link ADSCalculator}s do not react to interrupts, the snapshot is
+ * {@link Snapshot#abort() aborted} at the end of each replacement round instead: every subsequent transition lookup on
+ * the snapshot throws a {@link CancellationException}, which terminates the computations that are still running (their
+ * results would be discarded anyway) and frees the threads of the pool. Note that calculators which perform expensive
+ * computations without accessing the given automaton are not affected by this mechanism.
+ */
+abstract class AbstractParallelReplacer implements SubtreeReplacer {
+
+    protected final ADSCalculator adsCalculator;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+
+    AbstractParallelReplacer(ADSCalculator adsCalculator, ForkJoinPool pool, long budget, TimeUnit unit) {
+        this.adsCalculator = adsCalculator;
+        this.pool = pool;
+        this.budgetNanos = unit.toNanos(budget);
+    }
+
+    /**
+     * Computes the deadline (in terms of {@link System#nanoTime()}) of a replacement round that starts now.
+     *
+     * @return the deadline of the current replacement round
+     */
+    protected long computeDeadline() {
+        return System.nanoTime() + budgetNanos;
+    }
+
+    protected <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return pool.submit(task);
+    }
+
+    /**
+     * Waits for the given task to complete until the given deadline expires.
+     *
+     * @param task
+     *         the task to wait for
+     * @param deadline
+     *         the deadline (in terms of {@link System#nanoTime()})
+     *
+     * @return {@code true} if the task has completed (normally or exceptionally), {@code false} if the deadline has
+     * expired (or the waiting thread has been interrupted) before the task completed
+     */
+    protected static boolean await(ForkJoinTask<?> task, long deadline) {
+        final long remaining = deadline - System.nanoTime();
+
+        if (remaining <= 0) {
+            return task.isDone();
+        }
+
+        try {
+            task.get(remaining, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            // the exception is re-thrown by the caller when joining the task
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return task.isDone();
+        }
+    }
+
+    /**
+     * Checks whether the given task has completed normally, i.e., its result is available without blocking.
+     *
+     * @param task
+     *         the task to check
+     *
+     * @return {@code true} if the task has completed normally, {@code false} otherwise
+     */
+    protected static boolean isCompletedNormally(ForkJoinTask<?> task) {
+        return task.isDone() && !task.isCompletedAbnormally();
+    }
+
+    /**
+     * Cancels all tasks that have not been started yet. Already running ADS computations are not interruptible and need
+     * to be terminated by {@link Snapshot#abort() aborting} the snapshot they operate on.
+     *
+     * @param tasks
+     *         the tasks to cancel
+     */
+    protected static void cancelAll(Collection<? extends ForkJoinTask<?>> tasks) {
+        for (ForkJoinTask<?> task : tasks) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * An immutable (in the sense that it is not exposed for modification) copy of a hypothesis, on which ADS
+     * computations can be performed concurrently to modifications of the original hypothesis.
+     *
+     * @param <S>
+     *         (original hypothesis) state type
+     * @param <I>
+     *         input alphabet type
+     * @param <O>
+     *         output alphabet type
+     */
+    protected static final class Snapshot<S, I, O> {
+
+        private final CompactMealy<I, O> automaton;
+        private final AbortableMealy<I, O> view;
+        private final List<S> states;
+        private final Map<S, Integer> stateIds;
+
+        Snapshot(MealyMachine<S, I, ?, O> hypothesis, Alphabet<I> inputs) {
+            final Collection<S> hypStates = hypothesis.getStates();
+
+            this.automaton = new CompactMealy<>(inputs, hypStates.size());
+            this.view = new AbortableMealy<>(automaton);
+            this.states = new ArrayList<>(hypStates);
+            this.stateIds = new HashMap<>(HashUtil.capacity(hypStates.size()));
+
+            for (S s : states) {
+                stateIds.put(s, automaton.addIntState());
+            }
+
+            for (S s : states) {
+                final int id = stateIds.get(s);
+                for (I i : inputs) {
+                    final S succ = hypothesis.getSuccessor(s, i);
+                    if (succ != null) {
+                        automaton.addTransition(id, i, stateIds.get(succ), hypothesis.getOutput(s, i));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the automaton on which the ADS computations operate. Once the snapshot has been {@link #abort()
+         * aborted}, all transition lookups on the returned automaton throw a {@link CancellationException}.
+         *
+         * @return the automaton of the snapshot
+         */
+        MealyMachine<Integer, I, ?, O> getAutomaton() {
+            return view;
+        }
+
+        /**
+         * Aborts all (running and future) computations on this snapshot.
+         */
+        void abort() {
+            view.aborted.set(true);
+        }
+
+        Set<Integer> toSnapshot(Collection<S> hypStates) {
+            final Set<Integer> result = new LinkedHashSet<>(HashUtil.capacity(hypStates.size()));
+            for (S s : hypStates) {
+                result.add(stateIds.get(s));
+            }
+            return result;
+        }
+
+        /**
+         * Converts an ADS that has been computed on the snapshot into an ADS that references the states of the
+         * original hypothesis.
+         *
+         * @param ads
+         *         the ADS computed on the snapshot
+         *
+         * @return the equivalent ADS for the original hypothesis
+         */
+        ADTNode<S, I, O> fromSnapshot(ADTNode<Integer, I, O> ads) {
+            return fromSnapshot(ads, null);
+        }
+
+        private ADTNode<S, I, O> fromSnapshot(ADTNode<Integer, I, O> node, @Nullable ADTNode<S, I, O> parent) {
+            if (ADTUtil.isLeafNode(node)) {
+                return new ADTLeafNode<>(parent, states.get(node.getState()));
+            }
+
+            final ADTNode<S, I, O> result = new ADTSymbolNode<>(parent, node.getSymbol());
+
+            for (Map.Entry<O, ADTNode<Integer, I, O>> entry : node.getChildren().entrySet()) {
+                result.getChildren().put(entry.getKey(), fromSnapshot(entry.getValue(), result));
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * A read-only view on a {@link CompactMealy} whose transition lookups fail once the view has been aborted.
+     */
+    private static final class AbortableMealy<I, O> implements MealyMachine<Integer, I, CompactTransition<O>, O> {
+
+        private final CompactMealy<I, O> delegate;
+        private final AtomicBoolean aborted;
+
+        AbortableMealy(CompactMealy<I, O> delegate) {
+            this.delegate = delegate;
+            this.aborted = new AtomicBoolean();
+        }
+
+        @Override
+        public Collection<Integer> getStates() {
+            return delegate.getStates();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public StateIDs<Integer> stateIDs() {
+            return delegate.stateIDs();
+        }
+
+        @Override
+        public @Nullable Integer getInitialState() {
+            return delegate.getInitialState();
+        }
+
+        @Override
+        public @Nullable CompactTransition<O> getTransition(Integer state, I input) {
+            if (aborted.get()) {
+                throw new CancellationException("ADS computation has been aborted");
+            }
+            return delegate.getTransition(state, input);
+        }
+
+        @Override
+        public Integer getSuccessor(CompactTransition<O> transition) {
+            return delegate.getSuccessor(transition);
+        }
+
+        @Override
+        public O getTransitionOutput(CompactTransition<O> transition) {
+            return delegate.getTransitionOutput(transition);
+        }
+    }
+}
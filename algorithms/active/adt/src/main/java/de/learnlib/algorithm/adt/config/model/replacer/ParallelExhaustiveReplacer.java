@@ -0,0 +1,156 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.algorithm.adt.config.model.replacer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import de.learnlib.algorithm.adt.adt.ADT;
+import de.learnlib.algorithm.adt.adt.ADTNode;
+import de.learnlib.algorithm.adt.config.model.ADSCalculator;
+import de.learnlib.algorithm.adt.model.ReplacementResult;
+import de.learnlib.algorithm.adt.util.ADTUtil;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.common.util.HashUtil;
+
+/**
+ * A parallel version of the {@link ExhaustiveReplacer}. All candidate ADSs (the complete ADS and the ADSs that exclude
+ * the states of a single sub-ADS) are computed concurrently. Candidates are preferred in the same order as in the
+ * {@link ExhaustiveReplacer}, i.e., if the time budget suffices, both replacers yield the same results. If the time
+ * budget expires, the most preferred candidate among the completed computations is returned.
+ */
+public class ParallelExhaustiveReplacer extends AbstractParallelReplacer {
+
+    /**
+     * Constructor.
+     *
+     * @param adsCalculator
+     *         the calculator for computing the candidate ADSs
+     * @param pool
+     *         the pool on which the candidate ADSs are computed
+     * @param budget
+     *         the time budget for each call to {@link #computeReplacements(MealyMachine, Alphabet, ADT)}
+     * @param unit
+     *         the time unit of the budget
+     */
+    public ParallelExhaustiveReplacer(ADSCalculator adsCalculator, ForkJoinPool pool, long budget, TimeUnit unit) {
+        super(adsCalculator, pool, budget, unit);
+    }
+
+    @Override
+    public <S, I, O> Set<ReplacementResult<S, I, O>> computeReplacements(MealyMachine<S, I, ?, O> hypothesis,
+                                                                         Alphabet<I> inputs,
+                                                                         ADT<S, I, O> adt) {
+        // if we cannot save any resets, don't bother with replacement
+        if (ADTUtil.collectResetNodes(adt.getRoot()).isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final long deadline = computeDeadline();
+        final Snapshot<S, I, O> snapshot = new Snapshot<>(hypothesis, inputs);
+        final Set<S> statesAsSet = new LinkedHashSet<>(hypothesis.getStates());
+
+        // the sets of states to cut out, ordered by preference
+        final Set<ADTNode<S, I, O>> candidates = ADTUtil.collectADSNodes(adt.getRoot(), false);
+        final List<Set<S>> cutouts = new ArrayList<>(candidates.size() + 1);
+
+        for (ADTNode<S, I, O> node : candidates) {
+            final Set<ADTNode<S, I, O>> leaves = ADTUtil.collectLeaves(node);
+            final Set<S> set = new LinkedHashSet<>(HashUtil.capacity(leaves.size()));
+
+            for (ADTNode<S, I, O> l : leaves) {
+                set.add(l.getState());
+            }
+
+            cutouts.add(set);
+        }
+
+        cutouts.sort(Comparator.comparingInt(Set::size));
+        cutouts.add(0, Collections.emptySet());
+
+        final List<Set<S>> submittedCutouts = new ArrayList<>(cutouts.size());
+        final List<ForkJoinTask<Optional<ADTNode<Integer, I, O>>>> tasks = new ArrayList<>(cutouts.size());
+
+        for (Set<S> cutout : cutouts) {
+            final Set<S> targets = new LinkedHashSet<>(statesAsSet);
+            targets.removeAll(cutout);
+
+            if (targets.size() < 2) {
+                continue;
+            }
+
+            final Set<Integer> snapshotTargets = snapshot.toSnapshot(targets);
+            submittedCutouts.add(cutout);
+            tasks.add(submit(() -> adsCalculator.compute(snapshot.getAutomaton(), inputs, snapshotTargets)));
+        }
+
+        try {
+            int idx = 0;
+
+            // check the candidates in order of preference
+            while (idx < tasks.size() && await(tasks.get(idx), deadline)) {
+                final Optional<ADTNode<Integer, I, O>> ads = tasks.get(idx).join();
+
+                if (ads.isPresent()) {
+                    return Collections.singleton(buildResult(adt, snapshot, ads.get(), submittedCutouts.get(idx)));
+                }
+
+                idx++;
+            }
+
+            // budget expired, check if any of the less preferred computations have finished
+            for (; idx < tasks.size(); idx++) {
+                final ForkJoinTask<Optional<ADTNode<Integer, I, O>>> task = tasks.get(idx);
+
+                if (isCompletedNormally(task)) {
+                    final Optional<ADTNode<Integer, I, O>> ads = task.join();
+
+                    if (ads.isPresent()) {
+                        return Collections.singleton(buildResult(adt, snapshot, ads.get(), submittedCutouts.get(idx)));
+                    }
+                }
+            }
+
+            return Collections.emptySet();
+        } finally {
+            cancelAll(tasks);
+            // terminate the computations that are still running after the budget has expired
+            snapshot.abort();
+        }
+    }
+
+    private static <S, I, O> ReplacementResult<S, I, O> buildResult(ADT<S, I, O> adt,
+                                                                    Snapshot<S, I, O> snapshot,
+                                                                    ADTNode<Integer, I, O> ads,
+                                                                    Set<S> cutout) {
+        final ADTNode<S, I, O> replacement = snapshot.fromSnapshot(ads);
+
+        if (cutout.isEmpty()) {
+            return new ReplacementResult<>(adt.getRoot(), replacement);
+        }
+
+        return new ReplacementResult<>(adt.getRoot(), replacement, cutout);
+    }
+}
@@ -0,0 +1,273 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.algorithm.adt.config.model.replacer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import de.learnlib.algorithm.adt.adt.ADT;
+import de.learnlib.algorithm.adt.adt.ADTNode;
+import de.learnlib.algorithm.adt.config.model.ADSCalculator;
+import de.learnlib.algorithm.adt.model.ReplacementResult;
+import de.learnlib.algorithm.adt.util.ADTUtil;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A parallel version of the {@link LevelOrderReplacer}. All nodes of a level of the ADT are evaluated concurrently and
+ * only the sub-ADSs of nodes that could not be replaced are scheduled for the next level. If the time budget suffices,
+ * both replacers yield the same results. If the time budget expires, the replacements of all completed computations
+ * are returned.
+ */
+public class ParallelLevelOrderReplacer extends AbstractParallelReplacer {
+
+    /**
+     * Constructor.
+     *
+     * @param adsCalculator
+     *         the calculator for computing the candidate ADSs
+     * @param pool
+     *         the pool on which the candidate ADSs are computed
+     * @param budget
+     *         the time budget for each call to {@link #computeReplacements(MealyMachine, Alphabet, ADT)}
+     * @param unit
+     *         the time unit of the budget
+     */
+    public ParallelLevelOrderReplacer(ADSCalculator adsCalculator, ForkJoinPool pool, long budget, TimeUnit unit) {
+        super(adsCalculator, pool, budget, unit);
+    }
+
+    @Override
+    public <S, I, O> Set<ReplacementResult<S, I, O>> computeReplacements(MealyMachine<S, I, ?, O> hypothesis,
+                                                                         Alphabet<I> inputs,
+                                                                         ADT<S, I, O> adt) {
+
+        // if we cannot save any resets, don't bother with replacement
+        if (ADTUtil.collectResetNodes(adt.getRoot()).isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final long deadline = computeDeadline();
+        final Snapshot<S, I, O> snapshot = new Snapshot<>(hypothesis, inputs);
+
+        try {
+            return computeReplacements(snapshot, inputs, adt, deadline);
+        } finally {
+            // terminate the computations that are still running after the budget has expired
+            snapshot.abort();
+        }
+    }
+
+    private <S, I, O> Set<ReplacementResult<S, I, O>> computeReplacements(Snapshot<S, I, O> snapshot,
+                                                                          Alphabet<I> inputs,
+                                                                          ADT<S, I, O> adt,
+                                                                          long deadline) {
+        final Set<ReplacementResult<S, I, O>> result = new LinkedHashSet<>();
+
+        List<ADTNode<S, I, O>> level = Collections.singletonList(adt.getRoot());
+
+        while (!level.isEmpty()) {
+            final List<ForkJoinTask<@Nullable ReplacementResult<S, I, O>>> tasks = new ArrayList<>(level.size());
+            final List<Boolean> expandable = new ArrayList<>(level.size());
+
+            for (ADTNode<S, I, O> node : level) {
+                final boolean hasResets = !ADTUtil.collectResetNodes(node).isEmpty();
+                tasks.add(submit(createTask(snapshot, inputs, adt, node, hasResets)));
+                expandable.add(hasResets);
+            }
+
+            final List<ADTNode<S, I, O>> nextLevel = new ArrayList<>();
+
+            try {
+                for (int i = 0; i < tasks.size(); i++) {
+                    final ForkJoinTask<@Nullable ReplacementResult<S, I, O>> task = tasks.get(i);
+
+                    if (!await(task, deadline)) {
+                        // budget expired, collect the replacements of the remaining completed computations
+                        for (int j = i; j < tasks.size(); j++) {
+                            final ForkJoinTask<@Nullable ReplacementResult<S, I, O>> t = tasks.get(j);
+                            if (isCompletedNormally(t)) {
+                                final ReplacementResult<S, I, O> replacement = t.join();
+                                if (replacement != null) {
+                                    result.add(replacement);
+                                }
+                            }
+                        }
+                        return result;
+                    }
+
+                    final ReplacementResult<S, I, O> replacement = task.join();
+
+                    if (replacement != null) {
+                        result.add(replacement);
+                    } else if (expandable.get(i)) {
+                        nextLevel.addAll(ADTUtil.collectDirectSubADSs(level.get(i)));
+                    }
+                }
+            } finally {
+                cancelAll(tasks);
+            }
+
+            level = nextLevel;
+        }
+
+        return result;
+    }
+
+    private <S, I, O> NodeTask<S, I, O> createTask(Snapshot<S, I, O> snapshot,
+                                                    Alphabet<I> inputs,
+                                                    ADT<S, I, O> adt,
+                                                    ADTNode<S, I, O> node,
+                                                    boolean hasResets) {
+        final Set<S> targetStates = ADTUtil.collectHypothesisStates(node);
+        final ADTNode<S, I, O> parentReset;
+        final Word<I> incomingTraceInput;
+
+        // try to extend the parent ADS (not possible for the root)
+        if (adt.getRoot().equals(node)) {
+            parentReset = null;
+            incomingTraceInput = null;
+        } else {
+            parentReset = node.getParent();
+            assert ADTUtil.isResetNode(parentReset) : "should not happen";
+            incomingTraceInput = ADTUtil.buildTraceForNode(parentReset).getFirst();
+        }
+
+        return new NodeTask<>(snapshot,
+                               inputs,
+                               adsCalculator,
+                               node,
+                               snapshot.toSnapshot(targetStates),
+                               parentReset,
+                               incomingTraceInput,
+                               hasResets);
+    }
+
+    /**
+     * The evaluation of a single node of the ADT. The task does not access the ADT or the original hypothesis, and can
+     * therefore be run concurrently to the learner.
+     */
+    private static final class NodeTask<S, I, O> implements Callable<@Nullable ReplacementResult<S, I, O>> {
+
+        private final Snapshot<S, I, O> snapshot;
+        private final Alphabet<I> inputs;
+        private final ADSCalculator adsCalculator;
+        private final ADTNode<S, I, O> node;
+        private final Set<Integer> targetStates;
+        private final @Nullable ADTNode<S, I, O> parentReset;
+        private final @Nullable Word<I> incomingTraceInput;
+        private final boolean hasResets;
+
+        NodeTask(Snapshot<S, I, O> snapshot,
+                  Alphabet<I> inputs,
+                  ADSCalculator adsCalculator,
+                  ADTNode<S, I, O> node,
+                  Set<Integer> targetStates,
+                  @Nullable ADTNode<S, I, O> parentReset,
+                  @Nullable Word<I> incomingTraceInput,
+                  boolean hasResets) {
+            this.snapshot = snapshot;
+            this.inputs = inputs;
+            this.adsCalculator = adsCalculator;
+            this.node = node;
+            this.targetStates = targetStates;
+            this.parentReset = parentReset;
+            this.incomingTraceInput = incomingTraceInput;
+            this.hasResets = hasResets;
+        }
+
+        @Override
+        public @Nullable ReplacementResult<S, I, O> call() {
+            if (parentReset != null && incomingTraceInput != null) {
+                final ReplacementResult<S, I, O> extension = computeParentExtension(parentReset, incomingTraceInput);
+
+                if (extension != null) {
+                    return extension;
+                }
+            }
+
+            // if we cannot save any resets, don't bother with replacement
+            if (!hasResets) {
+                return null;
+            }
+
+            // compute ADS for complete subtree
+            final MealyMachine<Integer, I, ?, O> automaton = snapshot.getAutomaton();
+            final Optional<ADTNode<Integer, I, O>> potentialADS =
+                    adsCalculator.compute(automaton, inputs, targetStates);
+
+            return potentialADS.map(ads -> new ReplacementResult<>(node, snapshot.fromSnapshot(ads))).orElse(null);
+        }
+
+        /**
+         * Snapshot-based version of
+         * {@link SingleReplacer#computeParentExtension(MealyMachine, Alphabet, ADTNode, Set, ADSCalculator)}.
+         */
+        private @Nullable ReplacementResult<S, I, O> computeParentExtension(ADTNode<S, I, O> parentReset,
+                                                                           Word<I> incomingTraceInput) {
+            final MealyMachine<Integer, I, ?, O> automaton = snapshot.getAutomaton();
+
+            Map<Integer, Integer> currentToInitialMapping = new LinkedHashMap<>();
+            for (Integer s : targetStates) {
+                currentToInitialMapping.put(s, s);
+            }
+
+            for (I i : incomingTraceInput) {
+                final Map<Integer, Integer> nextMapping = new LinkedHashMap<>();
+
+                for (Map.Entry<Integer, Integer> entry : currentToInitialMapping.entrySet()) {
+                    final Integer successor = automaton.getSuccessor(entry.getKey(), i);
+
+                    // converging states
+                    if (nextMapping.containsKey(successor)) {
+                        return null;
+                    }
+
+                    nextMapping.put(successor, entry.getValue());
+                }
+
+                currentToInitialMapping = nextMapping;
+            }
+
+            final Optional<ADTNode<Integer, I, O>> potentialExtension =
+                    adsCalculator.compute(automaton, inputs, currentToInitialMapping.keySet());
+
+            if (potentialExtension.isPresent()) {
+                final ADTNode<Integer, I, O> extension = potentialExtension.get();
+
+                for (ADTNode<Integer, I, O> finalNode : ADTUtil.collectLeaves(extension)) {
+                    finalNode.setState(currentToInitialMapping.get(finalNode.getState()));
+                }
+
+                return new ReplacementResult<>(parentReset, snapshot.fromSnapshot(extension));
+            }
+
+            return null;
+        }
+    }
+}
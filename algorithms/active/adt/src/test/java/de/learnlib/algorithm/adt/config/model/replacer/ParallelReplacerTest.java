@@ -0,0 +1,214 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.algorithm.adt.config.model.replacer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.learnlib.algorithm.adt.adt.ADT;
+import de.learnlib.algorithm.adt.adt.ADTNode;
+import de.learnlib.algorithm.adt.api.SubtreeReplacer;
+import de.learnlib.algorithm.adt.automaton.ADTHypothesis;
+import de.learnlib.algorithm.adt.automaton.ADTState;
+import de.learnlib.algorithm.adt.config.SubtreeReplacers;
+import de.learnlib.algorithm.adt.config.model.ADSCalculator;
+import de.learnlib.algorithm.adt.config.model.calculator.BestEffortCalculator;
+import de.learnlib.algorithm.adt.learner.ADTLearner;
+import de.learnlib.algorithm.adt.learner.ADTLearnerBuilder;
+import de.learnlib.algorithm.adt.model.ReplacementResult;
+import de.learnlib.algorithm.adt.util.ADTUtil;
+import de.learnlib.driver.simulator.MealySimulatorSUL;
+import de.learnlib.oracle.equivalence.MealySimulatorEQOracle;
+import de.learnlib.oracle.membership.SULAdaptiveOracle;
+import de.learnlib.query.DefaultQuery;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the {@link ParallelExhaustiveReplacer} and the {@link ParallelLevelOrderReplacer}.
+ */
+public class ParallelReplacerTest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(1, 3);
+    private static final Alphabet<Character> OUTPUTS = Alphabets.characters('a', 'c');
+    private static final int SIZE = 30;
+    private static final int ROUNDS = 10;
+    private static final long BUDGET_MS = 50;
+
+    private ForkJoinPool pool;
+
+    @BeforeClass
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testExhaustive() {
+        final SubtreeReplacer sequential = new ExhaustiveReplacer(new BestEffortCalculator());
+        final SubtreeReplacer parallel =
+                new ParallelExhaustiveReplacer(new BestEffortCalculator(), pool, 1, TimeUnit.MINUTES);
+
+        Assert.assertTrue(compareReplacers(sequential, parallel) > 0);
+    }
+
+    @Test
+    public void testLevelOrder() {
+        final SubtreeReplacer sequential = new LevelOrderReplacer(new BestEffortCalculator());
+        final SubtreeReplacer parallel =
+                new ParallelLevelOrderReplacer(new BestEffortCalculator(), pool, 1, TimeUnit.MINUTES);
+
+        Assert.assertTrue(compareReplacers(sequential, parallel) > 0);
+    }
+
+    @Test
+    public void testExhaustiveBudgetExpiry() {
+        final SpinningCalculator calculator = new SpinningCalculator();
+        checkBudgetExpiry(SubtreeReplacers.parallelExhaustive(calculator, pool, BUDGET_MS, TimeUnit.MILLISECONDS),
+                          calculator);
+    }
+
+    @Test
+    public void testLevelOrderBudgetExpiry() {
+        final SpinningCalculator calculator = new SpinningCalculator();
+        checkBudgetExpiry(SubtreeReplacers.parallelLeveled(calculator, pool, BUDGET_MS, TimeUnit.MILLISECONDS),
+                          calculator);
+    }
+
+    /**
+     * Compares the replacements of both replacers on the ADTs of several learned hypotheses and returns the number of
+     * rounds with (non-empty) replacements.
+     */
+    private static int compareReplacers(SubtreeReplacer sequential, SubtreeReplacer parallel) {
+        int numReplaced = 0;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            final ADTLearner<Integer, Character> learner = learn(i);
+            final ADTHypothesis<Integer, Character> hyp = (ADTHypothesis<Integer, Character>) learner.getHypothesisModel();
+            final ADT<ADTState<Integer, Character>, Integer, Character> adt = learner.getADT();
+
+            final Set<ReplacementResult<ADTState<Integer, Character>, Integer, Character>> expected =
+                    sequential.computeReplacements(hyp, ALPHABET, adt);
+            final Set<ReplacementResult<ADTState<Integer, Character>, Integer, Character>> actual =
+                    parallel.computeReplacements(hyp, ALPHABET, adt);
+
+            Assert.assertEquals(index(actual).keySet(), index(expected).keySet());
+
+            for (ReplacementResult<ADTState<Integer, Character>, Integer, Character> e : expected) {
+                final ReplacementResult<ADTState<Integer, Character>, Integer, Character> a =
+                        index(actual).get(e.getNodeToReplace());
+                Assert.assertEquals(a.getCutoutNodes(), e.getCutoutNodes());
+                Assert.assertEquals(ADTUtil.collectHypothesisStates(a.getReplacement()),
+                                    ADTUtil.collectHypothesisStates(e.getReplacement()));
+                Assert.assertEquals(ADTUtil.computeEffectiveResets(a.getReplacement()),
+                                    ADTUtil.computeEffectiveResets(e.getReplacement()));
+            }
+
+            if (!expected.isEmpty()) {
+                numReplaced++;
+            }
+        }
+
+        return numReplaced;
+    }
+
+    private void checkBudgetExpiry(SubtreeReplacer replacer, SpinningCalculator calculator) {
+        final ADTLearner<Integer, Character> learner = learn(0);
+        final ADTHypothesis<Integer, Character> hyp = (ADTHypothesis<Integer, Character>) learner.getHypothesisModel();
+
+        // none of the (non-terminating) computations completes within the budget
+        Assert.assertTrue(replacer.computeReplacements(hyp, ALPHABET, learner.getADT()).isEmpty());
+        Assert.assertTrue(calculator.started.get() > 0);
+
+        // the running computations are aborted and do not occupy the pool beyond the replacement round
+        Assert.assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+        Assert.assertEquals(calculator.running.get(), 0);
+    }
+
+    private static ADTLearner<Integer, Character> learn(long seed) {
+        final CompactMealy<Integer, Character> target =
+                RandomAutomata.randomMealy(new Random(seed), SIZE, ALPHABET, OUTPUTS);
+
+        // never replace subtrees during learning, so that the final ADT contains resets
+        final ADTLearner<Integer, Character> learner =
+                new ADTLearnerBuilder<Integer, Character>().withAlphabet(ALPHABET)
+                                                           .withOracle(new SULAdaptiveOracle<>(new MealySimulatorSUL<>(target)))
+                                                           .withSubtreeReplacer(SubtreeReplacers.NEVER_REPLACE)
+                                                           .create();
+        final MealySimulatorEQOracle<Integer, Character> eqOracle = new MealySimulatorEQOracle<>(target);
+
+        learner.startLearning();
+        DefaultQuery<Integer, Word<Character>> ce;
+        while ((ce = eqOracle.findCounterExample(learner.getHypothesisModel(), ALPHABET)) != null) {
+            learner.refineHypothesis(ce);
+        }
+
+        return learner;
+    }
+
+    private static <S, I, O> Map<ADTNode<S, I, O>, ReplacementResult<S, I, O>> index(Set<ReplacementResult<S, I, O>> results) {
+        final Map<ADTNode<S, I, O>, ReplacementResult<S, I, O>> result = new HashMap<>();
+        for (ReplacementResult<S, I, O> r : results) {
+            result.put(r.getNodeToReplace(), r);
+        }
+        return result;
+    }
+
+    /**
+     * A calculator whose computations never terminate on their own but continuously access the given hypothesis.
+     */
+    private static final class SpinningCalculator implements ADSCalculator {
+
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+
+        @Override
+        public <S, I, O> Optional<ADTNode<S, I, O>> compute(MealyMachine<S, I, ?, O> hypothesis,
+                                                            Alphabet<I> alphabet,
+                                                            Set<S> targets) {
+            started.incrementAndGet();
+            running.incrementAndGet();
+
+            try {
+                S state = targets.iterator().next();
+                while (state != null) {
+                    state = hypothesis.getSuccessor(state, alphabet.getSymbol(0));
+                }
+                return Optional.empty();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
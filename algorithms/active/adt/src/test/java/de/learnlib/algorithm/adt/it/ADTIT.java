@@ -17,11 +17,14 @@ package de.learnlib.algorithm.adt.it;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import de.learnlib.algorithm.adt.api.ADTExtender;
 import de.learnlib.algorithm.adt.api.LeafSplitter;
@@ -29,6 +32,8 @@ import de.learnlib.algorithm.adt.api.SubtreeReplacer;
 import de.learnlib.algorithm.adt.config.ADTExtenders;
 import de.learnlib.algorithm.adt.config.LeafSplitters;
 import de.learnlib.algorithm.adt.config.SubtreeReplacers;
+import de.learnlib.algorithm.adt.config.model.calculator.BestEffortCalculator;
+import de.learnlib.algorithm.adt.config.model.calculator.MinLengthCalculator;
 import de.learnlib.algorithm.adt.learner.ADTLearner;
 import de.learnlib.algorithm.adt.learner.ADTLearnerBuilder;
 import de.learnlib.counterexample.LocalSuffixFinder;
@@ -67,6 +72,20 @@ public class ADTIT extends AbstractMealyLearnerIT {
                                                                                  SubtreeReplacers.LEVELED_MIN_LENGTH,
                                                                                  SubtreeReplacers.LEVELED_MIN_SIZE,
                                                                                  SubtreeReplacers.SINGLE_BEST_EFFORT);
+    private static final List<SubtreeReplacer> PARALLEL_SUBTREE_REPLACERS =
+            Arrays.asList(SubtreeReplacers.parallelExhaustive(new BestEffortCalculator(),
+                                                              ForkJoinPool.commonPool(),
+                                                              1,
+                                                              TimeUnit.MINUTES),
+                          SubtreeReplacers.parallelLeveled(new BestEffortCalculator(),
+                                                           ForkJoinPool.commonPool(),
+                                                           1,
+                                                           TimeUnit.MINUTES),
+                          // an exhausted budget must not affect the correctness of the learner
+                          SubtreeReplacers.parallelLeveled(new MinLengthCalculator(),
+                                                           ForkJoinPool.commonPool(),
+                                                           0,
+                                                           TimeUnit.MILLISECONDS));
 
     @Override
     protected <I, O> void addLearnerVariants(Alphabet<I> alphabet,
@@ -79,6 +98,10 @@ public class ADTIT extends AbstractMealyLearnerIT {
         builder.setOracle(new MQ2AQWrapper<>(mqOracle));
 
         final Random useCacheGenerator = new Random(42);
+        final List<SubtreeReplacer> subtreeReplacers =
+                new ArrayList<>(SUBTREE_REPLACERS.size() + PARALLEL_SUBTREE_REPLACERS.size());
+        subtreeReplacers.addAll(SUBTREE_REPLACERS);
+        subtreeReplacers.addAll(PARALLEL_SUBTREE_REPLACERS);
 
         for (int i = 0; i < LEAF_SPLITTERS.size(); i++) {
             final LeafSplitter leafSplitter = LEAF_SPLITTERS.get(i);
@@ -88,8 +111,8 @@ public class ADTIT extends AbstractMealyLearnerIT {
                 final ADTExtender adtExtender = ADT_EXTENDERS.get(j);
                 builder.setAdtExtender(adtExtender);
 
-                for (int k = 0; k < SUBTREE_REPLACERS.size(); k++) {
-                    final SubtreeReplacer subtreeReplacer = SUBTREE_REPLACERS.get(k);
+                for (int k = 0; k < subtreeReplacers.size(); k++) {
+                    final SubtreeReplacer subtreeReplacer = subtreeReplacers.get(k);
                     builder.setSubtreeReplacer(subtreeReplacer);
 
                     for (LocalSuffixFinder<@Nullable Object, @Nullable Object> suffixFinder : LocalSuffixFinders.values()) {
@@ -65,6 +65,7 @@ public class MealyDHC<I, O> implements MealyLearner<I, O>,
     private Set<Word<I>> splitters = new LinkedHashSet<>();
     private CompactMealy<I, O> hypothesis;
     private MutableMapping<Integer, QueueElement<I, O>> accessSequences;
+    private Map<Word<I>, Signature<O>> signatureCache = Collections.emptyMap();
     private final GlobalSuffixFinder<? super I, ? super Word<O>> suffixFinder;
 
     /**
@@ -140,8 +141,14 @@ public class MealyDHC<I, O> implements MealyLearner<I, O>,
 
     @Override
     public void startLearning() {
+        // fix the order of splitters for this round, so that signatures can be extended by newly added splitters
+        final List<Word<I>> splitterList = new ArrayList<>(splitters);
+
         // initialize structure to store state output signatures
-        Map<List<Word<O>>, Integer> signatures = new HashMap<>();
+        Map<Signature<O>, Integer> signatures = new HashMap<>();
+
+        // signatures of this round, which can be re-used (and extended) in the next round
+        Map<Word<I>, Signature<O>> nextSignatureCache = new HashMap<>(HashUtil.capacity(signatureCache.size()));
 
         // set up new hypothesis machine
         hypothesis = new CompactMealy<>(alphabet);
@@ -163,21 +170,33 @@ public class MealyDHC<I, O> implements MealyLearner<I, O>,
             // determine access sequence for state
             Word<I> access = assembleAccessSequence(elem);
 
-            // assemble queries
-            ArrayList<DefaultQuery<I, Word<O>>> queries = new ArrayList<>(splitters.size());
-            for (Word<I> suffix : splitters) {
-                queries.add(new DefaultQuery<>(access, suffix));
+            // retrieve the (possibly partial) output signature of previous rounds
+            Signature<O> sig = signatureCache.get(access);
+            if (sig == null || sig.size() > splitterList.size()) {
+                sig = new Signature<>(splitterList.size());
             }
 
-            // retrieve answers
-            oracle.processQueries(queries);
+            // only query the splitters that have been added since the signature was last computed
+            if (sig.size() < splitterList.size()) {
+                List<Word<I>> newSplitters = splitterList.subList(sig.size(), splitterList.size());
+
+                // assemble queries
+                ArrayList<DefaultQuery<I, Word<O>>> queries = new ArrayList<>(newSplitters.size());
+                for (Word<I> suffix : newSplitters) {
+                    queries.add(new DefaultQuery<>(access, suffix));
+                }
+
+                // retrieve answers
+                oracle.processQueries(queries);
 
-            // assemble output signature
-            List<Word<O>> sig = new ArrayList<>(splitters.size());
-            for (DefaultQuery<I, Word<O>> query : queries) {
-                sig.add(query.getOutput());
+                // extend output signature
+                for (DefaultQuery<I, Word<O>> query : queries) {
+                    sig.append(query.getOutput());
+                }
             }
 
+            nextSignatureCache.put(access, sig);
+
             Integer sibling = signatures.get(sig);
 
             if (sibling != null) {
@@ -197,6 +216,9 @@ public class MealyDHC<I, O> implements MealyLearner<I, O>,
                 scheduleSuccessors(elem, state, queue, sig);
             }
         }
+
+        // only keep the signatures of access sequences that are still relevant
+        signatureCache = nextSignatureCache;
     }
 
     private Word<I> assembleAccessSequence(QueueElement<I, O> elem) {
@@ -217,7 +239,7 @@ public class MealyDHC<I, O> implements MealyLearner<I, O>,
     private void scheduleSuccessors(QueueElement<I, O> elem,
                                     Integer state,
                                     Queue<QueueElement<I, O>> queue,
-                                    List<Word<O>> sig) {
+                                    Signature<O> sig) {
         for (int i = 0; i < alphabet.size(); ++i) {
             // retrieve I/O for transition
             I input = alphabet.getSymbol(i);
@@ -272,6 +294,9 @@ public class MealyDHC<I, O> implements MealyLearner<I, O>,
 
             this.splitters = newSplitters;
 
+            // the order of splitters has changed, so cached signatures can no longer be extended
+            this.signatureCache = Collections.emptyMap();
+
             this.startLearning();
         }
     }
@@ -286,6 +311,7 @@ public class MealyDHC<I, O> implements MealyLearner<I, O>,
         this.splitters = state.getSplitters();
         this.accessSequences = new MapMapping<>(state.getAccessSequences());
         this.hypothesis = state.getHypothesis();
+        this.signatureCache = Collections.emptyMap();
     }
 
     @Override
@@ -310,6 +336,58 @@ public class MealyDHC<I, O> implements MealyLearner<I, O>,
         }
     }
 
+    /**
+     * The output signature of an access sequence, i.e., the outputs of the access sequence for each splitter (in the
+     * order of the splitters). Signatures can be extended by outputs of newly added splitters and maintain their hash
+     * code incrementally so that extended signatures do not need to be re-hashed in their entirety.
+     *
+     * @param <O>
+     *         output symbol type
+     */
+    static final class Signature<O> {
+
+        // use the same hash function as List#hashCode()
+        private static final int HASH_MULTIPLIER = 31;
+
+        private final List<Word<O>> outputs;
+        private int hash = 1;
+
+        Signature(int expectedSize) {
+            this.outputs = new ArrayList<>(expectedSize);
+        }
+
+        void append(Word<O> output) {
+            outputs.add(output);
+            hash = HASH_MULTIPLIER * hash + output.hashCode();
+        }
+
+        Word<O> get(int index) {
+            return outputs.get(index);
+        }
+
+        int size() {
+            return outputs.size();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Signature)) {
+                return false;
+            }
+
+            final Signature<?> that = (Signature<?>) o;
+            return hash == that.hash && outputs.equals(that.outputs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     static final class QueueElement<I, O> {
 
         private final @Nullable Integer parentState;
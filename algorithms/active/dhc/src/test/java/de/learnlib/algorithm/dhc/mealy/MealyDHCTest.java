@@ -16,14 +16,19 @@
 package de.learnlib.algorithm.dhc.mealy;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
+import de.learnlib.counterexample.GlobalSuffixFinders;
 import de.learnlib.oracle.MembershipOracle.MealyMembershipOracle;
 import de.learnlib.oracle.equivalence.MealySimulatorEQOracle;
 import de.learnlib.oracle.membership.MealySimulatorOracle;
 import de.learnlib.query.DefaultQuery;
+import de.learnlib.query.Query;
 import de.learnlib.testsupport.example.mealy.ExampleCoffeeMachine;
 import de.learnlib.testsupport.example.mealy.ExampleCoffeeMachine.Input;
 import de.learnlib.testsupport.example.mealy.ExampleGrid;
@@ -32,6 +37,7 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.common.util.Pair;
 import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.word.Word;
 import org.testng.Assert;
@@ -114,6 +120,32 @@ public class MealyDHCTest {
 
     }
 
+    @Test
+    public void testMealyDHCIncrementalSignatures() {
+        ExampleStack stackExample = ExampleStack.createExample();
+        MealyMachine<?, ExampleStack.Input, ?, ExampleStack.Output> fm = stackExample.getReferenceAutomaton();
+        Alphabet<ExampleStack.Input> alphabet = stackExample.getAlphabet();
+
+        MealySimulatorOracle<ExampleStack.Input, ExampleStack.Output> simoracle = new MealySimulatorOracle<>(fm);
+        UniqueQueryOracle<ExampleStack.Input, ExampleStack.Output> uniqueOracle = new UniqueQueryOracle<>(simoracle);
+
+        // use a suffix finder that does not pose any queries itself
+        MealyDHC<ExampleStack.Input, ExampleStack.Output> dhc = new MealyDHC<>(alphabet,
+                                                                               uniqueOracle,
+                                                                               GlobalSuffixFinders.MALER_PNUELI,
+                                                                               Collections.emptyList());
+        MealySimulatorEQOracle<ExampleStack.Input, ExampleStack.Output> eqoracle = new MealySimulatorEQOracle<>(fm);
+
+        dhc.startLearning();
+
+        DefaultQuery<ExampleStack.Input, Word<ExampleStack.Output>> cexQuery;
+        while ((cexQuery = eqoracle.findCounterExample(dhc.getHypothesisModel(), alphabet)) != null) {
+            Assert.assertTrue(dhc.refineHypothesis(cexQuery));
+        }
+
+        Assert.assertEquals(dhc.getHypothesisModel().size(), fm.size());
+    }
+
     @Test
     public void testMealyDHCCoffee() {
 
@@ -187,4 +219,26 @@ public class MealyDHCTest {
                             "Mismatch in size of learned hypothesis and target model");
 
     }
+
+    /**
+     * An oracle that asserts that each (prefix, suffix) combination is only queried once.
+     */
+    private static final class UniqueQueryOracle<I, O> implements MealyMembershipOracle<I, O> {
+
+        private final MealyMembershipOracle<I, O> delegate;
+        private final Set<Pair<Word<I>, Word<I>>> queries;
+
+        UniqueQueryOracle(MealyMembershipOracle<I, O> delegate) {
+            this.delegate = delegate;
+            this.queries = new HashSet<>();
+        }
+
+        @Override
+        public void processQueries(Collection<? extends Query<I, Word<O>>> qs) {
+            for (Query<I, Word<O>> q : qs) {
+                Assert.assertTrue(queries.add(Pair.of(q.getPrefix(), q.getSuffix())), "Duplicate query " + q);
+            }
+            delegate.processQueries(qs);
+        }
+    }
 }
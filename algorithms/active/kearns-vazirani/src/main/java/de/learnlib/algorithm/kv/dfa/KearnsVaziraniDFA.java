@@ -17,6 +17,7 @@ package de.learnlib.algorithm.kv.dfa;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
@@ -414,18 +415,7 @@ public class KearnsVaziraniDFA<I>
         @Override
         protected Boolean computeEffect(int index) {
             Word<I> prefix = ceWord.prefix(index);
-            StateInfo<I, Boolean> info = states[index];
-
-            // Save the expected outcomes on the path from the leaf representing the state
-            // to the root on a stack
-            AbstractWordBasedDTNode<I, Boolean, StateInfo<I, Boolean>> node = info.dtNode;
-            Deque<Boolean> expect = new ArrayDeque<>();
-            while (!node.isRoot()) {
-                Boolean parentOutcome = node.getParentOutcome();
-                assert parentOutcome != null;
-                expect.push(parentOutcome);
-                node = node.getParent();
-            }
+            Deque<Boolean> expect = computeExpectedOutcomes(index);
 
             AbstractWordBasedDTNode<I, Boolean, StateInfo<I, Boolean>> currNode = discriminationTree.getRoot();
 
@@ -443,6 +433,73 @@ public class KearnsVaziraniDFA<I>
             return true;
         }
 
+        @Override
+        protected List<Boolean> computeEffects(int[] indices) {
+            // sift all prefixes simultaneously through the discrimination tree, posing the queries of each level as a
+            // single batch
+            final int n = indices.length;
+            final List<Deque<Boolean>> expects = new ArrayList<>(n);
+            final List<AbstractWordBasedDTNode<I, Boolean, StateInfo<I, Boolean>>> currNodes = new ArrayList<>(n);
+            final Boolean[] results = new Boolean[n];
+            List<Integer> active = new ArrayList<>(n);
+
+            for (int i = 0; i < n; i++) {
+                Deque<Boolean> expect = computeExpectedOutcomes(indices[i]);
+                expects.add(expect);
+                currNodes.add(discriminationTree.getRoot());
+                if (expect.isEmpty()) {
+                    results[i] = true;
+                } else {
+                    active.add(i);
+                }
+            }
+
+            while (!active.isEmpty()) {
+                final List<DefaultQuery<I, Boolean>> queries = new ArrayList<>(active.size());
+                for (int i : active) {
+                    queries.add(new DefaultQuery<>(ceWord.prefix(indices[i]), currNodes.get(i).getDiscriminator()));
+                }
+
+                oracle.processQueries(queries);
+
+                final List<Integer> nextActive = new ArrayList<>(active.size());
+                for (int j = 0; j < queries.size(); j++) {
+                    final int i = active.get(j);
+                    final int idx = indices[i];
+                    final AbstractWordBasedDTNode<I, Boolean, StateInfo<I, Boolean>> currNode = currNodes.get(i);
+                    final Deque<Boolean> expect = expects.get(i);
+                    final boolean out = queries.get(j).getOutput();
+                    if (out != expect.pop()) {
+                        lcas[idx] = new LCAInfo<>(currNode, !out, out);
+                        results[i] = false;
+                    } else if (expect.isEmpty()) {
+                        results[i] = true;
+                    } else {
+                        currNodes.set(i, currNode.child(out));
+                        nextActive.add(i);
+                    }
+                }
+                active = nextActive;
+            }
+
+            return Arrays.asList(results);
+        }
+
+        /**
+         * Save the expected outcomes on the path from the leaf representing the state to the root on a stack.
+         */
+        private Deque<Boolean> computeExpectedOutcomes(int index) {
+            AbstractWordBasedDTNode<I, Boolean, StateInfo<I, Boolean>> node = states[index].dtNode;
+            Deque<Boolean> expect = new ArrayDeque<>();
+            while (!node.isRoot()) {
+                Boolean parentOutcome = node.getParentOutcome();
+                assert parentOutcome != null;
+                expect.push(parentOutcome);
+                node = node.getParent();
+            }
+            return expect;
+        }
+
         @Override
         public boolean checkEffects(Boolean eff1, Boolean eff2) {
             return !eff1 || eff2;
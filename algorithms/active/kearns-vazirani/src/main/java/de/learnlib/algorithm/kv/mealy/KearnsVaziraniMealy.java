@@ -17,6 +17,7 @@ package de.learnlib.algorithm.kv.mealy;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
@@ -431,18 +432,7 @@ public class KearnsVaziraniMealy<I, O>
         @Override
         protected Boolean computeEffect(int index) {
             Word<I> prefix = ceWord.prefix(index);
-            StateInfo<I, Word<O>> info = states[index];
-
-            // Save the expected outcomes on the path from the leaf representing the state
-            // to the root on a stack
-            AbstractWordBasedDTNode<I, Word<O>, StateInfo<I, Word<O>>> node = info.dtNode;
-            Deque<Word<O>> expect = new ArrayDeque<>();
-            while (!node.isRoot()) {
-                Word<O> parentOutcome = node.getParentOutcome();
-                assert parentOutcome != null;
-                expect.push(parentOutcome);
-                node = node.getParent();
-            }
+            Deque<Word<O>> expect = computeExpectedOutcomes(index);
 
             AbstractWordBasedDTNode<I, Word<O>, StateInfo<I, Word<O>>> currNode = discriminationTree.getRoot();
 
@@ -461,6 +451,74 @@ public class KearnsVaziraniMealy<I, O>
             return true;
         }
 
+        @Override
+        protected List<Boolean> computeEffects(int[] indices) {
+            // sift all prefixes simultaneously through the discrimination tree, posing the queries of each level as a
+            // single batch
+            final int n = indices.length;
+            final List<Deque<Word<O>>> expects = new ArrayList<>(n);
+            final List<AbstractWordBasedDTNode<I, Word<O>, StateInfo<I, Word<O>>>> currNodes = new ArrayList<>(n);
+            final Boolean[] results = new Boolean[n];
+            List<Integer> active = new ArrayList<>(n);
+
+            for (int i = 0; i < n; i++) {
+                Deque<Word<O>> expect = computeExpectedOutcomes(indices[i]);
+                expects.add(expect);
+                currNodes.add(discriminationTree.getRoot());
+                if (expect.isEmpty()) {
+                    results[i] = true;
+                } else {
+                    active.add(i);
+                }
+            }
+
+            while (!active.isEmpty()) {
+                final List<DefaultQuery<I, Word<O>>> queries = new ArrayList<>(active.size());
+                for (int i : active) {
+                    queries.add(new DefaultQuery<>(ceWord.prefix(indices[i]), currNodes.get(i).getDiscriminator()));
+                }
+
+                oracle.processQueries(queries);
+
+                final List<Integer> nextActive = new ArrayList<>(active.size());
+                for (int j = 0; j < queries.size(); j++) {
+                    final int i = active.get(j);
+                    final int idx = indices[i];
+                    final AbstractWordBasedDTNode<I, Word<O>, StateInfo<I, Word<O>>> currNode = currNodes.get(i);
+                    final Deque<Word<O>> expect = expects.get(i);
+                    final Word<O> out = queries.get(j).getOutput();
+                    final Word<O> e = expect.pop();
+                    if (!Objects.equals(out, e)) {
+                        lcas[idx] = new LCAInfo<>(currNode, e, out);
+                        results[i] = false;
+                    } else if (expect.isEmpty()) {
+                        results[i] = true;
+                    } else {
+                        currNodes.set(i, currNode.child(out));
+                        nextActive.add(i);
+                    }
+                }
+                active = nextActive;
+            }
+
+            return Arrays.asList(results);
+        }
+
+        /**
+         * Save the expected outcomes on the path from the leaf representing the state to the root on a stack.
+         */
+        private Deque<Word<O>> computeExpectedOutcomes(int index) {
+            AbstractWordBasedDTNode<I, Word<O>, StateInfo<I, Word<O>>> node = states[index].dtNode;
+            Deque<Word<O>> expect = new ArrayDeque<>();
+            while (!node.isRoot()) {
+                Word<O> parentOutcome = node.getParentOutcome();
+                assert parentOutcome != null;
+                expect.push(parentOutcome);
+                node = node.getParent();
+            }
+            return expect;
+        }
+
         @Override
         public boolean checkEffects(Boolean eff1, Boolean eff2) {
             return !eff1 || eff2;
@@ -25,6 +25,8 @@ import java.util.Random;
 import java.util.Set;
 
 import de.learnlib.algorithm.LearningAlgorithm.MealyLearner;
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.oracle.AdaptiveMembershipOracle;
 import de.learnlib.query.DefaultQuery;
 import de.learnlib.tooling.annotation.builder.GenerateBuilder;
@@ -338,8 +340,14 @@ public class LSharpMealy<I, O> implements MealyLearner<I, O> {
 
     @Override
     public boolean refineHypothesis(DefaultQuery<I, Word<O>> ceQuery) {
+        final Object event = Events.begin(EventKind.REFINEMENT);
         boolean result = processCex(ceQuery, constructHypothesis());
-        buildHypothesis();
+        final CompactMealy<I, O> hypothesis = buildHypothesis();
+
+        if (result) {
+            Events.commit(event, getClass().getSimpleName(), hypothesis.size(), ceQuery.getInput().length());
+        }
+
         return result;
     }
 
@@ -28,6 +28,8 @@ import de.learnlib.datastructure.observationtable.Inconsistency;
 import de.learnlib.datastructure.observationtable.OTLearner;
 import de.learnlib.datastructure.observationtable.ObservationTable;
 import de.learnlib.datastructure.observationtable.Row;
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.oracle.MembershipOracle;
 import de.learnlib.query.DefaultQuery;
 import de.learnlib.util.MQUtil;
@@ -85,9 +87,11 @@ public abstract class AbstractLStar<A, I, D>
         if (!MQUtil.isCounterexample(ceQuery, hypothesisOutput())) {
             return false;
         }
+        final Object event = Events.begin(EventKind.REFINEMENT);
         int oldDistinctRows = table.numberOfDistinctRows();
         doRefineHypothesis(ceQuery);
         assert table.numberOfDistinctRows() > oldDistinctRows;
+        Events.commit(event, getClass().getSimpleName(), table.numberOfDistinctRows(), ceQuery.getInput().length());
         return true;
     }
 
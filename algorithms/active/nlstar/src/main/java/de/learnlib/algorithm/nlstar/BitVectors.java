@@ -0,0 +1,154 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.algorithm.nlstar;
+
+/**
+ * Utility methods for word-level (i.e., 64 bits at a time) operations on bit vectors represented as {@code long[]}
+ * arrays. Bit {@code i} of a vector {@code v} is stored in {@code v[i >>> 6]} at position {@code i & 63}. Vectors of
+ * different lengths are treated as if they were padded with zeros.
+ */
+final class BitVectors {
+
+    static final long[] EMPTY = {};
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    private BitVectors() {
+        // prevent instantiation
+    }
+
+    static int wordIndex(int bitIndex) {
+        return bitIndex >>> ADDRESS_BITS_PER_WORD;
+    }
+
+    static int numWords(int numBits) {
+        return wordIndex(numBits + BITS_PER_WORD - 1);
+    }
+
+    static long[] ensureCapacity(long[] vector, int numBits) {
+        final int numWords = numWords(numBits);
+        if (vector.length >= numWords) {
+            return vector;
+        }
+        final long[] result = new long[numWords];
+        System.arraycopy(vector, 0, result, 0, vector.length);
+        return result;
+    }
+
+    static boolean get(long[] vector, int bitIndex) {
+        final int wordIdx = wordIndex(bitIndex);
+        return wordIdx < vector.length && (vector[wordIdx] & (1L << bitIndex)) != 0;
+    }
+
+    static void set(long[] vector, int bitIndex) {
+        vector[wordIndex(bitIndex)] |= 1L << bitIndex;
+    }
+
+    static boolean isEmpty(long[] vector) {
+        for (long w : vector) {
+            if (w != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the bits set in {@code sub} are a subset of the bits set in {@code sup}, only considering words
+     * starting at the given index.
+     *
+     * @param sub
+     *         the potential subset
+     * @param sup
+     *         the potential superset
+     * @param fromWord
+     *         the index of the first word to consider
+     *
+     * @return {@code true} if {@code sub} (restricted to the considered words) is a subset of {@code sup}, {@code
+     * false} otherwise
+     */
+    static boolean isSubset(long[] sub, long[] sup, int fromWord) {
+        final int common = Math.min(sub.length, sup.length);
+        for (int i = fromWord; i < common; i++) {
+            if ((sub[i] & ~sup[i]) != 0) {
+                return false;
+            }
+        }
+        for (int i = Math.max(fromWord, common); i < sub.length; i++) {
+            if (sub[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first bit that is set in {@code sub} but not in {@code sup}.
+     *
+     * @param sub
+     *         the potential subset
+     * @param sup
+     *         the potential superset
+     *
+     * @return the index of the first bit that is set in {@code sub} but not in {@code sup}, or {@code -1} if no such
+     * bit exists
+     */
+    static int firstNonSubsetBit(long[] sub, long[] sup) {
+        for (int i = 0; i < sub.length; i++) {
+            final long diff = i < sup.length ? sub[i] & ~sup[i] : sub[i];
+            if (diff != 0) {
+                return i * BITS_PER_WORD + Long.numberOfTrailingZeros(diff);
+            }
+        }
+        return -1;
+    }
+
+    static boolean equals(long[] v1, long[] v2) {
+        final int common = Math.min(v1.length, v2.length);
+        for (int i = 0; i < common; i++) {
+            if (v1[i] != v2[i]) {
+                return false;
+            }
+        }
+        for (int i = common; i < v1.length; i++) {
+            if (v1[i] != 0) {
+                return false;
+            }
+        }
+        for (int i = common; i < v2.length; i++) {
+            if (v2[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the bit-wise or of {@code target} and {@code source} and stores the result in {@code target}.
+     *
+     * @param target
+     *         the target vector. Bits of the source vector beyond its length are ignored
+     * @param source
+     *         the source vector
+     */
+    static void orInto(long[] target, long[] source) {
+        final int common = Math.min(target.length, source.length);
+        for (int i = 0; i < common; i++) {
+            target[i] |= source[i];
+        }
+    }
+}
@@ -53,6 +53,9 @@ public class ObservationTable<I> {
 
     private final List<Row<I>> upperPrimes = new ArrayList<>();
 
+    // the number of suffixes at the time of the last coverage update
+    private int numCoveredSuffixes;
+
     public ObservationTable(Alphabet<I> alphabet, MembershipOracle<I, Boolean> oracle) {
         this.alphabet = alphabet;
         this.oracle = oracle;
@@ -172,23 +175,28 @@ public class ObservationTable<I> {
 
     private List<List<Row<I>>> updateMetadata() {
 
+        // Existing coverage can only be invalidated by new suffixes, so only re-check the affected words
+        int fromWord = numCoveredSuffixes == suffixes.size() ? -1 : BitVectors.wordIndex(numCoveredSuffixes);
+
         // Update coverage information
         for (Row<I> row : allRows) {
             if (row.isShortPrefixRow()) {
                 if (row.isNew()) {
-                    row.updateCovered(upperRows);
+                    row.updateCovered(upperRows, fromWord);
                 } else {
-                    row.updateCovered(newUppers);
+                    row.updateCovered(newUppers, fromWord);
                 }
             } else {
                 if (row.isNew()) {
-                    row.updateCovered(allRows);
+                    row.updateCovered(allRows, fromWord);
                 } else {
-                    row.updateCovered(newRows);
+                    row.updateCovered(newRows, fromWord);
                 }
             }
         }
 
+        numCoveredSuffixes = suffixes.size();
+
         newRows.clear();
         newUppers.clear();
 
@@ -204,11 +212,12 @@ public class ObservationTable<I> {
                 if (row.isShortPrefixRow()) {
                     upperPrimes.add(row);
                 } else {
-                    List<Row<I>> unclosedClass = primeContents.get(row.getContents());
+                    BitSet contents = row.getContents();
+                    List<Row<I>> unclosedClass = primeContents.get(contents);
                     if (unclosedClass == null) {
                         unclosedClass = new ArrayList<>();
                         allUnclosed.add(unclosedClass);
-                        primeContents.put(row.getContents(), unclosedClass);
+                        primeContents.put(contents, unclosedClass);
                     }
                     unclosedClass.add(row);
                 }
@@ -251,10 +260,10 @@ public class ObservationTable<I> {
                     Row<I> row1succ = row1.getSuccessorRow(i);
                     Row<I> row2succ = row2.getSuccessorRow(i);
 
-                    for (int j = 0; j < suffixes.size(); j++) {
-                        if (!row1succ.getContent(j) && row2succ.getContent(j)) {
-                            return new Inconsistency<>(row1, row2, i, j);
-                        }
+                    // row2succ must be covered by row1succ
+                    int j = BitVectors.firstNonSubsetBit(row2succ.getContentVector(), row1succ.getContentVector());
+                    if (j >= 0) {
+                        return new Inconsistency<>(row1, row2, i, j);
                     }
                 }
             }
@@ -32,7 +32,8 @@ import net.automatalib.word.Word;
 public class Row<I> {
 
     private final Word<I> prefix;
-    private final BitSet contents = new BitSet();
+    // the contents of this row as a bit vector, see BitVectors
+    private long[] contents = BitVectors.EMPTY;
     private int upperId = -1;
     private Row<I>[] successorRows;
     // If this is a row in the upper part of the table,
@@ -51,7 +52,7 @@ public class Row<I> {
     }
 
     public boolean getContent(int index) {
-        return contents.get(index);
+        return BitVectors.get(contents, index);
     }
 
     public boolean isNew() {
@@ -70,7 +71,17 @@ public class Row<I> {
         return prefix;
     }
 
+    /**
+     * Returns the contents of this row. Note that the returned {@link BitSet} is a copy and therefore not backed by
+     * this row.
+     *
+     * @return the contents of this row
+     */
     public BitSet getContents() {
+        return BitSet.valueOf(contents);
+    }
+
+    long[] getContentVector() {
         return contents;
     }
 
@@ -88,12 +99,27 @@ public class Row<I> {
         successorRows[succIdx] = row;
     }
 
-    void updateCovered(List<Row<I>> newRows) {
+    /**
+     * Updates the list of covered rows.
+     *
+     * @param newRows
+     *         the rows that need to be checked in addition to the previously covered rows
+     * @param fromWord
+     *         the index of the first word (see {@link BitVectors}) of the contents that may have changed since the last
+     *         update. As coverage only needs to be re-checked for changed contents, a negative value indicates that all
+     *         previously covered rows remain covered
+     */
+    void updateCovered(List<Row<I>> newRows, int fromWord) {
         List<Row<I>> oldCovered = coveredRows;
 
         this.coveredRows = new ArrayList<>();
         if (oldCovered != null) {
-            checkAndAddCovered(oldCovered);
+            for (Row<I> row : oldCovered) {
+                // upper rows may only cover upper rows
+                if ((!isShortPrefixRow() || row.isShortPrefixRow()) && (fromWord < 0 || covers(row, fromWord))) {
+                    coveredRows.add(row);
+                }
+            }
         }
         checkAndAddCovered(newRows);
     }
@@ -117,9 +143,11 @@ public class Row<I> {
     }
 
     boolean covers(Row<I> other) {
-        BitSet c = (BitSet) contents.clone();
-        c.or(other.contents);
-        return contents.equals(c);
+        return covers(other, 0);
+    }
+
+    private boolean covers(Row<I> other, int fromWord) {
+        return BitVectors.isSubset(other.contents, contents, fromWord);
     }
 
     public List<Row<I>> getCoveredRows() {
@@ -127,26 +155,32 @@ public class Row<I> {
     }
 
     boolean checkPrime() {
-        if (contents.isEmpty()) {
+        if (BitVectors.isEmpty(contents)) {
             prime = false;
         } else if (coveredRows.isEmpty()) {
             prime = true;
         } else {
-            BitSet aggContents = new BitSet();
+            // a row is not prime, if it is the join of the rows it (strictly) covers
+            long[] aggContents = new long[contents.length];
+            prime = true;
 
             for (Row<I> covered : coveredRows) {
-                if (covered.isShortPrefixRow() || !contents.equals(covered.contents)) {
-                    aggContents.or(covered.contents);
+                if (covered.isShortPrefixRow() || !BitVectors.equals(contents, covered.contents)) {
+                    BitVectors.orInto(aggContents, covered.contents);
+                    if (BitVectors.equals(contents, aggContents)) {
+                        prime = false;
+                        break;
+                    }
                 }
             }
-
-            prime = !contents.equals(aggContents);
         }
 
         return prime;
     }
 
     void fetchContents(Iterator<? extends DefaultQuery<I, Boolean>> queryIt, int offset, int num) {
+        contents = BitVectors.ensureCapacity(contents, offset + num);
+
         int idx = offset;
 
         for (int i = 0; i < num; i++) {
@@ -154,7 +188,7 @@ public class Row<I> {
 
             boolean value = queryIt.next().getOutput();
             if (value) {
-                contents.set(idx);
+                BitVectors.set(contents, idx);
             }
             idx++;
         }
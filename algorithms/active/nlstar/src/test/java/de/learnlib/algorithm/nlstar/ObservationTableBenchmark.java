@@ -0,0 +1,98 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.algorithm.nlstar;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.learnlib.testsupport.example.LearningExample.DFALearningExample;
+
+/**
+ * Compares the time required to compute the covering relation of the rows of the final {@link ObservationTable}s of
+ * the NL* test automata (see {@link ObservationTableTest#examples()}) with the bit-parallel implementation of
+ * {@link Row#covers(Row)} and a naive implementation that explicitly joins the contents of each pair of rows. This is a
+ * standalone benchmark (not executed as part of the unit tests) that can be run via its {@link #main(String[]) main}
+ * method, e.g., from within an IDE.
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public final class ObservationTableBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int ITERATIONS = 100;
+
+    private ObservationTableBenchmark() {
+        // prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        for (Object[] example : ObservationTableTest.examples()) {
+            run((DFALearningExample<?>) example[0]);
+        }
+    }
+
+    private static <I> void run(DFALearningExample<I> example) {
+        final ObservationTable<I> table = ObservationTableTest.learnTable(example);
+        final List<Row<I>> rows = ObservationTableTest.collectRows(table, example.getAlphabet().size());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            computeCoverage(rows, false);
+            computeCoverage(rows, true);
+        }
+
+        final long naiveStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            computeCoverage(rows, false);
+        }
+        final long naiveTime = System.nanoTime() - naiveStart;
+
+        final long bitParallelStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            computeCoverage(rows, true);
+        }
+        final long bitParallelTime = System.nanoTime() - bitParallelStart;
+
+        System.out.printf("%s (%d rows): naive coverage %d us, bit-parallel coverage %d us (per iteration)%n",
+                          example.getClass().getSimpleName(),
+                          rows.size(),
+                          naiveTime / ITERATIONS / 1000,
+                          bitParallelTime / ITERATIONS / 1000);
+    }
+
+    private static <I> int computeCoverage(List<Row<I>> rows, boolean bitParallel) {
+        int result = 0;
+
+        for (Row<I> row : rows) {
+            result += bitParallel ?
+                    computeCoveredBitParallel(row, rows).size() :
+                    ObservationTableTest.computeCoveredNaive(row, rows).size();
+        }
+
+        return result;
+    }
+
+    private static <I> Set<Row<I>> computeCoveredBitParallel(Row<I> row, List<Row<I>> rows) {
+        final Set<Row<I>> result = new HashSet<>();
+
+        for (Row<I> other : rows) {
+            if (ObservationTableTest.isCoverageCandidate(row, other) && row.covers(other)) {
+                result.add(other);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,154 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.algorithm.nlstar;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import de.learnlib.algorithm.LearningAlgorithm.DFALearner;
+import de.learnlib.oracle.MembershipOracle.DFAMembershipOracle;
+import de.learnlib.oracle.equivalence.SimulatorEQOracle;
+import de.learnlib.oracle.membership.DFASimulatorOracle;
+import de.learnlib.testsupport.example.LearningExample.DFALearningExample;
+import de.learnlib.testsupport.example.LearningExamples;
+import de.learnlib.testsupport.example.dfa.ExampleRandomDFA;
+import de.learnlib.util.Experiment;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.fsa.DFA;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the (bit-parallel) coverage and primeness information of the {@link ObservationTable} against a naive
+ * reference implementation on the tables of the NL* test automata.
+ */
+public class ObservationTableTest {
+
+    private static final int RANDOM_SIZE = 150;
+    private static final int RANDOM_INPUTS = 4;
+    private static final long RANDOM_SEED = 42L;
+
+    @DataProvider
+    public static Object[][] examples() {
+        final List<DFALearningExample<?>> examples = new ArrayList<>(LearningExamples.createDFAExamples());
+        examples.add(ExampleRandomDFA.createExample(new Random(RANDOM_SEED), RANDOM_INPUTS, RANDOM_SIZE));
+
+        final Object[][] result = new Object[examples.size()][];
+        for (int i = 0; i < examples.size(); i++) {
+            result[i] = new Object[] {examples.get(i)};
+        }
+        return result;
+    }
+
+    @Test(dataProvider = "examples")
+    public <I> void testCoverage(DFALearningExample<I> example) {
+        final ObservationTable<I> table = learnTable(example);
+        final List<Row<I>> rows = collectRows(table, example.getAlphabet().size());
+
+        for (Row<I> row : rows) {
+            final Set<Row<I>> expectedCovered = computeCoveredNaive(row, rows);
+            Assert.assertEquals(new HashSet<>(row.getCoveredRows()), expectedCovered);
+            Assert.assertEquals(row.isPrime(), checkPrimeNaive(row, expectedCovered));
+        }
+
+        Assert.assertNull(table.findInconsistency());
+    }
+
+    /**
+     * Learns the given example with NL* and returns the final observation table.
+     */
+    static <I> ObservationTable<I> learnTable(DFALearningExample<I> example) {
+        final Alphabet<I> alphabet = example.getAlphabet();
+        final DFA<?, I> target = example.getReferenceAutomaton();
+        final DFAMembershipOracle<I> mqOracle = new DFASimulatorOracle<>(target);
+
+        final NLStarLearner<I> learner = new NLStarLearner<>(alphabet, mqOracle);
+        final DFALearner<I> dfaLearner = learner.asDFALearner();
+        final Experiment<DFA<?, I>> experiment =
+                new Experiment<>(dfaLearner, new SimulatorEQOracle<>(target), alphabet);
+        experiment.run();
+
+        return learner.getObservationTable();
+    }
+
+    /**
+     * Returns all (upper and lower) rows of the given table.
+     */
+    static <I> List<Row<I>> collectRows(ObservationTable<I> table, int alphabetSize) {
+        final Set<Row<I>> rows = new LinkedHashSet<>(table.getUpperRows());
+
+        for (Row<I> upper : table.getUpperRows()) {
+            for (int i = 0; i < alphabetSize; i++) {
+                rows.add(upper.getSuccessorRow(i));
+            }
+        }
+
+        return new ArrayList<>(rows);
+    }
+
+    /**
+     * Computes the rows covered by the given row by explicitly joining the contents of each pair of rows.
+     */
+    static <I> Set<Row<I>> computeCoveredNaive(Row<I> row, List<Row<I>> rows) {
+        final BitSet contents = row.getContents();
+        final Set<Row<I>> result = new HashSet<>();
+
+        for (Row<I> other : rows) {
+            if (!isCoverageCandidate(row, other)) {
+                continue;
+            }
+
+            final BitSet join = (BitSet) contents.clone();
+            join.or(other.getContents());
+
+            if (join.equals(contents)) {
+                result.add(other);
+            }
+        }
+
+        return result;
+    }
+
+    static <I> boolean isCoverageCandidate(Row<I> row, Row<I> other) {
+        // upper rows only cover upper rows
+        return other != row && (!row.isShortPrefixRow() || other.isShortPrefixRow());
+    }
+
+    private static <I> boolean checkPrimeNaive(Row<I> row, Set<Row<I>> covered) {
+        final BitSet contents = row.getContents();
+
+        if (contents.isEmpty()) {
+            return false;
+        }
+
+        final BitSet aggContents = new BitSet();
+
+        for (Row<I> c : covered) {
+            final BitSet cContents = c.getContents();
+            if (c.isShortPrefixRow() || !contents.equals(cContents)) {
+                aggContents.or(cContents);
+            }
+        }
+
+        return !contents.equals(aggContents);
+    }
+}
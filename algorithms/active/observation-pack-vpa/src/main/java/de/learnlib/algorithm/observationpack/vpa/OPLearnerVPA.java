@@ -158,5 +158,22 @@ public class OPLearnerVPA<I> extends AbstractVPALearner<I> {
 
             return oracle.answerQuery(transformAccessSequence(state), suffSuff);
         }
+
+        @Override
+        protected List<Boolean> computeEffects(int[] indices) {
+            List<DefaultQuery<I, Boolean>> queries = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                State<HypLoc<I>> state = getDefinitiveSuccessor(baseState, suffix.prefix(index));
+                queries.add(new DefaultQuery<>(transformAccessSequence(state), suffix.subWord(index)));
+            }
+
+            oracle.processQueries(queries);
+
+            List<Boolean> result = new ArrayList<>(indices.length);
+            for (DefaultQuery<I, Boolean> q : queries) {
+                result.add(q.getOutput());
+            }
+            return result;
+        }
     }
 }
@@ -15,15 +15,16 @@
  */
 package de.learnlib.algorithm.procedural.sba;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import de.learnlib.AccessSequenceTransformer;
 import de.learnlib.acex.AbstractBaseCounterexample;
@@ -35,6 +36,7 @@ import de.learnlib.algorithm.LearningAlgorithm.DFALearner;
 import de.learnlib.algorithm.procedural.SymbolWrapper;
 import de.learnlib.algorithm.procedural.sba.manager.OptimizingATManager;
 import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.oracle.SingleQueryOracle.SingleQueryOracleDFA;
 import de.learnlib.query.DefaultQuery;
 import de.learnlib.util.MQUtil;
 import net.automatalib.alphabet.Alphabet;
@@ -145,10 +147,10 @@ public class SBALearner<I, L extends DFALearner<SymbolWrapper<I>> & SupportsGrow
         }
 
         final Word<I> input = defaultQuery.getInput();
-        final int mismatchIdx = analyzer.analyzeAbstractCounterexample(new Acex<>(input,
-                                                                                  defaultQuery.getOutput() ?
-                                                                                          hypothesis::accepts :
-                                                                                          this.oracle::answerQuery));
+        final MembershipOracle<I, Boolean> acexOracle = defaultQuery.getOutput() ?
+                (SingleQueryOracleDFA<I>) (prefix, suffix) -> hypothesis.accepts(prefix.concat(suffix)) :
+                this.oracle;
+        final int mismatchIdx = analyzer.analyzeAbstractCounterexample(new Acex<>(input, acexOracle));
 
         // extract local ce
         final int callIdx = this.alphabet.findCallIndex(input, mismatchIdx);
@@ -344,9 +346,9 @@ public class SBALearner<I, L extends DFALearner<SymbolWrapper<I>> & SupportsGrow
     private static class Acex<I> extends AbstractBaseCounterexample<Boolean> {
 
         private final Word<I> input;
-        private final Predicate<? super Word<I>> oracle;
+        private final MembershipOracle<I, Boolean> oracle;
 
-        Acex(Word<I> input, Predicate<? super Word<I>> oracle) {
+        Acex(Word<I> input, MembershipOracle<I, Boolean> oracle) {
             super(input.size() + 1);
             this.input = input;
             this.oracle = oracle;
@@ -354,7 +356,23 @@ public class SBALearner<I, L extends DFALearner<SymbolWrapper<I>> & SupportsGrow
 
         @Override
         protected Boolean computeEffect(int index) {
-            return oracle.test(input.prefix(index));
+            return oracle.answerQuery(input.prefix(index));
+        }
+
+        @Override
+        protected List<Boolean> computeEffects(int[] indices) {
+            final List<DefaultQuery<I, Boolean>> queries = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                queries.add(new DefaultQuery<>(input.prefix(index)));
+            }
+
+            oracle.processQueries(queries);
+
+            final List<Boolean> result = new ArrayList<>(indices.length);
+            for (DefaultQuery<I, Boolean> q : queries) {
+                result.add(q.getOutput());
+            }
+            return result;
         }
 
         @Override
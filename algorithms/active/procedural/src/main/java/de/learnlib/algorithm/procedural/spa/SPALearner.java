@@ -25,7 +25,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import de.learnlib.AccessSequenceTransformer;
 import de.learnlib.acex.AbstractBaseCounterexample;
@@ -36,6 +35,7 @@ import de.learnlib.algorithm.LearningAlgorithm;
 import de.learnlib.algorithm.LearningAlgorithm.DFALearner;
 import de.learnlib.algorithm.procedural.spa.manager.OptimizingATRManager;
 import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.oracle.SingleQueryOracle.SingleQueryOracleDFA;
 import de.learnlib.query.DefaultQuery;
 import de.learnlib.util.MQUtil;
 import net.automatalib.alphabet.ProceduralInputAlphabet;
@@ -138,11 +138,10 @@ public class SPALearner<I, L extends DFALearner<I> & SupportsGrowingAlphabet<I>
 
         final Word<I> input = defaultQuery.getInput();
         final List<Integer> returnIndices = determineReturnIndices(input);
-        final int idx = analyzer.analyzeAbstractCounterexample(new Acex(input,
-                                                                        defaultQuery.getOutput() ?
-                                                                                hypothesis::accepts :
-                                                                                this.oracle::answerQuery,
-                                                                        returnIndices));
+        final MembershipOracle<I, Boolean> acexOracle = defaultQuery.getOutput() ?
+                (SingleQueryOracleDFA<I>) (prefix, suffix) -> hypothesis.accepts(prefix.concat(suffix)) :
+                this.oracle;
+        final int idx = analyzer.analyzeAbstractCounterexample(new Acex(input, acexOracle, returnIndices));
         final int returnIdx = returnIndices.get(idx);
 
         // extract local ce
@@ -296,10 +295,10 @@ public class SPALearner<I, L extends DFALearner<I> & SupportsGrowingAlphabet<I>
     private final class Acex extends AbstractBaseCounterexample<Boolean> {
 
         private final Word<I> input;
-        private final Predicate<? super Word<I>> oracle;
+        private final MembershipOracle<I, Boolean> oracle;
         private final List<Integer> returnIndices;
 
-        Acex(Word<I> input, Predicate<? super Word<I>> oracle, List<Integer> returnIndices) {
+        Acex(Word<I> input, MembershipOracle<I, Boolean> oracle, List<Integer> returnIndices) {
             super(returnIndices.size() + 1);
             this.input = input;
             this.oracle = oracle;
@@ -311,6 +310,26 @@ public class SPALearner<I, L extends DFALearner<I> & SupportsGrowingAlphabet<I>
 
         @Override
         protected Boolean computeEffect(int index) {
+            return oracle.answerQuery(buildQuery(index));
+        }
+
+        @Override
+        protected List<Boolean> computeEffects(int[] indices) {
+            final List<DefaultQuery<I, Boolean>> queries = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                queries.add(new DefaultQuery<>(buildQuery(index)));
+            }
+
+            oracle.processQueries(queries);
+
+            final List<Boolean> result = new ArrayList<>(indices.length);
+            for (DefaultQuery<I, Boolean> q : queries) {
+                result.add(q.getOutput());
+            }
+            return result;
+        }
+
+        private Word<I> buildQuery(int index) {
             final Deque<Word<I>> wordStack = new ArrayDeque<>();
             int idx = this.returnIndices.get(index);
 
@@ -329,7 +348,7 @@ public class SPALearner<I, L extends DFALearner<I> & SupportsGrowingAlphabet<I>
             wordStack.forEach(builder::append);
             builder.append(input.subWord(this.returnIndices.get(index)));
 
-            return oracle.test(builder.toWord());
+            return builder.toWord();
         }
 
         @Override
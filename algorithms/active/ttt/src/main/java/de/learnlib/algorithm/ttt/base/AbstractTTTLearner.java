@@ -35,6 +35,8 @@ import de.learnlib.acex.OutInconsPrefixTransformAcex;
 import de.learnlib.algorithm.LearningAlgorithm;
 import de.learnlib.datastructure.discriminationtree.SplitData;
 import de.learnlib.datastructure.list.IntrusiveList;
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.logging.Category;
 import de.learnlib.oracle.MembershipOracle;
 import de.learnlib.query.DefaultQuery;
@@ -170,17 +172,37 @@ public abstract class AbstractTTTLearner<A, I, D>
 
     @Override
     public boolean refineHypothesis(DefaultQuery<I, D> ceQuery) {
-        if (!refineHypothesisSingle(ceQuery)) {
+        if (!refineHypothesisStep(ceQuery)) {
             return false;
         }
 
-        while (refineHypothesisSingle(ceQuery)) {
+        while (refineHypothesisStep(ceQuery)) {
             // refine exhaustively
         }
 
         return true;
     }
 
+    /**
+     * Performs a {@link #refineHypothesisSingle(DefaultQuery) single refinement} of the hypothesis and records it as a
+     * {@link EventKind#REFINEMENT refinement event}.
+     *
+     * @param ceQuery
+     *         the counterexample (query) to be used for refinement
+     *
+     * @return {@code true} if the hypothesis was refined, {@code false} otherwise
+     */
+    protected final boolean refineHypothesisStep(DefaultQuery<I, D> ceQuery) {
+        final Object event = Events.begin(EventKind.REFINEMENT);
+        final boolean refined = refineHypothesisSingle(ceQuery);
+
+        if (refined) {
+            Events.commit(event, getClass().getSimpleName(), hypothesis.size(), ceQuery.getInput().length());
+        }
+
+        return refined;
+    }
+
     /**
      * Initializes a state. Creates its outgoing transition objects, and adds them to the "open" list.
      *
@@ -38,12 +38,12 @@ public class PrefixTTTLearnerDFA<I> extends TTTLearnerDFA<I> {
 
     @Override
     public boolean refineHypothesis(DefaultQuery<I, Boolean> ceQuery) {
-        boolean refined = refineHypothesisSingle(ceQuery);
+        boolean refined = refineHypothesisStep(ceQuery);
         if (!refined) {
             return false;
         }
 
-        while (refineHypothesisSingle(ceQuery)) {
+        while (refineHypothesisStep(ceQuery)) {
             // refine exhaustively
         }
 
@@ -0,0 +1,54 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.event;
+
+/**
+ * The kinds of events that can be {@link Events recorded}. Each event has a duration (from {@link Events#begin(EventKind)
+ * begin} to {@link Events#commit(Object, String, long, long) commit}) and three attributes whose meaning depends on
+ * the kind of event.
+ */
+public enum EventKind {
+
+    /**
+     * A batch of queries that is answered by a membership oracle. The label denotes the oracle, the count denotes the
+     * number of queries, and the size denotes the total length (in symbols) of the queries.
+     */
+    QUERY_BATCH,
+
+    /**
+     * A batch of queries that is passed through a cache. The label denotes the cache, the count denotes the number of
+     * queries, and the size denotes the number of queries that could not be answered by the cache (i.e., the misses).
+     */
+    CACHE_LOOKUP,
+
+    /**
+     * A job of a parallel oracle. The label denotes the job type, the count denotes the number of queries, and the size
+     * is not used.
+     */
+    PARALLEL_JOB,
+
+    /**
+     * A phase of a learning experiment. The label denotes the phase, the count denotes the current round, and the size
+     * is not used.
+     */
+    EXPERIMENT_PHASE,
+
+    /**
+     * A hypothesis refinement of a learning algorithm. The label denotes the learning algorithm, the count denotes the
+     * size of the refined hypothesis, and the size denotes the length of the counterexample.
+     */
+    REFINEMENT
+}
@@ -0,0 +1,52 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.event;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A service provider interface for recording events. Implementations are discovered via the {@link java.util.ServiceLoader}
+ * mechanism, see {@link Events}.
+ */
+public interface EventRecorder {
+
+    /**
+     * Begins a (timed) event of the given kind.
+     *
+     * @param kind
+     *         the kind of event
+     *
+     * @return an (opaque) handle to the event which is passed to {@link #commit(Object, String, long, long)}, or
+     * {@code null} if events of the given kind are currently not recorded
+     */
+    @Nullable Object begin(EventKind kind);
+
+    /**
+     * Ends and records a previously {@link #begin(EventKind) begun} event.
+     *
+     * @param event
+     *         the handle returned by {@link #begin(EventKind)}
+     * @param label
+     *         the label of the event
+     * @param count
+     *         the count of the event
+     * @param size
+     *         the size of the event
+     *
+     * @see EventKind
+     */
+    void commit(Object event, String label, long count, long size);
+}
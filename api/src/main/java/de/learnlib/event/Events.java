@@ -0,0 +1,84 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.event;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Entry point for recording events (e.g., the processing of queries or the phases of a learning experiment) for
+ * external profiling tools. Events are forwarded to the first {@link EventRecorder} found via the
+ * {@link ServiceLoader} mechanism (e.g., the one provided by the {@code learnlib-jfr} artifact which emits Java Flight
+ * Recorder events). If no recorder is available, recording events is a no-op.
+ * <p>
+ * Callers should only compute (potentially expensive) event attributes if {@link #begin(EventKind)} returns a non-null
+ * handle:
+ * <pre>
+ * final Object event = Events.begin(EventKind.QUERY_BATCH);
+ * // ... process queries
+ * if (event != null) {
+ *     Events.commit(event, label, queries.size(), computeLength(queries));
+ * }
+ * </pre>
+ */
+public final class Events {
+
+    private static final @Nullable EventRecorder RECORDER = loadRecorder();
+
+    private Events() {
+        // prevent instantiation
+    }
+
+    /**
+     * Begins a (timed) event of the given kind.
+     *
+     * @param kind
+     *         the kind of event
+     *
+     * @return an (opaque) handle to the event, or {@code null} if events of the given kind are currently not recorded
+     */
+    public static @Nullable Object begin(EventKind kind) {
+        return RECORDER == null ? null : RECORDER.begin(kind);
+    }
+
+    /**
+     * Ends and records a previously {@link #begin(EventKind) begun} event. Does nothing if the given handle is
+     * {@code null}.
+     *
+     * @param event
+     *         the handle returned by {@link #begin(EventKind)}
+     * @param label
+     *         the label of the event
+     * @param count
+     *         the count of the event
+     * @param size
+     *         the size of the event
+     *
+     * @see EventKind
+     */
+    public static void commit(@Nullable Object event, String label, long count, long size) {
+        if (RECORDER != null && event != null) {
+            RECORDER.commit(event, label, count, size);
+        }
+    }
+
+    private static @Nullable EventRecorder loadRecorder() {
+        final Iterator<EventRecorder> iter = ServiceLoader.load(EventRecorder.class).iterator();
+        return iter.hasNext() ? iter.next() : null;
+    }
+}
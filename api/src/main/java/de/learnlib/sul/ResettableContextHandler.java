@@ -0,0 +1,54 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.sul;
+
+/**
+ * A {@link ContextHandler} whose contexts can be reset to their initial state, so that they can be re-used across
+ * multiple queries instead of being created and disposed of for each query (see, e.g., the {@code
+ * PooledContextHandler} of the {@code learnlib-drivers-basic} artifact).
+ * <p>
+ * The same thread-safety requirements as for {@link ContextHandler}s apply.
+ *
+ * @param <C>
+ *         context type
+ */
+public interface ResettableContextHandler<C> extends ContextHandler<C> {
+
+    /**
+     * Resets the given (previously {@link #createContext() created}) context to its initial state.
+     *
+     * @param context
+     *         the context to reset
+     *
+     * @return {@code true} if the context has been reset successfully and can be re-used, {@code false} if the context
+     * cannot be re-used and needs to be {@link #disposeContext(Object) disposed}
+     */
+    boolean resetContext(C context);
+
+    /**
+     * Checks whether the given (previously reset) context is still usable, e.g., whether the connection of an idle
+     * context is still alive. This method is invoked before a context is re-used.
+     *
+     * @param context
+     *         the context to check
+     *
+     * @return {@code true} if the context can be re-used, {@code false} if it needs to be
+     * {@link #disposeContext(Object) disposed}
+     */
+    default boolean validateContext(C context) {
+        return true;
+    }
+}
@@ -14,6 +14,8 @@
  * limitations under the License.
  */
 
+import de.learnlib.event.EventRecorder;
+
 /**
  * This module provides the core interfaces of LearnLib.
  * <p>
@@ -37,10 +39,13 @@ open module de.learnlib.api {
 
     exports de.learnlib;
     exports de.learnlib.algorithm;
+    exports de.learnlib.event;
     exports de.learnlib.exception;
     exports de.learnlib.logging;
     exports de.learnlib.oracle;
     exports de.learnlib.query;
     exports de.learnlib.statistic;
     exports de.learnlib.sul;
+
+    uses EventRecorder;
 }
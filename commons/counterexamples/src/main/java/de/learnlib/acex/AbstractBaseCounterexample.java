@@ -15,6 +15,10 @@
  */
 package de.learnlib.acex;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import net.automatalib.common.util.array.ArrayStorage;
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 
@@ -52,14 +56,75 @@ public abstract class AbstractBaseCounterexample<E> implements AbstractCounterex
         return eff;
     }
 
+    /**
+     * Ensures that the effects of all given indices are available. Effects that have not been computed yet are
+     * computed in a single call to {@link #computeEffects(int[])}.
+     *
+     * @param indices
+     *         the indices whose effects should be available
+     */
+    @Override
+    public void prefetchEffects(int... indices) {
+        int[] missing = new int[indices.length];
+        int numMissing = 0;
+
+        for (int idx : indices) {
+            if (values.get(idx) == null && !contains(missing, numMissing, idx)) {
+                missing[numMissing++] = idx;
+            }
+        }
+
+        if (numMissing == 0) {
+            return;
+        } else if (numMissing == 1) {
+            values.set(missing[0], computeEffect(missing[0]));
+            return;
+        }
+
+        int[] batch = numMissing == missing.length ? missing : Arrays.copyOf(missing, numMissing);
+        List<E> effects = computeEffects(batch);
+        assert effects.size() == batch.length;
+
+        for (int i = 0; i < batch.length; i++) {
+            values.set(batch[i], effects.get(i));
+        }
+    }
+
     protected abstract E computeEffect(int index);
 
+    /**
+     * Computes the effects of several indices at once. The default implementation computes each effect individually
+     * via {@link #computeEffect(int)}. Subclasses which determine their effects via membership queries may override
+     * this method to pose all queries as a single batch.
+     *
+     * @param indices
+     *         the (distinct) indices whose effects should be computed
+     *
+     * @return the effects, in the order of the given indices
+     */
+    protected List<E> computeEffects(int[] indices) {
+        List<E> result = new ArrayList<>(indices.length);
+        for (int idx : indices) {
+            result.add(computeEffect(idx));
+        }
+        return result;
+    }
+
     public void setEffect(@UnknownInitialization(AbstractBaseCounterexample.class) AbstractBaseCounterexample<E> this,
                           int index,
                           E effect) {
         values.set(index, effect);
     }
 
+    private static boolean contains(int[] array, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder(values.size());
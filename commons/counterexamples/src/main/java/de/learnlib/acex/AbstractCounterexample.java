@@ -26,4 +26,13 @@ public interface AbstractCounterexample<E> {
     boolean checkEffects(E eff1, E eff2);
 
     E effect(int index);
+
+    /**
+     * Hints that the effects of the given indices will be requested soon. Implementations may use this information to
+     * compute several effects at once. The default implementation does nothing.
+     *
+     * @param indices
+     *         the indices whose effects will be requested
+     */
+    default void prefetchEffects(int... indices) {}
 }
@@ -196,4 +196,133 @@ public final class AcexAnalysisAlgorithms {
 
         return lowIter;
     }
+
+    /**
+     * Search for a suffix index using a k-ary search. In each iteration, the remaining search range is split into
+     * {@code arity} parts whose split points are requested via {@link AbstractCounterexample#prefetchEffects(int...)}
+     * at once, allowing implementations to evaluate them as a single batch. For an arity of 2, this search behaves
+     * like {@link #binarySearchLeft(AbstractCounterexample, int, int)}.
+     *
+     * @param acex
+     *         the abstract counterexample
+     * @param low
+     *         the lower bound of the search range
+     * @param high
+     *         the upper bound of the search range
+     * @param arity
+     *         the number of parts the search range is split into in each iteration
+     * @param <E>
+     *         the effect type
+     *
+     * @return an index {@code i} such that {@code acex.testEffect(i) != acex.testEffect(i+1)}
+     */
+    public static <E> int kArySearchLeft(AbstractCounterexample<E> acex, int low, int high, int arity) {
+        checkArity(arity);
+        acex.prefetchEffects(low, high);
+
+        E effLow = acex.effect(low);
+        E effHigh = acex.effect(high);
+
+        assert !acex.checkEffects(effLow, effHigh) :
+                "compatible effects at " + low + ", " + high + ": " + effLow + ", " + effHigh;
+
+        int highIter = high;
+        int lowIter = low;
+
+        while (highIter - lowIter > 1) {
+            int[] splits = computeSplits(lowIter, highIter, arity);
+            acex.prefetchEffects(splits);
+
+            int newHigh = highIter;
+            for (int split : splits) {
+                E effSplit = acex.effect(split);
+                if (acex.checkEffects(effLow, effSplit)) {
+                    lowIter = split;
+                    effLow = effSplit;
+                } else {
+                    newHigh = split;
+                    break;
+                }
+            }
+            highIter = newHigh;
+        }
+
+        return lowIter;
+    }
+
+    /**
+     * Search for a suffix index using a k-ary search. In each iteration, the remaining search range is split into
+     * {@code arity} parts whose split points are requested via {@link AbstractCounterexample#prefetchEffects(int...)}
+     * at once, allowing implementations to evaluate them as a single batch. For an arity of 2, this search behaves
+     * like {@link #binarySearchRight(AbstractCounterexample, int, int)}.
+     *
+     * @param acex
+     *         the abstract counterexample
+     * @param low
+     *         the lower bound of the search range
+     * @param high
+     *         the upper bound of the search range
+     * @param arity
+     *         the number of parts the search range is split into in each iteration
+     * @param <E>
+     *         the effect type
+     *
+     * @return an index {@code i} such that {@code acex.testEffect(i) != acex.testEffect(i+1)}
+     */
+    public static <E> int kArySearchRight(AbstractCounterexample<E> acex, int low, int high, int arity) {
+        checkArity(arity);
+        acex.prefetchEffects(low, high);
+
+        E effLow = acex.effect(low);
+        E effHigh = acex.effect(high);
+
+        assert !acex.checkEffects(effLow, effHigh) :
+                "compatible effects at " + low + ", " + high + ": " + effLow + ", " + effHigh;
+
+        int highIter = high;
+        int lowIter = low;
+
+        while (highIter - lowIter > 1) {
+            int[] splits = computeSplits(lowIter, highIter, arity);
+            acex.prefetchEffects(splits);
+
+            int newLow = lowIter;
+            for (int i = splits.length - 1; i >= 0; i--) {
+                int split = splits[i];
+                E effSplit = acex.effect(split);
+                if (acex.checkEffects(effSplit, effHigh)) {
+                    highIter = split;
+                    effHigh = effSplit;
+                } else {
+                    newLow = split;
+                    break;
+                }
+            }
+            lowIter = newLow;
+        }
+
+        return lowIter;
+    }
+
+    static void checkArity(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2, but was " + arity);
+        }
+    }
+
+    /**
+     * Computes the (ascending, distinct) split points strictly between {@code low} and {@code high} that partition the
+     * range into at most {@code arity} parts of roughly equal size.
+     */
+    private static int[] computeSplits(int low, int high, int arity) {
+        int range = high - low;
+        int parts = Math.min(arity, range);
+        int[] splits = new int[parts - 1];
+
+        for (int i = 1; i < parts; i++) {
+            splits[i - 1] = low + (int) ((long) range * i / parts);
+        }
+
+        return splits;
+    }
 }
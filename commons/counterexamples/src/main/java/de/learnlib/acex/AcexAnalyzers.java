@@ -80,17 +80,77 @@ public final class AcexAnalyzers {
             return AcexAnalysisAlgorithms.exponentialSearchFwd(acex, low, high);
         }
     };
+    /**
+     * The default arity of the k-ary search analyzers.
+     */
+    public static final int DEFAULT_K_ARY_ARITY = 4;
+    /**
+     * Analyzer that searches for a suffix index using a k-ary search with an arity of {@value #DEFAULT_K_ARY_ARITY}.
+     *
+     * @see #kArySearchBwd(int)
+     */
+    public static final AbstractNamedAcexAnalyzer K_ARY_SEARCH_BWD = kArySearchBwd(DEFAULT_K_ARY_ARITY);
+    /**
+     * Analyzer that searches for a suffix index using a k-ary search with an arity of {@value #DEFAULT_K_ARY_ARITY}.
+     *
+     * @see #kArySearchFwd(int)
+     */
+    public static final AbstractNamedAcexAnalyzer K_ARY_SEARCH_FWD = kArySearchFwd(DEFAULT_K_ARY_ARITY);
     public static final Map<String, AbstractNamedAcexAnalyzer> FWD_ANALYZERS =
-            createMap(LINEAR_FWD, EXPONENTIAL_FWD, BINARY_SEARCH_FWD);
+            createMap(LINEAR_FWD, EXPONENTIAL_FWD, BINARY_SEARCH_FWD, K_ARY_SEARCH_FWD);
 
     public static final Map<String, AbstractNamedAcexAnalyzer> BWD_ANALYZERS =
-            createMap(LINEAR_BWD, EXPONENTIAL_BWD, BINARY_SEARCH_BWD);
+            createMap(LINEAR_BWD, EXPONENTIAL_BWD, BINARY_SEARCH_BWD, K_ARY_SEARCH_BWD);
     public static final Map<String, AbstractNamedAcexAnalyzer> ALL_ANALYZERS = createMap(FWD_ANALYZERS, BWD_ANALYZERS);
 
     private AcexAnalyzers() {
         // prevent instantiation
     }
 
+    /**
+     * Returns an analyzer that searches for a suffix index using a k-ary search (see
+     * {@link AcexAnalysisAlgorithms#kArySearchRight(AbstractCounterexample, int, int, int)}). In each iteration, the
+     * effects of all {@code arity - 1} split points are requested at once, so that counterexamples supporting batched
+     * effect computation can pose the corresponding queries as a single batch.
+     *
+     * @param arity
+     *         the number of parts the search range is split into in each iteration (must be at least 2)
+     *
+     * @return the analyzer
+     */
+    public static AbstractNamedAcexAnalyzer kArySearchBwd(int arity) {
+        AcexAnalysisAlgorithms.checkArity(arity);
+        return new AbstractNamedAcexAnalyzer("KArySearchBwd(" + arity + ")") {
+
+            @Override
+            public int analyzeAbstractCounterexample(AbstractCounterexample<?> acex, int low, int high) {
+                return AcexAnalysisAlgorithms.kArySearchRight(acex, low, high, arity);
+            }
+        };
+    }
+
+    /**
+     * Returns an analyzer that searches for a suffix index using a k-ary search (see
+     * {@link AcexAnalysisAlgorithms#kArySearchLeft(AbstractCounterexample, int, int, int)}). In each iteration, the
+     * effects of all {@code arity - 1} split points are requested at once, so that counterexamples supporting batched
+     * effect computation can pose the corresponding queries as a single batch.
+     *
+     * @param arity
+     *         the number of parts the search range is split into in each iteration (must be at least 2)
+     *
+     * @return the analyzer
+     */
+    public static AbstractNamedAcexAnalyzer kArySearchFwd(int arity) {
+        AcexAnalysisAlgorithms.checkArity(arity);
+        return new AbstractNamedAcexAnalyzer("KArySearchFwd(" + arity + ")") {
+
+            @Override
+            public int analyzeAbstractCounterexample(AbstractCounterexample<?> acex, int low, int high) {
+                return AcexAnalysisAlgorithms.kArySearchLeft(acex, low, high, arity);
+            }
+        };
+    }
+
     private static Map<String, AbstractNamedAcexAnalyzer> createMap(AbstractNamedAcexAnalyzer... analyzers) {
         Map<String, AbstractNamedAcexAnalyzer> analyzerMap = new HashMap<>(analyzers.length * 3 / 2);
         for (AbstractNamedAcexAnalyzer a : analyzers) {
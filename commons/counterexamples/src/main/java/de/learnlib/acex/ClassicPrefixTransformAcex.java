@@ -15,10 +15,13 @@
  */
 package de.learnlib.acex;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.query.DefaultQuery;
 import net.automatalib.automaton.concept.SuffixOutput;
 import net.automatalib.word.Word;
 
@@ -71,6 +74,23 @@ public class ClassicPrefixTransformAcex<I, D> extends AbstractBaseCounterexample
         return Objects.equals(hypOut.computeSuffixOutput(asPrefix, suffix), oracle.answerQuery(asPrefix, suffix));
     }
 
+    @Override
+    protected List<Boolean> computeEffects(int[] indices) {
+        List<DefaultQuery<I, D>> queries = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            queries.add(new DefaultQuery<>(asTransform.apply(this.suffix.prefix(index)), this.suffix.subWord(index)));
+        }
+
+        oracle.processQueries(queries);
+
+        List<Boolean> result = new ArrayList<>(indices.length);
+        for (DefaultQuery<I, D> q : queries) {
+            D hypOutput = hypOut.computeSuffixOutput(q.getPrefix(), q.getSuffix());
+            result.add(Objects.equals(hypOutput, q.getOutput()));
+        }
+        return result;
+    }
+
     @Override
     public boolean checkEffects(Boolean eff1, Boolean eff2) {
         return Objects.equals(eff1, eff2);
@@ -15,10 +15,13 @@
  */
 package de.learnlib.acex;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.query.DefaultQuery;
 import net.automatalib.word.Word;
 
 /**
@@ -63,6 +66,22 @@ public class OutInconsPrefixTransformAcex<I, D> extends AbstractBaseCounterexamp
         return oracle.answerQuery(asPrefix, suffix);
     }
 
+    @Override
+    protected List<D> computeEffects(int[] indices) {
+        List<DefaultQuery<I, D>> queries = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            queries.add(new DefaultQuery<>(asTransform.apply(this.suffix.prefix(index)), this.suffix.subWord(index)));
+        }
+
+        oracle.processQueries(queries);
+
+        List<D> result = new ArrayList<>(indices.length);
+        for (DefaultQuery<I, D> q : queries) {
+            result.add(q.getOutput());
+        }
+        return result;
+    }
+
     @Override
     public boolean checkEffects(D eff1, D eff2) {
         return Objects.equals(eff1, eff2);
@@ -15,12 +15,16 @@
  */
 package de.learnlib.counterexample.acex;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Random;
 
+import de.learnlib.acex.AbstractBaseCounterexample;
 import de.learnlib.acex.AbstractCounterexample;
 import de.learnlib.acex.AbstractNamedAcexAnalyzer;
+import de.learnlib.acex.AcexAnalysisAlgorithms;
 import de.learnlib.acex.AcexAnalyzers;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -101,4 +105,83 @@ public class AnalyzersTest {
         }
         return new DummyAcex(values);
     }
+
+    @Test
+    public void testKAryBatching() {
+        Random r = new Random(SEED);
+
+        for (int i = 0; i < NUM_RANDOM; i++) {
+            int[] values = new int[LENGTH + 1];
+            values[LENGTH] = 1;
+            for (int j = 1; j < LENGTH; j++) {
+                values[j] = r.nextInt(2);
+            }
+
+            // an arity of 2 should behave exactly like the binary search
+            Assert.assertEquals(AcexAnalysisAlgorithms.kArySearchLeft(new BatchAcex(values), 0, LENGTH, 2),
+                                AcexAnalysisAlgorithms.binarySearchLeft(new BatchAcex(values), 0, LENGTH));
+            Assert.assertEquals(AcexAnalysisAlgorithms.kArySearchRight(new BatchAcex(values), 0, LENGTH, 2),
+                                AcexAnalysisAlgorithms.binarySearchRight(new BatchAcex(values), 0, LENGTH));
+
+            for (int arity = 2; arity <= 8; arity++) {
+                BatchAcex fwd = new BatchAcex(values);
+                checkResult(fwd, AcexAnalysisAlgorithms.kArySearchLeft(fwd, 0, LENGTH, arity));
+                checkBatches(fwd, arity);
+
+                BatchAcex bwd = new BatchAcex(values);
+                checkResult(bwd, AcexAnalysisAlgorithms.kArySearchRight(bwd, 0, LENGTH, arity));
+                checkBatches(bwd, arity);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidArity() {
+        AcexAnalyzers.kArySearchFwd(1);
+    }
+
+    private static void checkBatches(BatchAcex acex, int arity) {
+        // each iteration requests its split points at once, either as a batch or (for a single point) individually
+        int rounds = acex.batches.size() + acex.singleComputations;
+        int maxIterations = (int) Math.ceil(Math.log(LENGTH) / Math.log(arity));
+        Assert.assertTrue(rounds <= maxIterations + 2, "rounds: " + rounds);
+
+        for (int[] batch : acex.batches) {
+            Assert.assertTrue(batch.length <= Math.max(2, arity - 1));
+        }
+    }
+
+    private static final class BatchAcex extends AbstractBaseCounterexample<Integer> {
+
+        private final int[] values;
+        private final List<int[]> batches;
+        private int singleComputations;
+
+        BatchAcex(int[] values) {
+            super(values.length);
+            this.values = values;
+            this.batches = new ArrayList<>();
+        }
+
+        @Override
+        protected Integer computeEffect(int index) {
+            singleComputations++;
+            return values[index];
+        }
+
+        @Override
+        protected List<Integer> computeEffects(int[] indices) {
+            batches.add(indices.clone());
+            List<Integer> result = new ArrayList<>(indices.length);
+            for (int idx : indices) {
+                result.add(values[idx]);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean checkEffects(Integer eff1, Integer eff2) {
+            return eff1.equals(eff2);
+        }
+    }
 }
@@ -0,0 +1,80 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.jfr;
+
+import de.learnlib.event.EventKind;
+import de.learnlib.event.EventRecorder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.kohsuke.MetaInfServices;
+
+/**
+ * An {@link EventRecorder} that emits LearnLib events as Java Flight Recorder (JFR) events. The recorder is discovered
+ * automatically if this module is present on the class- or module path.
+ * <p>
+ * All events are disabled by default, so that they do not impose any overhead on regular (recorded) runs. They can be
+ * enabled via the usual JFR settings, e.g., by passing {@code de.learnlib.QueryBatch#enabled=true} to
+ * {@code -XX:StartFlightRecording} or by using a custom {@code .jfc} file. The events are named
+ * <ul>
+ *     <li>{@code de.learnlib.QueryBatch},</li>
+ *     <li>{@code de.learnlib.CacheLookup},</li>
+ *     <li>{@code de.learnlib.ParallelJob},</li>
+ *     <li>{@code de.learnlib.ExperimentPhase}, and</li>
+ *     <li>{@code de.learnlib.Refinement}.</li>
+ * </ul>
+ */
+@MetaInfServices(EventRecorder.class)
+public class JFREventRecorder implements EventRecorder {
+
+    @Override
+    public @Nullable Object begin(EventKind kind) {
+        final AbstractLearnLibEvent event = createEvent(kind);
+
+        if (!event.isEnabled()) {
+            return null;
+        }
+
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commit(Object event, String label, long count, long size) {
+        final AbstractLearnLibEvent e = (AbstractLearnLibEvent) event;
+        e.end();
+
+        if (e.shouldCommit()) {
+            e.setAttributes(label, count, size);
+            e.commit();
+        }
+    }
+
+    private static AbstractLearnLibEvent createEvent(EventKind kind) {
+        switch (kind) {
+            case QUERY_BATCH:
+                return new QueryBatchEvent();
+            case CACHE_LOOKUP:
+                return new CacheLookupEvent();
+            case PARALLEL_JOB:
+                return new ParallelJobEvent();
+            case EXPERIMENT_PHASE:
+                return new ExperimentPhaseEvent();
+            case REFINEMENT:
+                return new RefinementEvent();
+            default:
+                throw new IllegalArgumentException("Unknown event kind: " + kind);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("de.learnlib.Refinement")
+@Label("Refinement")
+@Description("A hypothesis refinement of a learning algorithm")
+class RefinementEvent extends AbstractLearnLibEvent {
+
+    @Label("Learner")
+    String learner;
+
+    @Label("Hypothesis Size")
+    long hypothesisSize;
+
+    @Label("Counterexample Length")
+    long counterexampleLength;
+
+    @Override
+    void setAttributes(String label, long count, long size) {
+        this.learner = label;
+        this.hypothesisSize = count;
+        this.counterexampleLength = size;
+    }
+}
@@ -0,0 +1,92 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class JFREventRecorderTest {
+
+    @Test
+    public void testDisabledByDefault() {
+        for (EventKind kind : EventKind.values()) {
+            Assert.assertNull(Events.begin(kind));
+        }
+
+        // committing a disabled event is a no-op
+        Events.commit(null, "test", 1, 1);
+    }
+
+    @Test
+    public void testRecording() throws IOException {
+        final Path file = Files.createTempFile("learnlib", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("de.learnlib.QueryBatch");
+            recording.enable("de.learnlib.CacheLookup");
+            recording.start();
+
+            final Object queryEvent = Events.begin(EventKind.QUERY_BATCH);
+            Assert.assertNotNull(queryEvent);
+            Events.commit(queryEvent, "oracle", 3, 42);
+
+            final Object cacheEvent = Events.begin(EventKind.CACHE_LOOKUP);
+            Assert.assertNotNull(cacheEvent);
+            Events.commit(cacheEvent, "cache", 10, 4);
+
+            // not enabled for this recording
+            Assert.assertNull(Events.begin(EventKind.REFINEMENT));
+
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Assert.assertEquals(events.size(), 2);
+
+            final RecordedEvent query = find(events, "de.learnlib.QueryBatch");
+            Assert.assertEquals(query.getString("oracle"), "oracle");
+            Assert.assertEquals(query.getLong("batchSize"), 3);
+            Assert.assertEquals(query.getLong("totalLength"), 42);
+
+            final RecordedEvent cache = find(events, "de.learnlib.CacheLookup");
+            Assert.assertEquals(cache.getString("cache"), "cache");
+            Assert.assertEquals(cache.getLong("batchSize"), 10);
+            Assert.assertEquals(cache.getLong("hits"), 6);
+            Assert.assertEquals(cache.getLong("misses"), 4);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        for (RecordedEvent e : events) {
+            if (name.equals(e.getEventType().getName())) {
+                return e;
+            }
+        }
+        throw new AssertionError("No event named " + name);
+    }
+}
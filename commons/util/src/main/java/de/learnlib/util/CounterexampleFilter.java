@@ -0,0 +1,47 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.util;
+
+import de.learnlib.query.DefaultQuery;
+
+/**
+ * A filter that processes the counterexamples of an {@link Experiment} before they are passed to the learning
+ * algorithm, e.g., in order to shorten them.
+ *
+ * @param <A>
+ *         hypothesis type
+ * @param <I>
+ *         input symbol type
+ * @param <D>
+ *         output domain type
+ *
+ * @see CounterexampleShortener
+ */
+@FunctionalInterface
+public interface CounterexampleFilter<A, I, D> {
+
+    /**
+     * Processes the given counterexample.
+     *
+     * @param hypothesis
+     *         the hypothesis for which the counterexample has been found
+     * @param counterexample
+     *         the counterexample
+     *
+     * @return a (potentially different) counterexample for the given hypothesis
+     */
+    DefaultQuery<I, D> filter(A hypothesis, DefaultQuery<I, D> counterexample);
+}
@@ -0,0 +1,261 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import de.learnlib.filter.statistic.Counter;
+import de.learnlib.logging.Category;
+import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.query.DefaultQuery;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.concept.Output;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link CounterexampleFilter} that shortens counterexamples before they are passed to the learning algorithm. Since
+ * the cost of counterexample analysis of most learners grows with the length of the counterexample, this is especially
+ * useful for (long) counterexamples of random testing.
+ * <p>
+ * Counterexamples are shortened in two phases:
+ * <ol>
+ * <li>Loop removal: if the hypothesis reaches the same state after two different prefixes of the counterexample, the
+ * infix between them is removed. All such candidates (one per revisited state, removing the largest loop) are verified
+ * in a single batch and the shortest one that is still a counterexample is kept. This is repeated until no candidate
+ * remains a counterexample.</li>
+ * <li>Prefix/suffix trimming: chunks of halving size are removed from the beginning and the end of the counterexample
+ * (both candidates are verified in a single batch) as long as the result remains a counterexample.</li>
+ * </ol>
+ * The verification queries are posed to the given membership oracle. The number of these queries (and their symbols)
+ * as well as the number of removed symbols can be inspected via the respective (cumulative) {@link Counter}s. The
+ * figures of each individual counterexample are logged on debug level.
+ * <p>
+ * Note that the number of removed symbols is only a proxy for the effort saved by shortening: the actual savings depend
+ * on how the learning algorithm analyzes counterexamples (e.g., a binary search only requires logarithmically many
+ * queries in the length of the counterexample) and may well be smaller than the effort spent on the verification
+ * queries. Since shortening always spends queries, counterexamples that are shorter than a configurable minimum length
+ * are passed on unchanged.
+ *
+ * @param <A>
+ *         hypothesis type
+ * @param <I>
+ *         input symbol type
+ * @param <D>
+ *         output domain type
+ */
+public class CounterexampleShortener<A extends UniversalDeterministicAutomaton<?, I, ?, ?, ?> & Output<I, D>, I, D>
+        implements CounterexampleFilter<A, I, D> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CounterexampleShortener.class);
+
+    private final MembershipOracle<I, D> oracle;
+    private final int minLength;
+    private final Counter queryCounter;
+    private final Counter symbolCounter;
+    private final Counter removedSymbolCounter;
+
+    /**
+     * Constructor. Shortens all counterexamples regardless of their length.
+     *
+     * @param oracle
+     *         the membership oracle used for verifying shortened counterexamples
+     */
+    public CounterexampleShortener(MembershipOracle<I, D> oracle) {
+        this(oracle, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param oracle
+     *         the membership oracle used for verifying shortened counterexamples
+     * @param minLength
+     *         the minimum length of counterexamples that are shortened. Shorter counterexamples are passed on unchanged
+     *         without posing any queries
+     */
+    public CounterexampleShortener(MembershipOracle<I, D> oracle, int minLength) {
+        this.oracle = oracle;
+        this.minLength = minLength;
+        this.queryCounter = new Counter("Counterexample shortening queries", "#");
+        this.symbolCounter = new Counter("Counterexample shortening symbols", "#");
+        this.removedSymbolCounter = new Counter("Removed counterexample symbols", "#");
+    }
+
+    @Override
+    public DefaultQuery<I, D> filter(A hypothesis, DefaultQuery<I, D> counterexample) {
+        final Word<I> input = counterexample.getInput();
+
+        if (input.length() < minLength) {
+            return counterexample;
+        }
+
+        final long spentQueries = queryCounter.getCount();
+        final long spentSymbols = symbolCounter.getCount();
+
+        DefaultQuery<I, D> result = removeLoops(hypothesis, input);
+        result = trim(hypothesis, result == null ? input : result.getInput(), result);
+
+        final int removedSymbols = result == null ? 0 : input.length() - result.getInput().length();
+        removedSymbolCounter.increment(removedSymbols);
+
+        LOGGER.debug(Category.COUNTEREXAMPLE,
+                     "Removed {} of {} counterexample symbols using {} queries ({} symbols)",
+                     removedSymbols,
+                     input.length(),
+                     queryCounter.getCount() - spentQueries,
+                     symbolCounter.getCount() - spentSymbols);
+
+        return result == null ? counterexample : result;
+    }
+
+    /**
+     * Returns the counter for the number of queries posed for verifying shortened counterexamples.
+     *
+     * @return the query counter
+     */
+    public Counter getQueryCounter() {
+        return queryCounter;
+    }
+
+    /**
+     * Returns the counter for the number of symbols of the queries posed for verifying shortened counterexamples.
+     *
+     * @return the symbol counter
+     */
+    public Counter getSymbolCounter() {
+        return symbolCounter;
+    }
+
+    /**
+     * Returns the counter for the number of symbols removed from counterexamples. Note that this is only a proxy for
+     * the effort saved by shortening (see the class documentation).
+     *
+     * @return the removed symbol counter
+     */
+    public Counter getRemovedSymbolCounter() {
+        return removedSymbolCounter;
+    }
+
+    private @Nullable DefaultQuery<I, D> removeLoops(A hypothesis, Word<I> input) {
+        DefaultQuery<I, D> result = null;
+        Word<I> current = input;
+        DefaultQuery<I, D> next;
+
+        while ((next = findShortestCounterexample(hypothesis, loopCandidates(hypothesis, current))) != null) {
+            result = next;
+            current = next.getInput();
+        }
+
+        return result;
+    }
+
+    private List<Word<I>> loopCandidates(UniversalDeterministicAutomaton<?, I, ?, ?, ?> hypothesis, Word<I> input) {
+        return doLoopCandidates(hypothesis, input);
+    }
+
+    private <S> List<Word<I>> doLoopCandidates(UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
+                                               Word<I> input) {
+        final Map<S, Integer> first = new HashMap<>();
+        final Map<S, Integer> last = new HashMap<>();
+
+        S state = hypothesis.getInitialState();
+        int idx = 0;
+
+        while (state != null) {
+            first.putIfAbsent(state, idx);
+            last.put(state, idx);
+
+            if (idx == input.length()) {
+                break;
+            }
+
+            state = hypothesis.getSuccessor(state, input.getSymbol(idx++));
+        }
+
+        final List<Word<I>> result = new ArrayList<>();
+
+        for (Map.Entry<S, Integer> e : first.entrySet()) {
+            final int from = e.getValue();
+            final int to = last.get(e.getKey());
+            if (from < to) {
+                result.add(input.prefix(from).concat(input.subWord(to)));
+            }
+        }
+
+        return result;
+    }
+
+    private @Nullable DefaultQuery<I, D> trim(A hypothesis, Word<I> input, @Nullable DefaultQuery<I, D> initial) {
+        DefaultQuery<I, D> result = initial;
+        Word<I> current = input;
+        int chunk = current.length() / 2;
+
+        while (chunk > 0) {
+            final List<Word<I>> candidates = new ArrayList<>(2);
+            candidates.add(current.prefix(current.length() - chunk));
+            candidates.add(current.subWord(chunk));
+
+            final DefaultQuery<I, D> next = findShortestCounterexample(hypothesis, candidates);
+
+            if (next == null) {
+                chunk /= 2;
+            } else {
+                result = next;
+                current = next.getInput();
+                chunk = Math.min(chunk, current.length() / 2);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Verifies the given candidates in a single batch and returns the shortest one that is a counterexample for the
+     * given hypothesis (or {@code null} if no candidate is a counterexample). The candidates are sorted by this method.
+     */
+    private @Nullable DefaultQuery<I, D> findShortestCounterexample(A hypothesis, List<Word<I>> candidates) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        candidates.sort(Comparator.comparingInt(Word::length));
+
+        final List<DefaultQuery<I, D>> queries = new ArrayList<>(candidates.size());
+        for (Word<I> c : candidates) {
+            queries.add(new DefaultQuery<>(c));
+            symbolCounter.increment(c.length());
+        }
+
+        queryCounter.increment(queries.size());
+        oracle.processQueries(queries);
+
+        for (DefaultQuery<I, D> q : queries) {
+            if (!Objects.equals(hypothesis.computeOutput(q.getInput()), q.getOutput())) {
+                return q;
+            }
+        }
+
+        return null;
+    }
+}
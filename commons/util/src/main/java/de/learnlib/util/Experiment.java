@@ -16,6 +16,8 @@
 package de.learnlib.util;
 
 import de.learnlib.algorithm.LearningAlgorithm;
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.filter.statistic.Counter;
 import de.learnlib.logging.Category;
 import de.learnlib.oracle.EquivalenceOracle;
@@ -40,6 +42,7 @@ public class Experiment<A extends Object> {
 
     public static final String LEARNING_PROFILE_KEY = "Learning";
     public static final String COUNTEREXAMPLE_PROFILE_KEY = "Searching for counterexample";
+    public static final String COUNTEREXAMPLE_FILTER_PROFILE_KEY = "Filtering counterexample";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Experiment.class);
     private final ExperimentImpl<?, ?> impl;
@@ -51,7 +54,31 @@ public class Experiment<A extends Object> {
     public <I, D> Experiment(LearningAlgorithm<? extends A, I, D> learningAlgorithm,
                              EquivalenceOracle<? super A, I, D> equivalenceAlgorithm,
                              Alphabet<I> inputs) {
-        this.impl = new ExperimentImpl<>(learningAlgorithm, equivalenceAlgorithm, inputs);
+        this(learningAlgorithm, equivalenceAlgorithm, inputs, (hyp, ce) -> ce);
+    }
+
+    /**
+     * Constructor that additionally allows to process counterexamples before they are passed to the learning
+     * algorithm, e.g., via a {@link CounterexampleShortener}.
+     *
+     * @param learningAlgorithm
+     *         the learning algorithm
+     * @param equivalenceAlgorithm
+     *         the equivalence oracle
+     * @param inputs
+     *         the input alphabet
+     * @param counterexampleFilter
+     *         the filter applied to every counterexample of the equivalence oracle
+     * @param <I>
+     *         input symbol type
+     * @param <D>
+     *         output domain type
+     */
+    public <I, D> Experiment(LearningAlgorithm<? extends A, I, D> learningAlgorithm,
+                             EquivalenceOracle<? super A, I, D> equivalenceAlgorithm,
+                             Alphabet<I> inputs,
+                             CounterexampleFilter<? super A, I, D> counterexampleFilter) {
+        this.impl = new ExperimentImpl<>(learningAlgorithm, equivalenceAlgorithm, inputs, counterexampleFilter);
     }
 
     /**
@@ -87,16 +114,18 @@ public class Experiment<A extends Object> {
         return finalHypothesis;
     }
 
-    private void profileStart(String taskname) {
+    private @Nullable Object profileStart(String taskname) {
         if (profile) {
             SimpleProfiler.start(taskname);
         }
+        return Events.begin(EventKind.EXPERIMENT_PHASE);
     }
 
-    private void profileStop(String taskname) {
+    private void profileStop(String taskname, @Nullable Object event) {
         if (profile) {
             SimpleProfiler.stop(taskname);
         }
+        Events.commit(event, taskname, rounds.getCount(), 0);
     }
 
     /**
@@ -133,13 +162,16 @@ public class Experiment<A extends Object> {
         private final LearningAlgorithm<? extends A, I, D> learningAlgorithm;
         private final EquivalenceOracle<? super A, I, D> equivalenceAlgorithm;
         private final Alphabet<I> inputs;
+        private final CounterexampleFilter<? super A, I, D> counterexampleFilter;
 
         ExperimentImpl(LearningAlgorithm<? extends A, I, D> learningAlgorithm,
                        EquivalenceOracle<? super A, I, D> equivalenceAlgorithm,
-                       Alphabet<I> inputs) {
+                       Alphabet<I> inputs,
+                       CounterexampleFilter<? super A, I, D> counterexampleFilter) {
             this.learningAlgorithm = learningAlgorithm;
             this.equivalenceAlgorithm = equivalenceAlgorithm;
             this.inputs = inputs;
+            this.counterexampleFilter = counterexampleFilter;
         }
 
         public A run() {
@@ -147,9 +179,9 @@ public class Experiment<A extends Object> {
             LOGGER.info(Category.PHASE, "Starting round {}", rounds.getCount());
             LOGGER.info(Category.PHASE, "Learning");
 
-            profileStart(LEARNING_PROFILE_KEY);
+            Object phase = profileStart(LEARNING_PROFILE_KEY);
             learningAlgorithm.startLearning();
-            profileStop(LEARNING_PROFILE_KEY);
+            profileStop(LEARNING_PROFILE_KEY, phase);
 
             while (true) {
                 final A hyp = learningAlgorithm.getHypothesisModel();
@@ -160,9 +192,9 @@ public class Experiment<A extends Object> {
 
                 LOGGER.info(Category.PHASE, "Searching for counterexample");
 
-                profileStart(COUNTEREXAMPLE_PROFILE_KEY);
+                phase = profileStart(COUNTEREXAMPLE_PROFILE_KEY);
                 DefaultQuery<I, D> ce = equivalenceAlgorithm.findCounterExample(hyp, inputs);
-                profileStop(COUNTEREXAMPLE_PROFILE_KEY);
+                profileStop(COUNTEREXAMPLE_PROFILE_KEY, phase);
 
                 if (ce == null) {
                     return hyp;
@@ -170,14 +202,18 @@ public class Experiment<A extends Object> {
 
                 LOGGER.info(Category.COUNTEREXAMPLE, ce.getInput().toString());
 
+                phase = profileStart(COUNTEREXAMPLE_FILTER_PROFILE_KEY);
+                ce = counterexampleFilter.filter(hyp, ce);
+                profileStop(COUNTEREXAMPLE_FILTER_PROFILE_KEY, phase);
+
                 // next round ...
                 rounds.increment();
                 LOGGER.info(Category.PHASE, "Starting round {}", rounds.getCount());
                 LOGGER.info(Category.PHASE, "Learning");
 
-                profileStart(LEARNING_PROFILE_KEY);
+                phase = profileStart(LEARNING_PROFILE_KEY);
                 final boolean refined = learningAlgorithm.refineHypothesis(ce);
-                profileStop(LEARNING_PROFILE_KEY);
+                profileStop(LEARNING_PROFILE_KEY, phase);
 
                 assert refined;
             }
@@ -192,6 +228,13 @@ public class Experiment<A extends Object> {
             super(learningAlgorithm, equivalenceAlgorithm, inputs);
         }
 
+        public DFAExperiment(LearningAlgorithm<? extends DFA<?, I>, I, Boolean> learningAlgorithm,
+                             EquivalenceOracle<? super DFA<?, I>, I, Boolean> equivalenceAlgorithm,
+                             Alphabet<I> inputs,
+                             CounterexampleFilter<? super DFA<?, I>, I, Boolean> counterexampleFilter) {
+            super(learningAlgorithm, equivalenceAlgorithm, inputs, counterexampleFilter);
+        }
+
     }
 
     public static class MealyExperiment<I, O> extends Experiment<MealyMachine<?, I, ?, O>> {
@@ -202,6 +245,13 @@ public class Experiment<A extends Object> {
             super(learningAlgorithm, equivalenceAlgorithm, inputs);
         }
 
+        public MealyExperiment(LearningAlgorithm<? extends MealyMachine<?, I, ?, O>, I, Word<O>> learningAlgorithm,
+                               EquivalenceOracle<? super MealyMachine<?, I, ?, O>, I, Word<O>> equivalenceAlgorithm,
+                               Alphabet<I> inputs,
+                               CounterexampleFilter<? super MealyMachine<?, I, ?, O>, I, Word<O>> counterexampleFilter) {
+            super(learningAlgorithm, equivalenceAlgorithm, inputs, counterexampleFilter);
+        }
+
     }
 
     public static class MooreExperiment<I, O> extends Experiment<MooreMachine<?, I, ?, O>> {
@@ -212,6 +262,13 @@ public class Experiment<A extends Object> {
             super(learningAlgorithm, equivalenceAlgorithm, inputs);
         }
 
+        public MooreExperiment(LearningAlgorithm<? extends MooreMachine<?, I, ?, O>, I, Word<O>> learningAlgorithm,
+                               EquivalenceOracle<? super MooreMachine<?, I, ?, O>, I, Word<O>> equivalenceAlgorithm,
+                               Alphabet<I> inputs,
+                               CounterexampleFilter<? super MooreMachine<?, I, ?, O>, I, Word<O>> counterexampleFilter) {
+            super(learningAlgorithm, equivalenceAlgorithm, inputs, counterexampleFilter);
+        }
+
     }
 
 }
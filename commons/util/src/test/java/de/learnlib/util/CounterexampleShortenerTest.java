@@ -0,0 +1,135 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import de.learnlib.oracle.SingleQueryOracle;
+import de.learnlib.query.DefaultQuery;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CounterexampleShortenerTest {
+
+    private static final Alphabet<Character> ALPHABET = Alphabets.characters('a', 'c');
+    private static final int SIZE = 20;
+    private static final int LENGTH = 1000;
+
+    @Test
+    public void testShortening() {
+        final Random random = new Random(42);
+        final CompactMealy<Character, Integer> target =
+                RandomAutomata.randomMealy(random, SIZE, ALPHABET, Arrays.asList(0, 1), true);
+        final CompactMealy<Character, Integer> hyp = new CompactMealy<>(target);
+
+        // introduce a single output difference
+        final Integer state = hyp.getState(Word.fromString("abc"));
+        final Character sym = 'a';
+        Assert.assertNotNull(state);
+        hyp.setTransitionProperty(hyp.getTransition(state, sym), 1 - target.getOutput(state, sym));
+
+        final SingleQueryOracle<Character, Word<Integer>> oracle = target::computeSuffixOutput;
+        final CounterexampleShortener<MealyMachine<?, Character, ?, Integer>, Character, Word<Integer>> shortener =
+                new CounterexampleShortener<>(oracle);
+
+        final DefaultQuery<Character, Word<Integer>> ce = randomCounterexample(random, target, hyp);
+        final DefaultQuery<Character, Word<Integer>> shortened = shortener.filter(hyp, ce);
+
+        Assert.assertEquals(shortened.getOutput(), target.computeOutput(shortened.getInput()));
+        Assert.assertNotEquals(shortened.getOutput(), hyp.computeOutput(shortened.getInput()));
+
+        // the hypothesis only differs in a single output, so all loops can be removed
+        Assert.assertTrue(shortened.getInput().length() <= hyp.size());
+
+        Assert.assertTrue(shortener.getQueryCounter().getCount() > 0);
+        Assert.assertTrue(shortener.getSymbolCounter().getCount() > 0);
+        Assert.assertEquals(shortener.getRemovedSymbolCounter().getCount(),
+                            ce.getInput().length() - shortened.getInput().length());
+    }
+
+    @Test
+    public void testMinimalCounterexample() {
+        final Random random = new Random(42);
+        final CompactMealy<Character, Integer> target =
+                RandomAutomata.randomMealy(random, SIZE, ALPHABET, Arrays.asList(0, 1), true);
+        final CompactMealy<Character, Integer> hyp = new CompactMealy<>(target);
+        final Integer init = hyp.getInitialState();
+        final Character sym = 'a';
+        hyp.setTransitionProperty(hyp.getTransition(init, sym), 1 - target.getOutput(init, sym));
+
+        final SingleQueryOracle<Character, Word<Integer>> oracle = target::computeSuffixOutput;
+        final CounterexampleShortener<MealyMachine<?, Character, ?, Integer>, Character, Word<Integer>> shortener =
+                new CounterexampleShortener<>(oracle);
+
+        final Word<Character> input = Word.fromLetter(sym);
+        final DefaultQuery<Character, Word<Integer>> ce = new DefaultQuery<>(input, target.computeOutput(input));
+
+        // counterexamples that cannot be shortened are returned as-is
+        Assert.assertSame(shortener.filter(hyp, ce), ce);
+        Assert.assertEquals(shortener.getRemovedSymbolCounter().getCount(), 0);
+    }
+
+    @Test
+    public void testMinLength() {
+        final Random random = new Random(42);
+        final CompactMealy<Character, Integer> target =
+                RandomAutomata.randomMealy(random, SIZE, ALPHABET, Arrays.asList(0, 1), true);
+        final CompactMealy<Character, Integer> hyp = new CompactMealy<>(target);
+
+        final Integer state = hyp.getState(Word.fromString("abc"));
+        final Character sym = 'a';
+        Assert.assertNotNull(state);
+        hyp.setTransitionProperty(hyp.getTransition(state, sym), 1 - target.getOutput(state, sym));
+
+        final SingleQueryOracle<Character, Word<Integer>> oracle = target::computeSuffixOutput;
+        final CounterexampleShortener<MealyMachine<?, Character, ?, Integer>, Character, Word<Integer>> shortener =
+                new CounterexampleShortener<>(oracle, LENGTH + 1);
+
+        final DefaultQuery<Character, Word<Integer>> ce = randomCounterexample(random, target, hyp);
+
+        // counterexamples below the threshold are returned as-is without posing any queries
+        Assert.assertSame(shortener.filter(hyp, ce), ce);
+        Assert.assertEquals(shortener.getQueryCounter().getCount(), 0);
+        Assert.assertEquals(shortener.getSymbolCounter().getCount(), 0);
+        Assert.assertEquals(shortener.getRemovedSymbolCounter().getCount(), 0);
+    }
+
+    private static DefaultQuery<Character, Word<Integer>> randomCounterexample(Random random,
+                                                                               CompactMealy<Character, Integer> target,
+                                                                               CompactMealy<Character, Integer> hyp) {
+        while (true) {
+            final WordBuilder<Character> wb = new WordBuilder<>(LENGTH);
+            for (int i = 0; i < LENGTH; i++) {
+                wb.append(ALPHABET.getSymbol(random.nextInt(ALPHABET.size())));
+            }
+
+            final Word<Character> input = wb.toWord();
+            final Word<Integer> output = target.computeOutput(input);
+
+            if (!output.equals(hyp.computeOutput(input))) {
+                return new DefaultQuery<>(input, output);
+            }
+        }
+    }
+}
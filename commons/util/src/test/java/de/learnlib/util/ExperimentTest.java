@@ -15,7 +15,9 @@
  */
 package de.learnlib.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Random;
 
 import de.learnlib.algorithm.LearningAlgorithm.DFALearner;
@@ -69,6 +71,50 @@ public class ExperimentTest {
         Assert.assertNotNull(SimpleProfiler.cumulated(Experiment.COUNTEREXAMPLE_PROFILE_KEY));
     }
 
+    @Test
+    public void testCounterexampleFilter() {
+
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+        final CompactDFA<Character> target = RandomAutomata.randomDFA(RANDOM, 5, alphabet);
+        final CompactDFA<Character> intermediateTarget = RandomAutomata.randomDFA(RANDOM, target.size() - 1, alphabet);
+
+        final MockUpLearner<Character> learner = new MockUpLearner<>(target, intermediateTarget);
+        final DFAEquivalenceOracle<Character> eq = new MockUpOracle<>(intermediateTarget);
+        final DefaultQuery<Character, Boolean> filtered = new DefaultQuery<>(Word.fromLetter('a'), true);
+        final List<DefaultQuery<Character, Boolean>> refinements = new ArrayList<>();
+
+        final DFALearner<Character> recordingLearner = new DFALearner<Character>() {
+
+            @Override
+            public void startLearning() {
+                learner.startLearning();
+            }
+
+            @Override
+            public boolean refineHypothesis(DefaultQuery<Character, Boolean> ceQuery) {
+                refinements.add(ceQuery);
+                return learner.refineHypothesis(ceQuery);
+            }
+
+            @Override
+            public DFA<?, Character> getHypothesisModel() {
+                return learner.getHypothesisModel();
+            }
+        };
+
+        final DFAExperiment<Character> experiment = new DFAExperiment<>(recordingLearner, eq, alphabet, (hyp, ce) -> {
+            Assert.assertSame(hyp, intermediateTarget);
+            return filtered;
+        });
+
+        Assert.assertSame(experiment.run(), target);
+        Assert.assertEquals(refinements.size(), REFINEMENT_STEPS);
+
+        for (DefaultQuery<Character, Boolean> ce : refinements) {
+            Assert.assertSame(ce, filtered);
+        }
+    }
+
     private static final class MockUpLearner<I> implements DFALearner<I> {
 
         private final DFA<?, I> targetModel;
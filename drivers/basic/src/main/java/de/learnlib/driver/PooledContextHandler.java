@@ -0,0 +1,156 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.learnlib.sul.ContextHandler;
+import de.learnlib.sul.ResettableContextHandler;
+
+/**
+ * A {@link ContextHandler} that keeps a bounded pool of idle contexts of a {@link ResettableContextHandler}. Instead of
+ * disposing a context after a query, the context is {@link ResettableContextHandler#resetContext(Object) reset} and
+ * returned to the pool, from which it is re-used (after a {@link ResettableContextHandler#validateContext(Object)
+ * health check}) by subsequent queries. Contexts that cannot be reset, fail the health check, or exceed the capacity of
+ * the pool are disposed.
+ * <p>
+ * This class is thread-safe, so that a single instance can be shared by multiple (forked) SULs, e.g., of a
+ * {@link ContextExecutableInputSUL} in parallel oracles. Note that the capacity only bounds the number of idle
+ * contexts, i.e., new contexts are created if the pool is empty. Idle contexts can be disposed via {@link #clear()}.
+ *
+ * @param <C>
+ *         context type
+ */
+public class PooledContextHandler<C> implements ContextHandler<C> {
+
+    private final ResettableContextHandler<C> delegate;
+    private final BlockingQueue<C> pool;
+
+    private final AtomicLong created;
+    private final AtomicLong reused;
+    private final AtomicLong discarded;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate
+     *         the handler for creating, resetting, and disposing contexts
+     * @param capacity
+     *         the maximum number of idle contexts (must be positive)
+     */
+    public PooledContextHandler(ResettableContextHandler<C> delegate, int capacity) {
+        this.delegate = delegate;
+        this.pool = new ArrayBlockingQueue<>(capacity);
+        this.created = new AtomicLong();
+        this.reused = new AtomicLong();
+        this.discarded = new AtomicLong();
+    }
+
+    @Override
+    public C createContext() {
+        C context;
+
+        while ((context = pool.poll()) != null) {
+            if (isValid(context)) {
+                reused.incrementAndGet();
+                return context;
+            }
+            discard(context);
+        }
+
+        created.incrementAndGet();
+        return delegate.createContext();
+    }
+
+    @Override
+    public void disposeContext(C context) {
+        if (!reset(context) || !pool.offer(context)) {
+            discard(context);
+        }
+    }
+
+    /**
+     * Disposes all idle contexts of the pool. Contexts that are currently in use are not affected.
+     */
+    public void clear() {
+        C context;
+        while ((context = pool.poll()) != null) {
+            delegate.disposeContext(context);
+        }
+    }
+
+    /**
+     * Returns the number of contexts that have been created by the delegate.
+     *
+     * @return the number of created contexts
+     */
+    public long getCreatedContexts() {
+        return created.get();
+    }
+
+    /**
+     * Returns the number of queries that re-used a pooled context.
+     *
+     * @return the number of re-used contexts
+     */
+    public long getReusedContexts() {
+        return reused.get();
+    }
+
+    /**
+     * Returns the number of contexts that have been disposed because they could not be reset, failed the health check,
+     * or exceeded the capacity of the pool. Contexts disposed via {@link #clear()} are not counted.
+     *
+     * @return the number of discarded contexts
+     */
+    public long getDiscardedContexts() {
+        return discarded.get();
+    }
+
+    /**
+     * Returns the number of idle contexts that are currently pooled.
+     *
+     * @return the number of idle contexts
+     */
+    public int getIdleContexts() {
+        return pool.size();
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // a broken context should not break the pool
+    private boolean reset(C context) {
+        try {
+            return delegate.resetContext(context);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // a broken context should not break the pool
+    private boolean isValid(C context) {
+        try {
+            return delegate.validateContext(context);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void discard(C context) {
+        discarded.incrementAndGet();
+        delegate.disposeContext(context);
+    }
+}
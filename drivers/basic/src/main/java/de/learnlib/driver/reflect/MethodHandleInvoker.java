@@ -0,0 +1,42 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver.reflect;
+
+import java.lang.invoke.MethodHandle;
+
+import de.learnlib.exception.SULException;
+
+/**
+ * Executes the method handles compiled by {@link MethodInvokers}. This is the only place of the driver that catches
+ * arbitrary {@link Throwable}s (as thrown by {@link MethodHandle#invokeExact(Object...)}).
+ */
+final class MethodHandleInvoker {
+
+    private MethodHandleInvoker() {
+        // prevent instantiation
+    }
+
+    // the cast is required for the exact (signature-polymorphic) invocation
+    // and we want to map any (target) exception to a SULException
+    @SuppressWarnings({"PMD.UnnecessaryCast", "PMD.AvoidCatchingThrowable"})
+    static Object invoke(MethodHandle invoker, Object context) {
+        try {
+            return (Object) invoker.invokeExact(context);
+        } catch (Throwable t) {
+            throw new SULException(t);
+        }
+    }
+}
@@ -15,37 +15,51 @@
  */
 package de.learnlib.driver.reflect;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import de.learnlib.exception.SULException;
 import de.learnlib.sul.ContextExecutableInput;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * An input symbol that represents a call to a method with a specific set of parameters.
+ * <p>
+ * Upon construction, the method call (including its parameters) is compiled into a {@link MethodHandle} of type
+ * {@code (Object)Object}, so that each {@link #execute(Object) execution} only requires a single
+ * {@link MethodHandle#invokeExact(Object...) exact invocation} instead of a (reflective) {@link Method#invoke(Object,
+ * Object...)} call with access and argument checks. If the method is not accessible for a method handle lookup (e.g.,
+ * because it is not public and has not been made {@link Method#setAccessible(boolean) accessible}), this input falls
+ * back to reflective invocations. Return values are wrapped via {@link ReturnValue#of(Object)}, which re-uses
+ * instances for common values.
  */
 public class MethodInput implements ContextExecutableInput<MethodOutput, Object> {
 
     private final String displayName;
     private final Method method;
     private final Object[] parameters;
+    private final boolean isVoid;
+    private final @Nullable MethodHandle invoker;
 
     public MethodInput(String displayName, Method method, Object[] parameters) {
         this.displayName = displayName;
         this.method = method;
         this.parameters = parameters;
+        this.isVoid = Void.TYPE.equals(method.getReturnType());
+        this.invoker = MethodInvokers.compile(method, parameters);
     }
 
-    @SuppressWarnings("PMD.PreserveStackTrace")
     @Override
     public MethodOutput execute(Object context) {
+        final Object ret = invoker == null ? invokeReflectively(context) : MethodHandleInvoker.invoke(invoker, context);
+        return isVoid ? VoidOutput.INSTANCE : ReturnValue.of(ret);
+    }
+
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private Object invokeReflectively(Object context) {
         try {
-            final Object ret = this.method.invoke(context, parameters);
-            if (Void.TYPE.equals(this.method.getReturnType())) {
-                return VoidOutput.INSTANCE;
-            } else {
-                return new ReturnValue<>(ret);
-            }
+            return this.method.invoke(context, parameters);
         } catch (IllegalAccessException | IllegalArgumentException e) {
             throw new SULException(e);
         } catch (InvocationTargetException e) {
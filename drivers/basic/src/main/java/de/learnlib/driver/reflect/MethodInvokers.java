@@ -0,0 +1,88 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Utility methods for compiling method calls of {@link MethodInput}s into {@link MethodHandle}s.
+ */
+final class MethodInvokers {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private MethodInvokers() {
+        // prevent instantiation
+    }
+
+    /**
+     * Compiles the given method call into a method handle of type {@code (Object)Object} that receives the context
+     * object, or returns {@code null} if the method call cannot be compiled.
+     */
+    static @Nullable MethodHandle compile(Method method, Object[] parameters) {
+        if (Modifier.isStatic(method.getModifiers()) || method.isVarArgs() ||
+            method.getParameterCount() != parameters.length) {
+            // rare cases, in which we rely on the semantics of reflective invocations
+            return null;
+        }
+
+        final MethodHandle handle = unreflect(method);
+
+        if (handle == null) {
+            return null;
+        }
+
+        try {
+            return MethodHandles.insertArguments(handle, 1, parameters).asType(INVOKER_TYPE);
+        } catch (ClassCastException | IllegalArgumentException | WrongMethodTypeException e) {
+            // incompatible parameters, reflective invocations report the error when executed
+            return null;
+        }
+    }
+
+    // suppressing the access checks on public methods does not grant any new access and the
+    // (Java 9+) InaccessibleObjectException can only be caught generically
+    @SuppressWarnings({"PMD.AvoidAccessibilityAlteration", "PMD.AvoidCatchingGenericException"})
+    private static @Nullable MethodHandle unreflect(Method method) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            // method handle lookups (in contrast to reflection) may require this module to read the declaring module
+            final Class<?> declaringClass = method.getDeclaringClass();
+            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())) {
+                return null;
+            }
+        }
+
+        // fall back to a copy of the method without access checks (for public methods, this grants no new access)
+        try {
+            final Method copy = method.getDeclaringClass().getMethod(method.getName(), method.getParameterTypes());
+            copy.setAccessible(true);
+            return lookup.unreflect(copy);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -21,18 +21,62 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A (non-empty) output of a method call.
+ * <p>
+ * Instances for common return values ({@code null}, booleans, and small integers) are interned by
+ * {@link #of(Object)}, so that frequently observed outputs do not require new objects.
  *
  * @param <T>
  *         return value type
  */
 public final class ReturnValue<T> extends MethodOutput {
 
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 127;
+
+    private static final ReturnValue<?> NULL = new ReturnValue<>(null);
+    private static final ReturnValue<Boolean> TRUE = new ReturnValue<>(Boolean.TRUE);
+    private static final ReturnValue<Boolean> FALSE = new ReturnValue<>(Boolean.FALSE);
+    private static final ReturnValue<?>[] INTEGERS = new ReturnValue<?>[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = new ReturnValue<>(i + CACHE_LOW);
+        }
+    }
+
     private final T ret;
 
     public ReturnValue(T ret) {
         this.ret = ret;
     }
 
+    /**
+     * Returns a {@link ReturnValue} for the given value. For common values ({@code null}, booleans, and integers
+     * between {@code -128} and {@code 127}) a shared instance is returned, for all other values a new instance is
+     * created.
+     *
+     * @param ret
+     *         the return value
+     * @param <T>
+     *         return value type
+     *
+     * @return the (possibly shared) {@link ReturnValue} for the given value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ReturnValue<T> of(T ret) {
+        if (ret == null) {
+            return (ReturnValue<T>) NULL;
+        } else if (ret instanceof Boolean) {
+            return (ReturnValue<T>) ((Boolean) ret ? TRUE : FALSE);
+        } else if (ret instanceof Integer) {
+            final int value = (Integer) ret;
+            if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+                return (ReturnValue<T>) INTEGERS[value - CACHE_LOW];
+            }
+        }
+        return new ReturnValue<>(ret);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hashCode(this.ret);
@@ -19,6 +19,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
 import de.learnlib.driver.ContextExecutableInputSUL;
+import de.learnlib.driver.PooledContextHandler;
+import de.learnlib.sul.ContextHandler;
 import de.learnlib.sul.SUL;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.GrowingAlphabet;
@@ -29,6 +31,10 @@ import net.automatalib.common.util.ReflectUtil;
  * A test driver for plain old java objects. Given a constructor of a Java {@link Class}, this {@link SUL} creates
  * objects of the respective class and invokes methods on these objects as specified in the respective
  * {@link #addInput(String, Method, Object...) addInput} methods.
+ * <p>
+ * By default, a new object is constructed for each query. If objects are expensive to construct but can be reset, a
+ * custom {@link ContextHandler} (e.g., a {@link PooledContextHandler}) can be provided via
+ * {@link #SimplePOJOTestDriver(Class, ContextHandler)} to re-use objects across queries.
  */
 public final class SimplePOJOTestDriver extends ContextExecutableInputSUL<MethodInput, MethodOutput, Object> {
 
@@ -40,8 +46,20 @@ public final class SimplePOJOTestDriver extends ContextExecutableInputSUL<Method
     }
 
     public SimplePOJOTestDriver(Constructor<?> c, Object... cParams) {
-        super(new InstanceConstructor(c, cParams));
-        this.instanceClass = c.getDeclaringClass();
+        this(c.getDeclaringClass(), new InstanceConstructor(c, cParams));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param c
+     *         the class of the objects on which methods are invoked
+     * @param contextHandler
+     *         the handler for providing (and disposing of) the objects of class {@code c} for each query
+     */
+    public SimplePOJOTestDriver(Class<?> c, ContextHandler<Object> contextHandler) {
+        super(contextHandler);
+        this.instanceClass = c;
         this.inputs = new GrowingMapAlphabet<>();
     }
 
@@ -0,0 +1,209 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.learnlib.driver.reflect.MethodInput;
+import de.learnlib.driver.reflect.MethodOutput;
+import de.learnlib.driver.reflect.ReturnValue;
+import de.learnlib.driver.reflect.SimplePOJOTestDriver;
+import de.learnlib.sul.ContextExecutableInput;
+import de.learnlib.sul.ResettableContextHandler;
+import de.learnlib.sul.SUL;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PooledContextHandlerTest {
+
+    private static final ContextExecutableInput<Integer, List<Integer>> ADD = ctx -> {
+        ctx.add(ctx.size());
+        return ctx.size();
+    };
+
+    @Test
+    public void testReuse() {
+        final ListHandler handler = new ListHandler();
+        final PooledContextHandler<List<Integer>> pool = new PooledContextHandler<>(handler, 1);
+        final ContextExecutableInputSUL<ContextExecutableInput<Integer, List<Integer>>, Integer, List<Integer>> sul =
+                new ContextExecutableInputSUL<>(pool);
+
+        for (int i = 0; i < 3; i++) {
+            sul.pre();
+            Assert.assertEquals(sul.step(ADD).intValue(), 1);
+            Assert.assertEquals(sul.step(ADD).intValue(), 2);
+            sul.post();
+        }
+
+        Assert.assertEquals(handler.created.get(), 1);
+        Assert.assertEquals(pool.getCreatedContexts(), 1);
+        Assert.assertEquals(pool.getReusedContexts(), 2);
+        Assert.assertEquals(pool.getIdleContexts(), 1);
+
+        pool.clear();
+        Assert.assertEquals(pool.getIdleContexts(), 0);
+        Assert.assertEquals(handler.disposed.get(), 1);
+        Assert.assertEquals(pool.getDiscardedContexts(), 0);
+    }
+
+    @Test
+    public void testHealthChecks() {
+        final ListHandler handler = new ListHandler();
+        final PooledContextHandler<List<Integer>> pool = new PooledContextHandler<>(handler, 1);
+
+        // contexts that fail to reset are discarded
+        List<Integer> context = pool.createContext();
+        context.add(ListHandler.BROKEN);
+        pool.disposeContext(context);
+        Assert.assertEquals(pool.getIdleContexts(), 0);
+        Assert.assertEquals(pool.getDiscardedContexts(), 1);
+
+        // invalid contexts are discarded when borrowed
+        context = pool.createContext();
+        pool.disposeContext(context);
+        Assert.assertEquals(pool.getIdleContexts(), 1);
+        handler.valid = false;
+        Assert.assertNotSame(pool.createContext(), context);
+        Assert.assertEquals(pool.getDiscardedContexts(), 2);
+        Assert.assertEquals(pool.getReusedContexts(), 0);
+
+        // contexts exceeding the capacity are discarded
+        handler.valid = true;
+        final List<Integer> c1 = pool.createContext();
+        final List<Integer> c2 = pool.createContext();
+        pool.disposeContext(c1);
+        pool.disposeContext(c2);
+        Assert.assertEquals(pool.getIdleContexts(), 1);
+        Assert.assertEquals(pool.getDiscardedContexts(), 3);
+        Assert.assertEquals(handler.created.get(), 5);
+        Assert.assertEquals(handler.disposed.get(), 3);
+    }
+
+    @Test
+    public void testForks() throws Exception {
+        final int threads = 4;
+        final int queries = 100;
+
+        final ListHandler handler = new ListHandler();
+        final PooledContextHandler<List<Integer>> pool = new PooledContextHandler<>(handler, threads);
+        final ContextExecutableInputSUL<ContextExecutableInput<Integer, List<Integer>>, Integer, List<Integer>> sul =
+                new ContextExecutableInputSUL<>(pool);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> futures = new ArrayList<>(threads);
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                final SUL<ContextExecutableInput<Integer, List<Integer>>, Integer> fork = sul.fork();
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < queries; i++) {
+                        fork.pre();
+                        Assert.assertEquals(fork.step(ADD).intValue(), 1);
+                        fork.post();
+                    }
+                }));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertTrue(handler.created.get() <= threads);
+        Assert.assertEquals(pool.getCreatedContexts() + pool.getReusedContexts(), threads * queries);
+        Assert.assertEquals(pool.getIdleContexts(), handler.created.get());
+    }
+
+    @Test
+    public void testPOJODriver() throws Exception {
+        final ResettableContextHandler<Object> handler = new ResettableContextHandler<Object>() {
+
+            @Override
+            public boolean resetContext(Object context) {
+                ((List<?>) context).clear();
+                return true;
+            }
+
+            @Override
+            public Object createContext() {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public void disposeContext(Object context) {
+                // do nothing
+            }
+        };
+
+        final PooledContextHandler<Object> pool = new PooledContextHandler<>(handler, 1);
+        final SimplePOJOTestDriver driver = new SimplePOJOTestDriver(ArrayList.class, pool);
+        final MethodInput add = driver.addInput("add", "add", "a");
+        final MethodInput size = driver.addInput("size", "size");
+
+        for (int i = 0; i < 3; i++) {
+            driver.pre();
+            Assert.assertEquals(driver.step(size), ReturnValue.of(0));
+            Assert.assertEquals(driver.step(add), ReturnValue.of(true));
+            final MethodOutput output = driver.step(size);
+            Assert.assertEquals(output, ReturnValue.of(1));
+            driver.post();
+        }
+
+        Assert.assertEquals(pool.getCreatedContexts(), 1);
+        Assert.assertEquals(pool.getReusedContexts(), 2);
+    }
+
+    private static final class ListHandler implements ResettableContextHandler<List<Integer>> {
+
+        static final int BROKEN = -1;
+
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger disposed = new AtomicInteger();
+        private volatile boolean valid = true;
+
+        @Override
+        public List<Integer> createContext() {
+            created.incrementAndGet();
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void disposeContext(List<Integer> context) {
+            disposed.incrementAndGet();
+        }
+
+        @Override
+        public boolean resetContext(List<Integer> context) {
+            if (context.contains(BROKEN)) {
+                throw new IllegalStateException();
+            }
+            context.clear();
+            return true;
+        }
+
+        @Override
+        public boolean validateContext(List<Integer> context) {
+            return valid;
+        }
+    }
+}
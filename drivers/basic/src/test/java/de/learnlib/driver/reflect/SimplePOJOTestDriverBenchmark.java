@@ -0,0 +1,74 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver.reflect;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Compares the throughput of the {@link SimplePOJOTestDriver} (whose {@link MethodInput}s are compiled into method
+ * handles) with reflective invocations of the same methods. This is a standalone benchmark (not executed as part of
+ * the unit tests) that can be run via its {@link #main(String[]) main} method, e.g., from within an IDE.
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public final class SimplePOJOTestDriverBenchmark {
+
+    private static final int STEPS = 500_000;
+    private static final int ROUNDS = 5;
+
+    private SimplePOJOTestDriverBenchmark() {
+        // prevent instantiation
+    }
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        final SimplePOJOTestDriver driver = new SimplePOJOTestDriver(LinkedBlockingDeque.class);
+        final MethodInput push = driver.addInput("push", "offerFirst", 1);
+        final MethodInput pop = driver.addInput("pop", "pollFirst");
+
+        final Method offerFirst = LinkedBlockingDeque.class.getMethod("offerFirst", Object.class);
+        final Method pollFirst = LinkedBlockingDeque.class.getMethod("pollFirst");
+        final Object[] pushParams = {1};
+        final Object[] noParams = {};
+
+        // the first round serves as a warm-up
+        for (int round = 0; round < ROUNDS; round++) {
+            driver.pre();
+            long start = System.nanoTime();
+            for (int i = 0; i < STEPS; i++) {
+                driver.step(push);
+                driver.step(pop);
+            }
+            final long compiled = System.nanoTime() - start;
+            driver.post();
+
+            final LinkedBlockingDeque<Object> deque = new LinkedBlockingDeque<>();
+            MethodOutput output = null;
+            start = System.nanoTime();
+            for (int i = 0; i < STEPS; i++) {
+                output = new ReturnValue<>(offerFirst.invoke(deque, pushParams));
+                output = new ReturnValue<>(pollFirst.invoke(deque, noParams));
+            }
+            final long reflective = System.nanoTime() - start;
+
+            if (round > 0) {
+                System.out.printf("Steps/s: method handles %.0f, reflection %.0f (last output: %s)%n",
+                                  2e9 * STEPS / compiled,
+                                  2e9 * STEPS / reflective,
+                                  output);
+            }
+        }
+    }
+}
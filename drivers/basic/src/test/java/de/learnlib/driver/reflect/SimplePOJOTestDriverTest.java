@@ -16,6 +16,7 @@
 package de.learnlib.driver.reflect;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.concurrent.LinkedBlockingDeque;
 
 import de.learnlib.exception.SULException;
@@ -65,4 +66,38 @@ public class SimplePOJOTestDriverTest {
         driver.post();
     }
 
+    @Test
+    public void testDriverWithPrimitives() throws Exception {
+
+        final SimplePOJOTestDriver driver = new SimplePOJOTestDriver(ArrayList.class);
+
+        final MethodInput add = driver.addInput("add", "add", "a");
+        final MethodInput get0 = driver.addInput("get_0", "get", 0);
+        final MethodInput get1 = driver.addInput("get_1", "get", 1);
+        final MethodInput size = driver.addInput("size", "size");
+        final MethodInput clear = driver.addInput("clear", "clear");
+
+        driver.pre();
+        Assert.assertEquals(driver.step(add), new ReturnValue<>(true));
+        Assert.assertEquals(driver.step(size), new ReturnValue<>(1));
+        Assert.assertEquals(driver.step(get0), new ReturnValue<>("a"));
+        Assert.assertEquals(driver.step(clear), VoidOutput.INSTANCE);
+
+        final SULException ex = Assert.expectThrows(SULException.class, () -> driver.step(get1));
+        Assert.assertTrue(ex.getCause() instanceof IndexOutOfBoundsException);
+        driver.post();
+    }
+
+    @Test
+    public void testInterning() {
+        Assert.assertSame(ReturnValue.of(null), ReturnValue.of(null));
+        Assert.assertSame(ReturnValue.of(true), ReturnValue.of(Boolean.TRUE));
+        Assert.assertSame(ReturnValue.of(-128), ReturnValue.of(-128));
+        Assert.assertSame(ReturnValue.of(127), ReturnValue.of(127));
+
+        Assert.assertEquals(ReturnValue.of(false), new ReturnValue<>(false));
+        Assert.assertEquals(ReturnValue.of(1000), new ReturnValue<>(1000));
+        Assert.assertEquals(ReturnValue.of("a"), new ReturnValue<>("a"));
+    }
+
 }
@@ -0,0 +1,105 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.mapper;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A thread-safe, size-bounded cache for the results of a (pure) mapping function. If the capacity is reached, an
+ * arbitrary entry is evicted before a new one is inserted. {@code null} keys are never cached, {@code null} values are
+ * cached.
+ *
+ * @param <K>
+ *         key type
+ * @param <V>
+ *         value type
+ */
+final class MappingCache<K, V> {
+
+    private static final Object NULL = new Object();
+
+    private final int capacity;
+    private final Map<K, Object> cache;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    MappingCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, but was " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.cache = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(@Nullable K key, Function<? super K, ? extends V> mapping) {
+        if (key == null) {
+            // do not cache
+            misses.increment();
+            return mapping.apply(null);
+        }
+
+        final Object cached = cache.get(key);
+
+        if (cached != null) {
+            hits.increment();
+            return cached == NULL ? null : (V) cached;
+        }
+
+        misses.increment();
+        final V value = mapping.apply(key);
+
+        if (cache.size() >= capacity) {
+            evict();
+        }
+        cache.putIfAbsent(key, value == null ? NULL : value);
+
+        return value;
+    }
+
+    private void evict() {
+        final Iterator<K> iter = cache.keySet().iterator();
+        if (iter.hasNext()) {
+            iter.next();
+            iter.remove();
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,158 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.mapper;
+
+import de.learnlib.exception.MappedException;
+import de.learnlib.exception.SULException;
+import de.learnlib.sul.SULMapper;
+
+/**
+ * A {@link SULMapper} that memoizes the {@link #mapInput(Object) input} and {@link #mapOutput(Object) output} mappings
+ * of a delegate mapper in size-bounded caches. This is useful for mappers whose mapping functions are costly (e.g.,
+ * parsing or canonicalizing messages) but frequently applied to the same symbols.
+ * <p>
+ * Note that memoization requires the mapping functions of the delegate to be pure, i.e., their results must only depend
+ * on the given symbol and not on the state of the mapper (e.g., previous steps). The remaining methods ({@link #pre()},
+ * {@link #post()}, and the exception mappings) are always forwarded to the delegate.
+ * <p>
+ * {@link #fork() Forks} of this mapper use a fork of the delegate but share the (thread-safe) caches and statistics of
+ * this mapper, so that parallel SUL instances benefit from each other's mappings.
+ *
+ * @param <AI>
+ *         abstract input symbol type.
+ * @param <AO>
+ *         abstract output symbol type.
+ * @param <CI>
+ *         concrete input symbol type.
+ * @param <CO>
+ *         concrete output symbol type.
+ *
+ * @see SULMappers#memoize(SULMapper, int)
+ */
+public final class MemoizingSULMapper<AI, AO, CI, CO> implements SULMapper<AI, AO, CI, CO> {
+
+    private final SULMapper<? super AI, ? extends AO, ? extends CI, ? super CO> delegate;
+    private final MappingCache<AI, CI> inputCache;
+    private final MappingCache<CO, AO> outputCache;
+
+    MemoizingSULMapper(SULMapper<? super AI, ? extends AO, ? extends CI, ? super CO> delegate, int capacity) {
+        this(delegate, new MappingCache<>(capacity), new MappingCache<>(capacity));
+    }
+
+    private MemoizingSULMapper(SULMapper<? super AI, ? extends AO, ? extends CI, ? super CO> delegate,
+                               MappingCache<AI, CI> inputCache,
+                               MappingCache<CO, AO> outputCache) {
+        this.delegate = delegate;
+        this.inputCache = inputCache;
+        this.outputCache = outputCache;
+    }
+
+    @Override
+    public void pre() {
+        delegate.pre();
+    }
+
+    @Override
+    public void post() {
+        delegate.post();
+    }
+
+    @Override
+    public CI mapInput(AI abstractInput) {
+        return inputCache.get(abstractInput, delegate::mapInput);
+    }
+
+    @Override
+    public AO mapOutput(CO concreteOutput) {
+        return outputCache.get(concreteOutput, delegate::mapOutput);
+    }
+
+    @Override
+    public MappedException<? extends AO> mapWrappedException(SULException exception) {
+        return delegate.mapWrappedException(exception);
+    }
+
+    @Override
+    public MappedException<? extends AO> mapUnwrappedException(RuntimeException exception) {
+        return delegate.mapUnwrappedException(exception);
+    }
+
+    @Override
+    public boolean canFork() {
+        return delegate.canFork();
+    }
+
+    @Override
+    public MemoizingSULMapper<AI, AO, CI, CO> fork() {
+        return new MemoizingSULMapper<>(delegate.fork(), inputCache, outputCache);
+    }
+
+    /**
+     * Clears the caches (of this mapper and all of its forks). The statistics are not reset.
+     */
+    public void clear() {
+        inputCache.clear();
+        outputCache.clear();
+    }
+
+    public long getInputHits() {
+        return inputCache.getHits();
+    }
+
+    public long getInputMisses() {
+        return inputCache.getMisses();
+    }
+
+    public long getOutputHits() {
+        return outputCache.getHits();
+    }
+
+    public long getOutputMisses() {
+        return outputCache.getMisses();
+    }
+
+    /**
+     * Returns the ratio of input mappings that have been answered by the cache.
+     *
+     * @return the hit rate of the input cache (between {@code 0} and {@code 1})
+     */
+    public double getInputHitRate() {
+        return hitRate(getInputHits(), getInputMisses());
+    }
+
+    /**
+     * Returns the ratio of output mappings that have been answered by the cache.
+     *
+     * @return the hit rate of the output cache (between {@code 0} and {@code 1})
+     */
+    public double getOutputHitRate() {
+        return hitRate(getOutputHits(), getOutputMisses());
+    }
+
+    private static double hitRate(long hits, long misses) {
+        final long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Input cache: %d hits, %d misses; output cache: %d hits, %d misses",
+                             getInputHits(),
+                             getInputMisses(),
+                             getOutputHits(),
+                             getOutputMisses());
+    }
+}
@@ -32,6 +32,31 @@ public final class SULMappers {
         return new SULMapperComposition<>(outerMapper, innerMapper);
     }
 
+    /**
+     * Wraps the given mapper in a {@link MemoizingSULMapper} that caches the results of its (pure) input and output
+     * mapping functions.
+     *
+     * @param mapper
+     *         the mapper to memoize
+     * @param capacity
+     *         the maximum number of cached mappings (per direction), must be positive
+     * @param <AI>
+     *         abstract input symbol type.
+     * @param <AO>
+     *         abstract output symbol type.
+     * @param <CI>
+     *         concrete input symbol type.
+     * @param <CO>
+     *         concrete output symbol type.
+     *
+     * @return the memoizing mapper
+     */
+    public static <AI, AO, CI, CO> MemoizingSULMapper<AI, AO, CI, CO> memoize(
+            SULMapper<? super AI, ? extends AO, ? extends CI, ? super CO> mapper,
+            int capacity) {
+        return new MemoizingSULMapper<>(mapper, capacity);
+    }
+
     public static <AI, AO, CI, CO> SUL<AI, AO> apply(SULMapper<? super AI, ? extends AO, CI, CO> mapper,
                                                      SUL<? super CI, ? extends CO> sul) {
         return new MappedSUL<>(mapper, sul);
@@ -0,0 +1,176 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.mapper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.learnlib.sul.SUL;
+import de.learnlib.sul.SULMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class MemoizingSULMapperTest {
+
+    @Test
+    public void testMemoization() {
+        final CountingMapper mapper = new CountingMapper();
+        final MemoizingSULMapper<Character, String, Integer, Integer> memoizing = SULMappers.memoize(mapper, 10);
+        final SUL<Character, String> sul = SULMappers.apply(memoizing, new EchoSUL());
+
+        sul.pre();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(sul.step('a'), "97");
+            Assert.assertEquals(sul.step('b'), "98");
+        }
+        sul.post();
+
+        Assert.assertEquals(mapper.inputs.get(), 2);
+        Assert.assertEquals(mapper.outputs.get(), 2);
+        Assert.assertEquals(memoizing.getInputHits(), 18);
+        Assert.assertEquals(memoizing.getInputMisses(), 2);
+        Assert.assertEquals(memoizing.getOutputHits(), 18);
+        Assert.assertEquals(memoizing.getOutputMisses(), 2);
+        Assert.assertEquals(memoizing.getInputHitRate(), 0.9, 1e-9);
+        Assert.assertEquals(memoizing.getOutputHitRate(), 0.9, 1e-9);
+
+        memoizing.clear();
+        Assert.assertEquals(memoizing.mapInput('a').intValue(), 97);
+        Assert.assertEquals(mapper.inputs.get(), 3);
+    }
+
+    @Test
+    public void testCapacity() {
+        final CountingMapper mapper = new CountingMapper();
+        final MemoizingSULMapper<Character, String, Integer, Integer> memoizing = SULMappers.memoize(mapper, 2);
+
+        for (int i = 0; i < 10; i++) {
+            for (char c = 'a'; c <= 'c'; c++) {
+                Assert.assertEquals(memoizing.mapInput(c).intValue(), c);
+            }
+        }
+
+        // three symbols cannot be cached at once
+        Assert.assertTrue(mapper.inputs.get() > 3);
+        Assert.assertEquals(memoizing.getInputHits() + memoizing.getInputMisses(), 30);
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        final CountingMapper mapper = new CountingMapper();
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> SULMappers.memoize(mapper, 0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> SULMappers.memoize(mapper, -1));
+    }
+
+    @Test
+    public void testNulls() {
+        final CountingMapper mapper = new CountingMapper();
+        final MemoizingSULMapper<Character, String, Integer, Integer> memoizing = SULMappers.memoize(mapper, 10);
+
+        Assert.assertNull(memoizing.mapOutput(-1));
+        Assert.assertNull(memoizing.mapOutput(-1));
+        Assert.assertEquals(mapper.outputs.get(), 1);
+        Assert.assertEquals(memoizing.getOutputHits(), 1);
+    }
+
+    @Test
+    public void testForks() {
+        final CountingMapper mapper = new CountingMapper();
+        final MemoizingSULMapper<Character, String, Integer, Integer> memoizing = SULMappers.memoize(mapper, 10);
+        final SUL<Character, String> sul = SULMappers.apply(memoizing, new EchoSUL());
+
+        Assert.assertTrue(sul.canFork());
+        final SUL<Character, String> fork = sul.fork();
+
+        sul.pre();
+        Assert.assertEquals(sul.step('a'), "97");
+        sul.post();
+
+        fork.pre();
+        Assert.assertEquals(fork.step('a'), "97");
+        fork.post();
+
+        // the fork uses the cache of the original mapper
+        Assert.assertEquals(mapper.inputs.get(), 1);
+        Assert.assertEquals(mapper.outputs.get(), 1);
+        Assert.assertEquals(memoizing.getInputHits(), 1);
+        Assert.assertEquals(mapper.forks.get(), 1);
+    }
+
+    private static final class CountingMapper implements SULMapper<Character, String, Integer, Integer> {
+
+        private final AtomicInteger inputs;
+        private final AtomicInteger outputs;
+        private final AtomicInteger forks;
+
+        CountingMapper() {
+            this(new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+        }
+
+        CountingMapper(AtomicInteger inputs, AtomicInteger outputs, AtomicInteger forks) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.forks = forks;
+        }
+
+        @Override
+        public Integer mapInput(Character abstractInput) {
+            inputs.incrementAndGet();
+            return (int) abstractInput;
+        }
+
+        @Override
+        public String mapOutput(Integer concreteOutput) {
+            outputs.incrementAndGet();
+            return concreteOutput < 0 ? null : concreteOutput.toString();
+        }
+
+        @Override
+        public boolean canFork() {
+            return true;
+        }
+
+        @Override
+        public SULMapper<Character, String, Integer, Integer> fork() {
+            forks.incrementAndGet();
+            return new CountingMapper(inputs, outputs, forks);
+        }
+    }
+
+    private static final class EchoSUL implements SUL<Integer, Integer> {
+
+        @Override
+        public void pre() {}
+
+        @Override
+        public void post() {}
+
+        @Override
+        public Integer step(Integer in) {
+            return in;
+        }
+
+        @Override
+        public boolean canFork() {
+            return true;
+        }
+
+        @Override
+        public SUL<Integer, Integer> fork() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver.simulator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A distribution of (artificial) latencies, e.g., for simulating the response times of a real system via a
+ * {@link LatencySimulatorSUL}.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Samples a latency.
+     *
+     * @param random
+     *         the source of randomness
+     *
+     * @return the sampled latency in nanoseconds (non-positive values denote no latency)
+     */
+    long sampleNanos(Random random);
+
+    /**
+     * Returns a distribution without any latency.
+     *
+     * @return the distribution
+     */
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    /**
+     * Returns a distribution that always yields the same latency.
+     *
+     * @param latency
+     *         the latency
+     * @param unit
+     *         the time unit of {@code latency}
+     *
+     * @return the distribution
+     */
+    static LatencyDistribution fixed(long latency, TimeUnit unit) {
+        final long nanos = unit.toNanos(latency);
+        return random -> nanos;
+    }
+
+    /**
+     * Returns a distribution that yields latencies uniformly distributed in {@code [min, max]}.
+     *
+     * @param min
+     *         the minimum latency
+     * @param max
+     *         the maximum latency
+     * @param unit
+     *         the time unit of {@code min} and {@code max}
+     *
+     * @return the distribution
+     */
+    static LatencyDistribution uniform(long min, long max, TimeUnit unit) {
+        final long minNanos = unit.toNanos(min);
+        final long maxNanos = unit.toNanos(max);
+
+        if (minNanos > maxNanos) {
+            throw new IllegalArgumentException("min must not be greater than max");
+        }
+
+        final double range = maxNanos - minNanos;
+        return random -> minNanos + Math.round(random.nextDouble() * range);
+    }
+
+    /**
+     * Returns a distribution that yields log-normally distributed latencies, which is a common model for the (heavy
+     * tailed) response times of network services.
+     *
+     * @param median
+     *         the median latency
+     * @param sigma
+     *         the standard deviation of the underlying normal distribution (i.e., the spread of the latencies)
+     * @param unit
+     *         the time unit of {@code median}
+     *
+     * @return the distribution
+     */
+    static LatencyDistribution logNormal(long median, double sigma, TimeUnit unit) {
+        final long medianNanos = unit.toNanos(median);
+
+        if (medianNanos <= 0) {
+            throw new IllegalArgumentException("median must be positive");
+        }
+        if (sigma < 0) {
+            throw new IllegalArgumentException("sigma must not be negative");
+        }
+
+        final double mu = Math.log(medianNanos);
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    /**
+     * Returns a distribution that (additionally to the latencies of the given distribution) occasionally stalls, e.g.,
+     * for simulating garbage collection pauses or network timeouts.
+     *
+     * @param base
+     *         the distribution of regular latencies
+     * @param probability
+     *         the probability of a stall
+     * @param stall
+     *         the (additional) latency of a stall
+     * @param unit
+     *         the time unit of {@code stall}
+     *
+     * @return the distribution
+     */
+    static LatencyDistribution withStalls(LatencyDistribution base, double probability, long stall, TimeUnit unit) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("probability must be within [0, 1]");
+        }
+
+        final long stallNanos = unit.toNanos(stall);
+        return random -> {
+            final long latency = base.sampleNanos(random);
+            return random.nextDouble() < probability ? latency + stallNanos : latency;
+        };
+    }
+}
@@ -0,0 +1,150 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver.simulator;
+
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import de.learnlib.sul.SUL;
+
+/**
+ * A {@link SUL} wrapper that injects artificial latencies into the resets ({@link #pre()}), steps, and forks of a
+ * (simulated) SUL. This allows one to evaluate the behavior of, e.g., parallel oracles, caches, or reuse filters
+ * against I/O-bound systems on a single machine.
+ * <p>
+ * Latencies are implemented by {@link LockSupport#parkNanos(long) parking} the calling thread rather than busy-waiting,
+ * so that many (forked) SULs can wait concurrently without occupying processors. Waiting stops early if the calling
+ * thread is interrupted (the interrupt flag is preserved). Each instance samples its latencies from its own
+ * {@link Random} whose seed is derived from the seed of the original SUL, so that the sequence of latencies of each
+ * instance is reproducible for a given seed and order of forks.
+ * <p>
+ * Note: this SUL is {@link SUL#fork() forkable} if the wrapped SUL is. All forks share the statistics of the original
+ * SUL.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class LatencySimulatorSUL<I, O> implements SUL<I, O> {
+
+    private final SUL<I, O> delegate;
+    private final LatencyDistribution resetLatency;
+    private final LatencyDistribution stepLatency;
+    private final LatencyDistribution forkLatency;
+    private final Random random;
+    private final LongAdder injectedNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate
+     *         the SUL to delegate to
+     * @param resetLatency
+     *         the distribution of latencies for {@link #pre() resets}
+     * @param stepLatency
+     *         the distribution of latencies for {@link #step(Object) steps}
+     * @param forkLatency
+     *         the distribution of latencies for {@link #fork() forks}
+     * @param seed
+     *         the seed for sampling latencies
+     */
+    public LatencySimulatorSUL(SUL<I, O> delegate,
+                               LatencyDistribution resetLatency,
+                               LatencyDistribution stepLatency,
+                               LatencyDistribution forkLatency,
+                               long seed) {
+        this(delegate, resetLatency, stepLatency, forkLatency, seed, new LongAdder());
+    }
+
+    private LatencySimulatorSUL(SUL<I, O> delegate,
+                                LatencyDistribution resetLatency,
+                                LatencyDistribution stepLatency,
+                                LatencyDistribution forkLatency,
+                                long seed,
+                                LongAdder injectedNanos) {
+        this.delegate = delegate;
+        this.resetLatency = resetLatency;
+        this.stepLatency = stepLatency;
+        this.forkLatency = forkLatency;
+        this.random = new Random(seed);
+        this.injectedNanos = injectedNanos;
+    }
+
+    @Override
+    public void pre() {
+        await(resetLatency);
+        delegate.pre();
+    }
+
+    @Override
+    public void post() {
+        delegate.post();
+    }
+
+    @Override
+    public O step(I in) {
+        await(stepLatency);
+        return delegate.step(in);
+    }
+
+    @Override
+    public boolean canFork() {
+        return delegate.canFork();
+    }
+
+    @Override
+    public SUL<I, O> fork() {
+        await(forkLatency);
+        return new LatencySimulatorSUL<>(delegate.fork(),
+                                         resetLatency,
+                                         stepLatency,
+                                         forkLatency,
+                                         random.nextLong(),
+                                         injectedNanos);
+    }
+
+    /**
+     * Returns the total latency (in nanoseconds) that has been sampled by this SUL and all of its forks. Note that the
+     * actual waiting time may differ slightly due to the granularity of the scheduler or interrupts.
+     *
+     * @return the total sampled latency in nanoseconds
+     */
+    public long getInjectedNanos() {
+        return injectedNanos.sum();
+    }
+
+    private void await(LatencyDistribution distribution) {
+        final long nanos = distribution.sampleNanos(random);
+
+        if (nanos <= 0) {
+            return;
+        }
+
+        injectedNanos.add(nanos);
+
+        final Thread thread = Thread.currentThread();
+        final long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+
+        // parkNanos may return spuriously, so re-park until the deadline has passed
+        while (remaining > 0 && !thread.isInterrupted()) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
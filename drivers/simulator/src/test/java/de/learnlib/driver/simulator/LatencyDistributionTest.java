@@ -0,0 +1,102 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver.simulator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LatencyDistributionTest {
+
+    private static final int SAMPLES = 10_000;
+
+    @Test
+    public void testUniformBounds() {
+        final LatencyDistribution distribution = LatencyDistribution.uniform(2, 5, TimeUnit.MICROSECONDS);
+        final Random random = new Random(42);
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            final long sample = distribution.sampleNanos(random);
+            min = Math.min(min, sample);
+            max = Math.max(max, sample);
+        }
+
+        Assert.assertTrue(min >= 2_000, "min: " + min);
+        Assert.assertTrue(max <= 5_000, "max: " + max);
+    }
+
+    @Test
+    public void testUniformDegenerate() {
+        final LatencyDistribution distribution = LatencyDistribution.uniform(3, 3, TimeUnit.MILLISECONDS);
+        final Random random = new Random(42);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            Assert.assertEquals(distribution.sampleNanos(random), 3_000_000);
+        }
+    }
+
+    @Test
+    public void testArguments() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> LatencyDistribution.uniform(5, 2, TimeUnit.MILLISECONDS));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> LatencyDistribution.logNormal(0, 1, TimeUnit.MILLISECONDS));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> LatencyDistribution.logNormal(-1, 1, TimeUnit.MILLISECONDS));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> LatencyDistribution.logNormal(1, -0.5, TimeUnit.MILLISECONDS));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> LatencyDistribution.withStalls(LatencyDistribution.none(),
+                                                                 -0.1,
+                                                                 1,
+                                                                 TimeUnit.MILLISECONDS));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> LatencyDistribution.withStalls(LatencyDistribution.none(),
+                                                                 1.1,
+                                                                 1,
+                                                                 TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testStalls() {
+        final Random random = new Random(42);
+        final LatencyDistribution base = LatencyDistribution.fixed(1, TimeUnit.MICROSECONDS);
+
+        final LatencyDistribution never = LatencyDistribution.withStalls(base, 0, 1, TimeUnit.MILLISECONDS);
+        final LatencyDistribution always = LatencyDistribution.withStalls(base, 1, 1, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            Assert.assertEquals(never.sampleNanos(random), 1_000);
+            Assert.assertEquals(always.sampleNanos(random), 1_001_000);
+        }
+    }
+
+    @Test
+    public void testLogNormalMedian() {
+        final LatencyDistribution distribution = LatencyDistribution.logNormal(1, 0, TimeUnit.MILLISECONDS);
+        final Random random = new Random(42);
+
+        // without any spread, the median is the only value
+        for (int i = 0; i < SAMPLES; i++) {
+            Assert.assertEquals(distribution.sampleNanos(random), 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.driver.simulator;
+
+import java.lang.Thread.State;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.learnlib.sul.SUL;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LatencySimulatorSULTest {
+
+    private static final long SEED = 42;
+
+    @Test
+    public void testReproducibility() {
+        final List<Long> samples1 = new ArrayList<>();
+        final List<Long> samples2 = new ArrayList<>();
+
+        runSequence(createSUL(samples1));
+        runSequence(createSUL(samples2));
+
+        Assert.assertFalse(samples1.isEmpty());
+        Assert.assertEquals(samples1, samples2);
+    }
+
+    @Test
+    public void testSharedStatistics() {
+        final LatencyDistribution latency = LatencyDistribution.fixed(1, TimeUnit.MICROSECONDS);
+        final LatencySimulatorSUL<Character, Character> sul =
+                new LatencySimulatorSUL<>(new EchoSUL(), latency, latency, latency, SEED);
+
+        sul.pre();
+        Assert.assertEquals(sul.step('a').charValue(), 'a');
+        sul.post();
+
+        final LatencySimulatorSUL<Character, Character> fork = (LatencySimulatorSUL<Character, Character>) sul.fork();
+
+        fork.pre();
+        Assert.assertEquals(fork.step('b').charValue(), 'b');
+        Assert.assertEquals(fork.step('c').charValue(), 'c');
+        fork.post();
+
+        // 2 resets, 3 steps, 1 fork
+        Assert.assertEquals(sul.getInjectedNanos(), 6_000);
+        Assert.assertEquals(fork.getInjectedNanos(), 6_000);
+    }
+
+    @Test(timeOut = 10_000)
+    public void testInterruption() throws InterruptedException {
+        final LatencyDistribution latency = LatencyDistribution.fixed(1, TimeUnit.HOURS);
+        final LatencySimulatorSUL<Character, Character> sul =
+                new LatencySimulatorSUL<>(new EchoSUL(), latency, latency, latency, SEED);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+
+        final Thread thread = new Thread(() -> {
+            sul.pre();
+            interrupted.set(Thread.currentThread().isInterrupted());
+        });
+        thread.start();
+
+        // wait until the thread is parked
+        while (thread.getState() != State.TIMED_WAITING) {
+            Thread.yield();
+        }
+
+        thread.interrupt();
+        thread.join();
+
+        Assert.assertTrue(interrupted.get());
+        Assert.assertEquals(sul.getInjectedNanos(), TimeUnit.HOURS.toNanos(1));
+    }
+
+    @Test(timeOut = 10_000)
+    public void testPendingInterrupt() {
+        final LatencyDistribution latency = LatencyDistribution.fixed(1, TimeUnit.HOURS);
+        final LatencySimulatorSUL<Character, Character> sul =
+                new LatencySimulatorSUL<>(new EchoSUL(), latency, latency, latency, SEED);
+
+        Thread.currentThread().interrupt();
+
+        try {
+            sul.pre();
+            Assert.assertEquals(sul.step('a').charValue(), 'a');
+            sul.post();
+            Assert.assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            // clear the interrupt flag so that subsequent tests are not affected
+            Thread.interrupted();
+        }
+
+        Assert.assertEquals(sul.getInjectedNanos(), 2 * TimeUnit.HOURS.toNanos(1));
+    }
+
+    private static LatencySimulatorSUL<Character, Character> createSUL(List<Long> samples) {
+        final LatencyDistribution base = LatencyDistribution.uniform(1, 1000, TimeUnit.NANOSECONDS);
+        final LatencyDistribution recording = random -> {
+            final long sample = base.sampleNanos(random);
+            samples.add(sample);
+            return sample;
+        };
+
+        return new LatencySimulatorSUL<>(new EchoSUL(), recording, recording, recording, SEED);
+    }
+
+    private static void runSequence(SUL<Character, Character> sul) {
+        final SUL<Character, Character> fork1 = sul.fork();
+        final SUL<Character, Character> fork2 = sul.fork();
+
+        for (SUL<Character, Character> s : Arrays.asList(sul, fork1, fork2, fork1.fork())) {
+            s.pre();
+            s.step('a');
+            s.step('b');
+            s.post();
+        }
+    }
+
+    private static final class EchoSUL implements SUL<Character, Character> {
+
+        @Override
+        public void pre() {}
+
+        @Override
+        public void post() {}
+
+        @Override
+        public Character step(Character in) {
+            return in;
+        }
+
+        @Override
+        public boolean canFork() {
+            return true;
+        }
+
+        @Override
+        public SUL<Character, Character> fork() {
+            return new EchoSUL();
+        }
+    }
+}
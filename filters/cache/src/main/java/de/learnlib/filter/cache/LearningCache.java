@@ -20,6 +20,7 @@ import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.MooreMachine;
 import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Interface for a cache used in automata learning.
@@ -53,6 +54,20 @@ public interface LearningCache<A, I, O> {
      */
     EquivalenceOracle<A, I, O> createCacheConsistencyTest();
 
+    /**
+     * Looks up the output of the given input word in the cache, without posing any queries to the underlying system.
+     * <p>
+     * The default implementation does not provide any cached outputs.
+     *
+     * @param input
+     *         the input word
+     *
+     * @return the cached output of the given input word, or {@code null} if the output is not (fully) cached
+     */
+    default @Nullable O lookup(Word<I> input) {
+        return null;
+    }
+
     /**
      * Specialization of the {@link LearningCache} interface for DFA learning.
      *
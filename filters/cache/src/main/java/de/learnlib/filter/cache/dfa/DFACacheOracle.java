@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Set;
 
 import de.learnlib.Resumable;
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.filter.cache.LearningCacheOracle.DFALearningCacheOracle;
 import de.learnlib.filter.cache.dfa.DFACacheOracle.DFACacheOracleState;
 import de.learnlib.logging.Category;
@@ -33,6 +35,7 @@ import net.automatalib.common.util.Pair;
 import net.automatalib.incremental.dfa.Acceptance;
 import net.automatalib.incremental.dfa.IncrementalDFABuilder;
 import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,12 +70,19 @@ public class DFACacheOracle<I>
         return new DFACacheConsistencyTest<>(incDfa);
     }
 
+    @Override
+    public @Nullable Boolean lookup(Word<I> input) {
+        final Acceptance acc = incDfa.lookup(input);
+        return acc == Acceptance.DONT_KNOW ? null : acc.toBoolean();
+    }
+
     @Override
     public void processQueries(Collection<? extends Query<I, Boolean>> queries) {
         if (queries.isEmpty()) {
             return;
         }
 
+        final Object event = Events.begin(EventKind.CACHE_LOOKUP);
         final Pair<Collection<ProxyQuery<I>>, Collection<Query<I, Boolean>>> cacheResult = queryCache(queries);
         final Collection<ProxyQuery<I>> unanswered = cacheResult.getFirst();
         final Collection<Query<I, Boolean>> duplicates = cacheResult.getSecond();
@@ -83,6 +93,8 @@ public class DFACacheOracle<I>
         if (!duplicates.isEmpty()) {
             queryCache(duplicates);
         }
+
+        Events.commit(event, getClass().getSimpleName(), queries.size(), unanswered.size());
     }
 
     @Override
@@ -24,6 +24,8 @@ import java.util.Map;
 import java.util.Set;
 
 import de.learnlib.Resumable;
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.filter.cache.LearningCacheOracle.DFALearningCacheOracle;
 import de.learnlib.filter.cache.dfa.DFAHashCacheOracle.DFAHashCacheOracleState;
 import de.learnlib.oracle.EquivalenceOracle;
@@ -31,6 +33,7 @@ import de.learnlib.oracle.MembershipOracle;
 import de.learnlib.query.Query;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A {@link DFALearningCacheOracle} that uses a {@link Map} for internal cache organization.
@@ -60,8 +63,14 @@ public class DFAHashCacheOracle<I> implements DFALearningCacheOracle<I>, Resumab
         return new DFAHashCacheConsistencyTest<>(cache);
     }
 
+    @Override
+    public @Nullable Boolean lookup(Word<I> input) {
+        return cache.get(input);
+    }
+
     @Override
     public void processQueries(Collection<? extends Query<I, Boolean>> queries) {
+        final Object event = Events.begin(EventKind.CACHE_LOOKUP);
         final List<ProxyQuery<I>> misses = new ArrayList<>();
         final List<Query<I, Boolean>> duplicates = new ArrayList<>();
         final Set<Word<I>> batchCache = new HashSet<>();
@@ -91,6 +100,8 @@ public class DFAHashCacheOracle<I> implements DFALearningCacheOracle<I>, Resumab
                 d.answer(cache.get(d.getInput()));
             }
         }
+
+        Events.commit(event, getClass().getSimpleName(), queries.size(), misses.size());
     }
 
     @Override
@@ -23,6 +23,8 @@ import de.learnlib.oracle.MembershipOracle;
 import de.learnlib.query.Query;
 import net.automatalib.common.util.Pair;
 import net.automatalib.incremental.dfa.IncrementalDFABuilder;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A thread-safe variant of {@link DFACacheOracle}.
@@ -46,6 +48,16 @@ public class ThreadSafeDFACacheOracle<I> extends DFACacheOracle<I> {
         return new ThreadSafeDFACacheConsistencyTest<>(super.createCacheConsistencyTest(), lock);
     }
 
+    @Override
+    public @Nullable Boolean lookup(Word<I> input) {
+        lock.readLock().lock();
+        try {
+            return super.lookup(input);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     Pair<Collection<ProxyQuery<I>>, Collection<Query<I, Boolean>>> queryCache(Collection<? extends Query<I, Boolean>> queries) {
         lock.readLock().lock();
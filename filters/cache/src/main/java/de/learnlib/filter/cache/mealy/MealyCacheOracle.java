@@ -22,6 +22,8 @@ import java.util.Iterator;
 import java.util.List;
 
 import de.learnlib.Resumable;
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.filter.cache.DynamicSymbolComparator;
 import de.learnlib.filter.cache.LearningCacheOracle.MealyLearningCacheOracle;
 import de.learnlib.filter.cache.ReverseLexCmp;
@@ -92,12 +94,19 @@ public class MealyCacheOracle<I, O>
         return new MealyCacheConsistencyTest<>(incMealy);
     }
 
+    @Override
+    public @Nullable Word<O> lookup(Word<I> input) {
+        return lookupInternal(input);
+    }
+
     @Override
     public void processQueries(Collection<? extends Query<I, Word<O>>> queries) {
         if (queries.isEmpty()) {
             return;
         }
 
+        final Object event = Events.begin(EventKind.CACHE_LOOKUP);
+
         List<? extends Query<I, Word<O>>> qrys = new ArrayList<>(queries);
         qrys.sort(queryCmp);
 
@@ -106,6 +115,8 @@ public class MealyCacheOracle<I, O>
         delegate.processQueries(masterQueries);
 
         updateCache(masterQueries);
+
+        Events.commit(event, getClass().getSimpleName(), queries.size(), masterQueries.size());
     }
 
     @Override
@@ -166,28 +177,38 @@ public class MealyCacheOracle<I, O>
     }
 
     private MasterQuery<I, O> createMasterQuery(Word<I> word) {
+        final Word<O> output = lookupInternal(word);
+
+        if (output != null) {
+            return new MasterQuery<>(word, output);
+        }
+
+        return errorSyms == null ? new MasterQuery<>(word) : new MasterQuery<>(word, errorSyms);
+    }
+
+    private @Nullable Word<O> lookupInternal(Word<I> word) {
         WordBuilder<O> wb = new WordBuilder<>(word.size());
         if (incMealy.lookup(word, wb)) {
-            return new MasterQuery<>(word, wb.toWord());
+            return wb.toWord();
         }
 
         if (errorSyms == null) {
-            return new MasterQuery<>(word);
+            return null;
         }
 
         int wbSize = wb.size();
 
         if (wbSize == 0) {
-            return new MasterQuery<>(word, errorSyms);
+            return null;
         }
 
         O repSym = errorSyms.get(wb.getSymbol(wbSize - 1));
         if (repSym == null) {
-            return new MasterQuery<>(word, errorSyms);
+            return null;
         }
 
         wb.repeatAppend(word.length() - wbSize, repSym);
-        return new MasterQuery<>(word, wb.toWord());
+        return wb.toWord();
     }
 
     void updateCache(Collection<? extends MasterQuery<I, O>> queries) {
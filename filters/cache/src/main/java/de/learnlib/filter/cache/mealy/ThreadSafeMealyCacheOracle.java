@@ -57,6 +57,16 @@ public class ThreadSafeMealyCacheOracle<I, O> extends MealyCacheOracle<I, O> {
         this.lock = lock;
     }
 
+    @Override
+    public @Nullable Word<O> lookup(Word<I> input) {
+        this.lock.readLock().lock();
+        try {
+            return super.lookup(input);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
     @Override
     List<MasterQuery<I, O>> queryCache(Collection<? extends Query<I, Word<O>>> queries) {
         this.lock.readLock().lock();
@@ -111,6 +111,31 @@ public abstract class AbstractCacheTest<OR extends LearningCacheOracle<A, I, D>,
     }
 
     @Test(dependsOnMethods = "testPrefix")
+    public void testLookup() {
+        final long oldCount = getNumberOfPosedQueries();
+
+        for (Query<I, D> q : queries) {
+            final Word<I> input = q.getInput();
+            if (supportsLookup()) {
+                // lookups should be consistent with the answers of the cache
+                final DefaultQuery<I, D> query = new DefaultQuery<>(input);
+                oracle.processQuery(query);
+                Assert.assertEquals(oracle.lookup(input), query.getOutput());
+            } else {
+                Assert.assertNull(oracle.lookup(input));
+            }
+        }
+
+        // an empty cache cannot provide any outputs
+        final OR emptyOracle = getCachedOracle();
+        for (Query<I, D> q : queries) {
+            Assert.assertNull(emptyOracle.lookup(q.getInput()));
+        }
+
+        Assert.assertEquals(getNumberOfPosedQueries(), oldCount);
+    }
+
+    @Test(dependsOnMethods = "testLookup")
     public void testCacheConsistency() {
 
         final EquivalenceOracle<A, I, D> eqOracle = oracle.createCacheConsistencyTest();
@@ -254,4 +279,8 @@ public abstract class AbstractCacheTest<OR extends LearningCacheOracle<A, I, D>,
 
     protected abstract boolean supportsGrowing();
 
+    protected boolean supportsLookup() {
+        return true;
+    }
+
 }
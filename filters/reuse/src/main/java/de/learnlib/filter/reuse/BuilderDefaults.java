@@ -22,6 +22,7 @@ import de.learnlib.filter.reuse.tree.BoundedDeque.AccessPolicy;
 import de.learnlib.filter.reuse.tree.BoundedDeque.EvictPolicy;
 import de.learnlib.filter.reuse.tree.ReuseTreeBuilder;
 import de.learnlib.filter.reuse.tree.SystemStateHandler;
+import de.learnlib.filter.reuse.tree.SystemStateWeigher;
 
 /**
  * Default values for {@link ReuseTreeBuilder} and {@link ReuseOracleBuilder}.
@@ -59,4 +60,16 @@ public final class BuilderDefaults {
     public static EvictPolicy evictPolicy() {
         return EvictPolicy.EVICT_OLDEST;
     }
+
+    public static boolean enabledBatchScheduling() {
+        return false;
+    }
+
+    public static long systemStateBudget() {
+        return -1;
+    }
+
+    public static <S> SystemStateWeigher<S> systemStateWeigher() {
+        return state -> 1;
+    }
 }
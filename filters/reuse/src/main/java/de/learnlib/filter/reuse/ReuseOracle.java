@@ -15,9 +15,11 @@
  */
 package de.learnlib.filter.reuse;
 
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -27,14 +29,16 @@ import de.learnlib.filter.reuse.tree.BoundedDeque.EvictPolicy;
 import de.learnlib.filter.reuse.tree.ReuseNode;
 import de.learnlib.filter.reuse.tree.ReuseNode.NodeResult;
 import de.learnlib.filter.reuse.tree.ReuseTree;
+import de.learnlib.filter.reuse.tree.ReuseTree.QueryLookup;
 import de.learnlib.filter.reuse.tree.SystemStateHandler;
+import de.learnlib.filter.reuse.tree.SystemStateWeigher;
 import de.learnlib.oracle.SingleQueryOracle.SingleQueryOracleMealy;
+import de.learnlib.query.Query;
 import de.learnlib.tooling.annotation.builder.GenerateBuilder;
 import de.learnlib.tooling.annotation.builder.Param;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
-import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * The reuse oracle is a {@link MealyMembershipOracle} that is able to <ul> <li>Cache queries: Each processed query will
@@ -51,6 +55,14 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * The usage of model invariant input symbols and failure output symbols is disabled by default and can be enabled upon
  * construction (see {@link ReuseOracleBuilder#withFailureOutputs(Set)} and {@link
  * ReuseOracleBuilder#withInvariantInputs(Set)}).
+ * <p>
+ * If batch scheduling is enabled (see {@link ReuseOracleBuilder#withEnabledBatchScheduling(boolean)}), the queries of
+ * each batch are processed in a depth-first order of the {@link ReuseTree} (i.e., in lexicographic order of their
+ * inputs w.r.t. the alphabet). As a result, each query is processed after all queries that are prefixes of it, so that
+ * it can continue from the system state that has been produced by its longest prefix. This is especially beneficial if
+ * system states are not invalidated after retrieval, since then all extensions of a query can continue from its system
+ * state. The number of performed and saved resets (by reused system states or known outputs) can be inspected via
+ * {@link #getResetCount()} and {@link #getSavedResetCount()}.
  *
  * @param <S>
  *         system state type
@@ -64,6 +76,10 @@ public final class ReuseOracle<S, I, O> implements SingleQueryOracleMealy<I, O>
     private final ThreadLocal<ReuseCapableOracle<S, I, O>> executableOracles;
 
     private final ReuseTree<S, I, O> tree;
+    private final Alphabet<I> alphabet;
+    private final boolean batchScheduling;
+    private final AtomicLong resets;
+    private final AtomicLong savedResets;
 
     /**
      * Default constructor.
@@ -86,6 +102,13 @@ public final class ReuseOracle<S, I, O> implements SingleQueryOracleMealy<I, O>
      *         the strategy for accessing elements
      * @param evictPolicy
      *         the strategy for evicting elements of the capacity is reached
+     * @param enabledBatchScheduling
+     *         a flag whether the queries of a batch should be processed in a depth-first order of the reuse tree
+     * @param systemStateBudget
+     *         the maximum total weight of all system states stored in the reuse tree. A value less than or equal to 0
+     *         means unbounded
+     * @param systemStateWeigher
+     *         the weigher that determines the weight of each system state w.r.t. the {@code systemStateBudget}
      */
     @GenerateBuilder(defaults = BuilderDefaults.class,
                      getterPrefix = GenerateBuilder.SUPPRESS,
@@ -99,8 +122,15 @@ public final class ReuseOracle<S, I, O> implements SingleQueryOracleMealy<I, O>
                        Set<O> failureOutputs,
                        int maxSystemStates,
                        AccessPolicy accessPolicy,
-                       EvictPolicy evictPolicy) {
+                       EvictPolicy evictPolicy,
+                       boolean enabledBatchScheduling,
+                       long systemStateBudget,
+                       SystemStateWeigher<S> systemStateWeigher) {
         this.executableOracles = ThreadLocal.withInitial(oracleSupplier);
+        this.alphabet = alphabet;
+        this.batchScheduling = enabledBatchScheduling;
+        this.resets = new AtomicLong();
+        this.savedResets = new AtomicLong();
         this.tree = new ReuseTree<>(alphabet,
                                     enabledSystemStateInvalidation,
                                     systemStateHandler,
@@ -108,7 +138,9 @@ public final class ReuseOracle<S, I, O> implements SingleQueryOracleMealy<I, O>
                                     failureOutputs,
                                     maxSystemStates,
                                     accessPolicy,
-                                    evictPolicy);
+                                    evictPolicy,
+                                    systemStateBudget,
+                                    systemStateWeigher);
     }
 
     @Override
@@ -121,6 +153,57 @@ public final class ReuseOracle<S, I, O> implements SingleQueryOracleMealy<I, O>
         return processQuery(input);
     }
 
+    @Override
+    public void processQueries(Collection<? extends Query<I, Word<O>>> queries) {
+        if (!batchScheduling || queries.size() < 2) {
+            SingleQueryOracleMealy.super.processQueries(queries);
+            return;
+        }
+
+        final List<Query<I, Word<O>>> schedule = new ArrayList<>(queries);
+        schedule.sort((q1, q2) -> compareInputs(q1.getInput(), q2.getInput()));
+
+        for (Query<I, Word<O>> q : schedule) {
+            processQuery(q);
+        }
+    }
+
+    /**
+     * Compares two inputs lexicographically w.r.t. the indices of their symbols, where prefixes precede their
+     * extensions. This corresponds to a depth-first (pre-order) traversal of the reuse tree.
+     */
+    private int compareInputs(Word<I> w1, Word<I> w2) {
+        final int length = Math.min(w1.length(), w2.length());
+        for (int i = 0; i < length; i++) {
+            final int cmp = Integer.compare(alphabet.getSymbolIndex(w1.getSymbol(i)),
+                                            alphabet.getSymbolIndex(w2.getSymbol(i)));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(w1.length(), w2.length());
+    }
+
+    /**
+     * Returns the number of queries that have been executed from the initial state of the system, i.e., that required
+     * a reset.
+     *
+     * @return the number of resets
+     */
+    public long getResetCount() {
+        return resets.get();
+    }
+
+    /**
+     * Returns the number of queries that have been answered without a reset, i.e., either by continuing from a stored
+     * system state or from the outputs already known by the {@link ReuseTree}.
+     *
+     * @return the number of saved resets
+     */
+    public long getSavedResetCount() {
+        return savedResets.get();
+    }
+
     /**
      * This method returns the full output to the input query.
      * <p>
@@ -131,46 +214,42 @@ public final class ReuseOracle<S, I, O> implements SingleQueryOracleMealy<I, O>
      * {@link ReuseNode} of the {@link ReuseTree}).
      */
     private Word<O> processQuery(Word<I> query) {
-        Word<O> knownOutput = tree.getOutput(query);
+        final QueryLookup<S, I, O> lookup = tree.lookup(query);
+        final Word<O> knownOutput = lookup.getOutput();
 
         if (knownOutput != null) {
+            savedResets.incrementAndGet();
             return knownOutput;
         }
 
         // Search for system state
-        final NodeResult<S, I, O> nodeResult = tree.fetchSystemState(query);
+        final NodeResult<S, I, O> nodeResult = tree.fetchSystemState(lookup);
         final ReuseCapableOracle<S, I, O> oracle = getReuseCapableOracle();
         final Word<O> output;
 
         // No system state available
         if (nodeResult == null) {
-            final QueryResult<S, O> newResult =
-                    filterAndProcessQuery(query, tree.getPartialOutput(query), oracle::processQuery);
+            resets.incrementAndGet();
+            final QueryResult<S, O> newResult = filterAndProcessQuery(lookup, 0, oracle::processQuery);
 
             tree.insert(query, newResult);
 
             output = newResult.output;
         } else { // System state available -> reuse
-            final int suffixLen = query.size() - nodeResult.prefixLength;
-            final Word<I> suffix = query.suffix(suffixLen);
-
-            final Word<@Nullable O> partialOutput = tree.getPartialOutput(query);
-            final Word<@Nullable O> partialSuffixOutput = partialOutput.suffix(suffixLen);
-
+            savedResets.incrementAndGet();
+            final int prefixLen = nodeResult.prefixLength;
             final ReuseNode<S, I, O> reuseNode = nodeResult.reuseNode;
             final S systemState = nodeResult.systemState;
 
-            final QueryResult<S, O> suffixQueryResult = filterAndProcessQuery(suffix,
-                                                                              partialSuffixOutput,
+            final QueryResult<S, O> suffixQueryResult = filterAndProcessQuery(lookup,
+                                                                              prefixLen,
                                                                               filteredInput -> oracle.continueQuery(
                                                                                       filteredInput,
                                                                                       systemState));
 
-            this.tree.insert(suffix, reuseNode, suffixQueryResult);
+            this.tree.insert(query.subWord(prefixLen), reuseNode, suffixQueryResult);
 
-            final Word<O> prefixOutput = tree.getOutput(query.prefix(nodeResult.prefixLength));
-            assert prefixOutput != null;
-            output = new WordBuilder<>(prefixOutput).append(suffixQueryResult.output).toWord();
+            output = lookup.getOutput(prefixLen).concat(suffixQueryResult.output);
         }
         return output;
     }
@@ -188,42 +267,49 @@ public final class ReuseOracle<S, I, O> implements SingleQueryOracleMealy<I, O>
      * Filters all the query elements corresponding to "reflexive" edges in the reuse tree, executes the shorter query,
      * and fills the filtered outputs into the resulting output word.
      *
-     * @param query
-     *         the input query with "reflexive" symbols (may be a suffix of the original query, if a system state is
+     * @param lookup
+     *         the lookup of the input query with "reflexive" symbols.
+     * @param offset
+     *         the index from which on the query should be executed (i.e., the length of the prefix whose system state is
      *         reused).
-     * @param partialOutput
-     *         the output information from the tree with {@code null} entries for all "non-reflexive" edges.
      * @param processQuery
      *         a function that actually processes the (shortened) query.
      *
-     * @return the query result including the outputs of the "reflexive" symbol executions.
+     * @return the query result (of the suffix starting at {@code offset}) including the outputs of the "reflexive"
+     * symbol executions.
      */
-    private QueryResult<S, O> filterAndProcessQuery(Word<I> query,
-                                                    Word<@Nullable O> partialOutput,
+    private QueryResult<S, O> filterAndProcessQuery(QueryLookup<S, I, O> lookup,
+                                                    int offset,
                                                     Function<Word<I>, QueryResult<S, O>> processQuery) {
-        final LinkedList<I> filteredQueryList = new LinkedList<>(query.asList());
-        final Iterator<I> queryIterator = filteredQueryList.iterator();
+        final Word<I> query = lookup.getQuery();
+        final int numReflexive = lookup.countReflexive(offset);
+
+        if (numReflexive == 0) {
+            return processQuery.apply(query.subWord(offset));
+        }
+
+        final int length = query.size() - offset;
+        final WordBuilder<I> filteredQuery = new WordBuilder<>(length - numReflexive);
 
         // filter "reflexive" edges
-        for (O outputSymbol : partialOutput) {
-            queryIterator.next();
-            if (outputSymbol != null) {
-                queryIterator.remove();
+        for (int i = offset; i < query.size(); i++) {
+            if (!lookup.isReflexive(i)) {
+                filteredQuery.add(query.getSymbol(i));
             }
         }
 
         // process the query
-        final QueryResult<S, O> res = processQuery.apply(Word.fromList(filteredQueryList));
+        final QueryResult<S, O> res = processQuery.apply(filteredQuery.toWord());
 
-        final WordBuilder<O> wordBuilder = new WordBuilder<>();
-        final Iterator<O> resultIterator = res.output.iterator();
+        final WordBuilder<O> wordBuilder = new WordBuilder<>(length);
+        int resultIndex = 0;
 
         // insert back the a priori available outputs of "reflexive" edges
-        for (O output : partialOutput) {
-            if (output == null) {
-                wordBuilder.add(resultIterator.next());
+        for (int i = offset; i < query.size(); i++) {
+            if (lookup.isReflexive(i)) {
+                wordBuilder.add(lookup.getReflexiveOutput(i));
             } else {
-                wordBuilder.add(output);
+                wordBuilder.add(res.output.getSymbol(resultIndex++));
             }
         }
 
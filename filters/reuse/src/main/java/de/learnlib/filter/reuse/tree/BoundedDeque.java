@@ -16,9 +16,9 @@
 package de.learnlib.filter.reuse.tree;
 
 import java.util.AbstractCollection;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -27,8 +27,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * a capacity restriction with a configurable policy which element is evicted (or reject) if the maximum capacity is
  * reached.
  * <p>
- * <b>Note:</b> Like {@link ArrayDeque}, this deque implementation is not thread-safe. Concurrent access by multiple
- * threads requires explicit synchronization.
+ * This deque implementation is thread-safe and non-blocking (it is backed by a {@link ConcurrentLinkedDeque}). In
+ * particular, each element is handed out by {@link #retrieve()} to at most one thread. Under concurrent insertions,
+ * the capacity restriction is maintained via an atomic counter, and iteration is weakly consistent.
  *
  * @param <E>
  *         element type
@@ -38,7 +39,8 @@ public class BoundedDeque<E> extends AbstractCollection<E> {
     private final EvictPolicy evictPolicy;
     private final AccessPolicy accessPolicy;
     private final int capacity;
-    private final Deque<E> deque;
+    private final ConcurrentLinkedDeque<E> deque;
+    private final AtomicInteger size;
 
     /**
      * Constructor. Creates an unbounded deque with the given access policy.
@@ -62,11 +64,8 @@ public class BoundedDeque<E> extends AbstractCollection<E> {
      *         has no effect
      */
     public BoundedDeque(int capacity, AccessPolicy accessPolicy, EvictPolicy evictPolicy) {
-        if (capacity <= 0) {
-            this.deque = new ArrayDeque<>(); // unbounded, default capacity
-        } else {
-            this.deque = new ArrayDeque<>(capacity);
-        }
+        this.deque = new ConcurrentLinkedDeque<>();
+        this.size = new AtomicInteger();
         this.capacity = capacity;
         this.accessPolicy = accessPolicy;
         this.evictPolicy = evictPolicy;
@@ -81,17 +80,32 @@ public class BoundedDeque<E> extends AbstractCollection<E> {
      * @return the evicted element, {@code null} if the maximum capacity has not been reached
      */
     public @Nullable E insert(E element) {
-        E evicted = null;
-        if (size() >= capacity) {
-            if (evictPolicy == EvictPolicy.REJECT_NEW) {
+        if (!isBounded()) {
+            size.incrementAndGet();
+            deque.offerLast(element);
+            return null;
+        }
+
+        while (true) {
+            final int current = size.get();
+            if (current < capacity) {
+                if (size.compareAndSet(current, current + 1)) {
+                    deque.offerLast(element);
+                    return null;
+                }
+            } else if (evictPolicy == EvictPolicy.REJECT_NEW) {
                 // reject the new element
                 return element;
+            } else {
+                // replace an evicted element, so that the size does not change
+                final E evicted = evict();
+                if (evicted != null) {
+                    deque.offerLast(element);
+                    return evicted;
+                }
+                // the deque is (temporarily) empty due to concurrent operations, try again
             }
-            // Evict first, so we do not need to resize
-            evicted = evict();
         }
-        deque.offerLast(element);
-        return evicted;
     }
 
     /**
@@ -117,14 +131,23 @@ public class BoundedDeque<E> extends AbstractCollection<E> {
      * @return the evicted element, may be {@code null} if the queue was empty
      */
     public @Nullable E retrieve() {
+        final E result;
         switch (accessPolicy) {
             case LIFO:
-                return deque.pollLast();
+                result = deque.pollLast();
+                break;
             case FIFO:
-                return deque.pollFirst();
+                result = deque.pollFirst();
+                break;
             default:
                 throw new IllegalStateException("Illegal evict policy: " + evictPolicy);
         }
+
+        if (result != null) {
+            size.decrementAndGet();
+        }
+
+        return result;
     }
 
     /**
@@ -153,6 +176,15 @@ public class BoundedDeque<E> extends AbstractCollection<E> {
         return capacity > 0;
     }
 
+    @Override
+    public boolean remove(@Nullable Object o) {
+        if (deque.remove(o)) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public Iterator<E> iterator() {
         return deque.iterator();
@@ -160,7 +192,7 @@ public class BoundedDeque<E> extends AbstractCollection<E> {
 
     @Override
     public int size() {
-        return deque.size();
+        return size.get();
     }
 
     @Override
@@ -170,7 +202,9 @@ public class BoundedDeque<E> extends AbstractCollection<E> {
 
     @Override
     public void clear() {
-        deque.clear();
+        while (deque.pollFirst() != null) {
+            size.decrementAndGet();
+        }
     }
 
     /**
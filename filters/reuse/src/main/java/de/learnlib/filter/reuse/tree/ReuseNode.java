@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import de.learnlib.filter.reuse.tree.BoundedDeque.AccessPolicy;
 import de.learnlib.filter.reuse.tree.BoundedDeque.EvictPolicy;
@@ -29,6 +30,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * ReuseEdge}s. Each {@link ReuseNode} may contain a system state holding relevant information (e.g. database
  * identifiers or an object) that belongs to the system state that 'represents' the system state after executing a
  * membership query.
+ * <p>
+ * All operations of a {@link ReuseNode} are thread-safe: outgoing edges are stored in an atomic array (see {@link
+ * #addEdgeIfAbsent(int, ReuseEdge)}) and system states are stored in a non-blocking {@link BoundedDeque}.
  *
  * @param <S>
  *         system state class
@@ -39,23 +43,34 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public class ReuseNode<S, I, O> {
 
-    private final @Nullable ReuseEdge<S, I, O>[] edges;
+    private final AtomicReferenceArray<@Nullable ReuseEdge<S, I, O>> edges;
     private final BoundedDeque<S> systemStates;
     private final int id;
+    private final int depth;
 
-    @SuppressWarnings("unchecked")
     public ReuseNode(int id,
                      int alphabetSize,
                      int maxSystemStates,
                      AccessPolicy accessPolicy,
                      EvictPolicy evictPolicy) {
-        this.edges = new ReuseEdge[alphabetSize];
+        this(id, 0, alphabetSize, maxSystemStates, accessPolicy, evictPolicy);
+    }
+
+    public ReuseNode(int id,
+                     int depth,
+                     int alphabetSize,
+                     int maxSystemStates,
+                     AccessPolicy accessPolicy,
+                     EvictPolicy evictPolicy) {
+        this.edges = new AtomicReferenceArray<>(alphabetSize);
         this.id = id;
+        this.depth = depth;
         this.systemStates = new BoundedDeque<>(maxSystemStates, accessPolicy, evictPolicy);
     }
 
     /**
-     * Retrieve a system state.
+     * Retrieve a system state. If the system state is removed, it is claimed atomically, i.e., it is returned to at most
+     * one (concurrent) caller.
      *
      * @param remove
      *         a flag whether the system state should be removed from the internal storage after retrieval
@@ -73,6 +88,19 @@ public class ReuseNode<S, I, O> {
         return systemStates.insert(state);
     }
 
+    /**
+     * Removes the given system state. The system state is removed atomically, i.e., for (concurrent) callers that try
+     * to remove the same system state (or that retrieve it via {@link #fetchSystemState(boolean)}), only one succeeds.
+     *
+     * @param state
+     *         the system state to remove
+     *
+     * @return {@code true} if the system state has been removed, {@code false} if it is not (or no longer) stored
+     */
+    public boolean removeSystemState(S state) {
+        return systemStates.remove(state);
+    }
+
     public Iterator<S> systemStatesIterator() {
         return systemStates.iterator();
     }
@@ -91,8 +119,9 @@ public class ReuseNode<S, I, O> {
      * @return the outgoing edges of this node
      */
     public Collection<ReuseEdge<S, I, O>> getEdges() {
-        final List<ReuseEdge<S, I, O>> result = new ArrayList<>(edges.length);
-        for (ReuseEdge<S, I, O> edge : edges) {
+        final List<ReuseEdge<S, I, O>> result = new ArrayList<>(edges.length());
+        for (int i = 0; i < edges.length(); i++) {
+            final ReuseEdge<S, I, O> edge = edges.get(i);
             if (edge != null) {
                 result.add(edge);
             }
@@ -109,7 +138,26 @@ public class ReuseNode<S, I, O> {
      *         the edge to add
      */
     public void addEdge(int index, ReuseEdge<S, I, O> edge) {
-        this.edges[index] = edge;
+        this.edges.set(index, edge);
+    }
+
+    /**
+     * Atomically adds an outgoing {@link ReuseEdge} to this {@link ReuseNode} unless there already exists an edge for
+     * the given index.
+     *
+     * @param index
+     *         the position (index) of the edge to add
+     * @param edge
+     *         the edge to add
+     *
+     * @return {@code null} if the given edge has been added, or the existing edge otherwise
+     */
+    public @Nullable ReuseEdge<S, I, O> addEdgeIfAbsent(int index, ReuseEdge<S, I, O> edge) {
+        if (this.edges.compareAndSet(index, null, edge)) {
+            return null;
+        }
+        // edges are never removed, so there is an existing edge
+        return this.edges.get(index);
     }
 
     public @Nullable ReuseNode<S, I, O> getTargetNodeForInput(int index) {
@@ -129,13 +177,22 @@ public class ReuseNode<S, I, O> {
      * @return the edge with the given index. May be {@code null}.
      */
     public @Nullable ReuseEdge<S, I, O> getEdgeWithInput(int index) {
-        return this.edges[index];
+        return this.edges.get(index);
     }
 
     public int getId() {
         return this.id;
     }
 
+    /**
+     * Returns the depth of this node in the {@link ReuseTree}, i.e., the number of (non-reflexive) edges from the root.
+     *
+     * @return the depth of this node
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
     public static final class NodeResult<S, I, O> {
 
         public final ReuseNode<S, I, O> reuseNode;
@@ -17,11 +17,10 @@ package de.learnlib.filter.reuse.tree;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import de.learnlib.filter.reuse.BuilderDefaults;
 import de.learnlib.filter.reuse.ReuseCapableOracle;
@@ -47,6 +46,21 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * SUL and maintains also available system states. The {@link ReuseTree} is only 'tree like' since it may contain
  * reflexive edges at nodes (only possible if {@link ReuseTreeBuilder#withFailureOutputs(Set)} or {@link
  * ReuseTreeBuilder#withInvariantInputs(Set)} is set).
+ * <p>
+ * The {@link ReuseTree} supports concurrent access without global locking: edges are inserted atomically per node (see
+ * {@link ReuseNode#addEdgeIfAbsent(int, ReuseEdge)}), system states are stored in non-blocking deques, and fetching a
+ * system state (with enabled invalidation) atomically claims it, so that each system state is handed out to at most one
+ * thread. Note that {@link #clearTree()} and {@link #disposeSystemStates()} should not be invoked concurrently to
+ * other operations, since system states that are inserted concurrently may not be disposed.
+ * <p>
+ * Besides the capacity of each node (see {@link ReuseTreeBuilder#withMaxSystemStates(int)}), the total weight of all
+ * stored system states can be limited by a tree-wide budget (see {@link ReuseTreeBuilder#withSystemStateBudget(long)}
+ * and {@link ReuseTreeBuilder#withSystemStateWeigher(SystemStateWeigher)}). If the budget is exceeded, system states
+ * are evicted based on their weight, the depth of their nodes (i.e., the cost for re-creating them), and the recency of
+ * their last access (see {@link SystemStateBudget}). Evicted system states are passed to the
+ * {@link SystemStateHandler}. The number and weight of stored and evicted system states are reported by
+ * {@link #getSystemStateCount()}, {@link #getSystemStateWeight()}, {@link #getEvictedSystemStateCount()}, and
+ * {@link #getEvictedSystemStateWeight()}.
  *
  * @param <S>
  *         system state type
@@ -66,9 +80,9 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
     private final int maxSystemStates;
     private final AccessPolicy accessPolicy;
     private final EvictPolicy evictPolicy;
-    private int nodeCount;
-    private ReuseNode<S, I, O> root;
-    private final ReadWriteLock lock;
+    private final AtomicInteger nodeCount;
+    private final AtomicReference<ReuseNode<S, I, O>> root;
+    private final SystemStateBudget<S, I, O> budget;
 
     @GenerateBuilder(defaults = BuilderDefaults.class,
                      getterPrefix = GenerateBuilder.SUPPRESS,
@@ -81,7 +95,9 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
                      Set<O> failureOutputs,
                      int maxSystemStates,
                      AccessPolicy accessPolicy,
-                     EvictPolicy evictPolicy) {
+                     EvictPolicy evictPolicy,
+                     long systemStateBudget,
+                     SystemStateWeigher<S> systemStateWeigher) {
         this.alphabet = alphabet;
         this.invalidateSystemStates = enabledSystemStateInvalidation;
         this.systemStateHandler = systemStateHandler;
@@ -91,16 +107,21 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
         this.maxSystemStates = maxSystemStates;
         this.accessPolicy = accessPolicy;
         this.evictPolicy = evictPolicy;
+        this.budget = new SystemStateBudget<>(systemStateBudget, systemStateWeigher, systemStateHandler);
 
         // local and not configurable
         this.alphabetSize = alphabet.size();
-        this.root = new ReuseNode<>(nodeCount++, alphabetSize, maxSystemStates, accessPolicy, evictPolicy);
-
-        this.lock = new ReentrantReadWriteLock();
+        this.nodeCount = new AtomicInteger();
+        this.root = new AtomicReference<>(createNode(0));
     }
 
-    private ReuseNode<S, I, O> createNode() {
-        return new ReuseNode<>(nodeCount++, alphabetSize, maxSystemStates, accessPolicy, evictPolicy);
+    private ReuseNode<S, I, O> createNode(int depth) {
+        return new ReuseNode<>(nodeCount.getAndIncrement(),
+                               depth,
+                               alphabetSize,
+                               maxSystemStates,
+                               accessPolicy,
+                               evictPolicy);
     }
 
     /**
@@ -114,19 +135,14 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
     public @Nullable Word<O> getOutput(Word<I> query) {
         final WordBuilder<O> output = new WordBuilder<>();
 
-        this.lock.readLock().lock();
-        try {
-            ReuseNode<S, I, O> sink = getRoot();
-            for (I symbol : query) {
-                final ReuseEdge<S, I, O> edge = sink.getEdgeWithInput(alphabet.getSymbolIndex(symbol));
-                if (edge == null) {
-                    return null;
-                }
-                output.add(edge.getOutput());
-                sink = edge.getTarget();
+        ReuseNode<S, I, O> sink = getRoot();
+        for (I symbol : query) {
+            final ReuseEdge<S, I, O> edge = sink.getEdgeWithInput(alphabet.getSymbolIndex(symbol));
+            if (edge == null) {
+                return null;
             }
-        } finally {
-            this.lock.readLock().unlock();
+            output.add(edge.getOutput());
+            sink = edge.getTarget();
         }
 
         return output.toWord();
@@ -138,7 +154,7 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
      * @return root The root of the tree, never {@code null}.
      */
     public ReuseNode<S, I, O> getRoot() {
-        return this.root;
+        return this.root.get();
     }
 
     /**
@@ -154,25 +170,20 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
     public Word<@Nullable O> getPartialOutput(Word<I> query) {
         final WordBuilder<@Nullable O> output = new WordBuilder<>();
 
-        this.lock.readLock().lock();
-        try {
-            ReuseNode<S, I, O> sink = getRoot();
-            for (I symbol : query) {
-                final ReuseEdge<S, I, O> edge = sink.getEdgeWithInput(alphabet.getSymbolIndex(symbol));
-                // add null-pointers if no more outputs are available
-                if (edge == null) {
-                    break;
-                }
-                // add output for "reflexive" edges
-                if (sink.equals(edge.getTarget())) {
-                    output.add(edge.getOutput());
-                } else { // for "non-reflexive" edges add a null-pointer.
-                    output.add(null);
-                }
-                sink = edge.getTarget();
+        ReuseNode<S, I, O> sink = getRoot();
+        for (I symbol : query) {
+            final ReuseEdge<S, I, O> edge = sink.getEdgeWithInput(alphabet.getSymbolIndex(symbol));
+            // add null-pointers if no more outputs are available
+            if (edge == null) {
+                break;
             }
-        } finally {
-            this.lock.readLock().unlock();
+            // add output for "reflexive" edges
+            if (sink.equals(edge.getTarget())) {
+                output.add(edge.getOutput());
+            } else { // for "non-reflexive" edges add a null-pointer.
+                output.add(null);
+            }
+            sink = edge.getTarget();
         }
 
         // fill the output with null-pointers to the size of the query.
@@ -187,21 +198,16 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
      * The {@link SystemStateHandler} will be informed about all disposals.
      */
     public void disposeSystemStates() {
-        this.lock.writeLock().lock();
-        try {
-            disposeSystemStates(getRoot());
-        } finally {
-            this.lock.writeLock().unlock();
-        }
+        disposeSystemStates(getRoot());
     }
 
     private void disposeSystemStates(ReuseNode<S, I, O> node) {
-        Iterator<S> stateIt = node.systemStatesIterator();
-        while (stateIt.hasNext()) {
-            S state = stateIt.next();
+        // claim each state before disposing it, so that it is not handed out concurrently
+        S state;
+        while ((state = node.fetchSystemState(true)) != null) {
+            budget.removed(node, state);
             systemStateHandler.dispose(state);
         }
-        node.clearSystemStates();
 
         for (ReuseEdge<S, I, O> edge : node.getEdges()) {
             if (edge != null && !edge.getTarget().equals(node)) {
@@ -218,14 +224,8 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
      * The {@link SystemStateHandler} will <b>not</b> be informed about any disposings.
      */
     public void clearTree() {
-        this.lock.writeLock().lock();
-        try {
-            this.nodeCount = 0;
-            disposeSystemStates(root);
-            this.root = createNode();
-        } finally {
-            this.lock.writeLock().unlock();
-        }
+        this.nodeCount.set(0);
+        disposeSystemStates(this.root.getAndSet(createNode(0)));
     }
 
     /**
@@ -238,19 +238,50 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
      * @return the node accessed by the given query, {@code null} if no such node exists
      */
     public ReuseNode.@Nullable NodeResult<S, I, O> fetchSystemState(Word<I> query) {
-        int length = 0;
+        return fetchSystemState(query, query.size());
+    }
+
+    /**
+     * Returns a reusable {@link ReuseNode.NodeResult} for the query of the given {@link QueryLookup} or {@code null} if
+     * none such exists. In contrast to {@link #fetchSystemState(Word)}, this method does not need to walk the tree
+     * again, unless the system state found by the lookup has been claimed concurrently.
+     *
+     * @param lookup
+     *         the lookup of the query (see {@link #lookup(Word)})
+     *
+     * @return the node accessed by the query of the given lookup, {@code null} if no such node exists
+     */
+    public ReuseNode.@Nullable NodeResult<S, I, O> fetchSystemState(QueryLookup<S, I, O> lookup) {
+        final ReuseNode<S, I, O> node = lookup.reuseNode;
+
+        if (node == null) {
+            return null;
+        }
+
+        final S systemState = claimSystemState(node);
+
+        if (systemState != null) {
+            return new ReuseNode.NodeResult<>(node, systemState, lookup.reuseLength);
+        }
+
+        // the system state has been claimed concurrently, look for a shorter prefix
+        return fetchSystemState(lookup.query, lookup.reuseLength - 1);
+    }
 
-        this.lock.readLock().lock();
-        try {
+    private ReuseNode.@Nullable NodeResult<S, I, O> fetchSystemState(Word<I> query, int maxPrefixLength) {
+        int maxLength = maxPrefixLength;
+
+        while (maxLength >= 0) {
             ReuseNode<S, I, O> sink = getRoot();
             ReuseNode<S, I, O> lastState = null;
+            int length = 0;
+
             if (sink.hasSystemStates()) {
                 lastState = sink;
             }
 
-            ReuseNode<S, I, O> node;
-            for (int i = 0; i < query.size(); i++) {
-                node = sink.getTargetNodeForInput(alphabet.getSymbolIndex(query.getSymbol(i)));
+            for (int i = 0; i < maxLength; i++) {
+                final ReuseNode<S, I, O> node = sink.getTargetNodeForInput(alphabet.getSymbolIndex(query.getSymbol(i)));
 
                 if (node == null) {
                     // we have reached the longest known prefix
@@ -268,13 +299,84 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
                 return null;
             }
 
-            S systemState = lastState.fetchSystemState(invalidateSystemStates);
-            assert systemState != null;
+            final S systemState = claimSystemState(lastState);
+
+            if (systemState != null) {
+                return new ReuseNode.NodeResult<>(lastState, systemState, length);
+            }
 
-            return new ReuseNode.NodeResult<>(lastState, systemState, length);
-        } finally {
-            this.lock.readLock().unlock();
+            // the system state has been claimed concurrently, look for a shorter prefix
+            maxLength = length - 1;
         }
+
+        return null;
+    }
+
+    private @Nullable S claimSystemState(ReuseNode<S, I, O> node) {
+        final S systemState = node.fetchSystemState(invalidateSystemStates);
+
+        if (systemState != null) {
+            if (invalidateSystemStates) {
+                budget.removed(node, systemState);
+            } else {
+                budget.accessed(node, systemState);
+            }
+        }
+
+        return systemState;
+    }
+
+    /**
+     * Walks the tree along the given query (once) and collects the information that is required for answering it: the
+     * outputs of its longest known prefix, its "reflexive" edges, and the deepest node (of the longest known prefix)
+     * that contains a system state.
+     * <p>
+     * The lookup is a snapshot of the tree, i.e., concurrent insertions are not reflected by it. In particular, the
+     * system state found by the lookup still needs to be claimed via {@link #fetchSystemState(QueryLookup)}.
+     *
+     * @param query
+     *         the query
+     *
+     * @return the lookup of the given query
+     */
+    public QueryLookup<S, I, O> lookup(Word<I> query) {
+        final int size = query.size();
+        final WordBuilder<O> output = new WordBuilder<>(size);
+
+        ReuseNode<S, I, O> sink = getRoot();
+        ReuseNode<S, I, O> reuseNode = sink.hasSystemStates() ? sink : null;
+        int reuseLength = 0;
+        boolean[] reflexive = null;
+        int length = 0;
+
+        while (length < size) {
+            final ReuseEdge<S, I, O> edge = sink.getEdgeWithInput(alphabet.getSymbolIndex(query.getSymbol(length)));
+
+            if (edge == null) {
+                // we have reached the longest known prefix
+                break;
+            }
+
+            final ReuseNode<S, I, O> target = edge.getTarget();
+
+            if (sink.equals(target)) {
+                if (reflexive == null) {
+                    reflexive = new boolean[size];
+                }
+                reflexive[length] = true;
+            }
+
+            output.add(edge.getOutput());
+            sink = target;
+            length++;
+
+            if (sink.hasSystemStates()) {
+                reuseNode = sink;
+                reuseLength = length;
+            }
+        }
+
+        return new QueryLookup<>(query, output.toWord(), reflexive, reuseNode, reuseLength);
     }
 
     /**
@@ -332,24 +434,14 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
 
         ReuseNode<S, I, O> effectiveSink = sink;
 
-        this.lock.writeLock().lock();
-        try {
-            for (int i = 0; i < query.size(); i++) {
-                I in = query.getSymbol(i);
-                O out = queryResult.output.getSymbol(i);
-
-                ReuseEdge<S, I, O> edge = effectiveSink.getEdgeWithInput(alphabet.getSymbolIndex(in));
-                if (edge != null) {
-                    if (Objects.equals(edge.getOutput(), out)) {
-                        effectiveSink = edge.getTarget();
-                        continue;
-                    }
-
-                    throw new ReuseException(
-                            "Conflict: input '" + query + "', output '" + queryResult.output + "', i=" + i +
-                            ", cached output '" + edge.getOutput() + "'");
-                }
+        for (int i = 0; i < query.size(); i++) {
+            I in = query.getSymbol(i);
+            O out = queryResult.output.getSymbol(i);
+            int index = alphabet.getSymbolIndex(in);
 
+            ReuseEdge<S, I, O> edge = effectiveSink.getEdgeWithInput(index);
+
+            if (edge == null) {
                 ReuseNode<S, I, O> rn;
 
                 if (failureOutputSymbols.contains(out)) {
@@ -357,21 +449,76 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
                 } else if (invariantInputSymbols.contains(in)) {
                     rn = effectiveSink;
                 } else {
-                    rn = createNode();
+                    rn = createNode(effectiveSink.getDepth() + 1);
                 }
 
-                int index = alphabet.getSymbolIndex(in);
-                effectiveSink.addEdge(index, new ReuseEdge<>(effectiveSink, rn, in, out));
-                effectiveSink = rn;
+                // another thread may have inserted an edge concurrently
+                edge = effectiveSink.addEdgeIfAbsent(index, new ReuseEdge<>(effectiveSink, rn, in, out));
+                if (edge == null) {
+                    effectiveSink = rn;
+                    continue;
+                }
             }
 
-            S evictedState = effectiveSink.addSystemState(queryResult.newState);
-            if (evictedState != null) {
-                systemStateHandler.dispose(evictedState);
+            if (!Objects.equals(edge.getOutput(), out)) {
+                throw new ReuseException(
+                        "Conflict: input '" + query + "', output '" + queryResult.output + "', i=" + i +
+                        ", cached output '" + edge.getOutput() + "'");
             }
-        } finally {
-            this.lock.writeLock().unlock();
+
+            effectiveSink = edge.getTarget();
         }
+
+        // register the system state before it becomes visible to other threads
+        budget.stored(effectiveSink, queryResult.newState);
+
+        S evictedState = effectiveSink.addSystemState(queryResult.newState);
+        if (evictedState != null) {
+            budget.evicted(effectiveSink, evictedState);
+        }
+
+        budget.enforce();
+    }
+
+    /**
+     * Returns the number of system states that are currently stored in the tree.
+     *
+     * @return the number of stored system states
+     */
+    public long getSystemStateCount() {
+        return budget.getStoredStates();
+    }
+
+    /**
+     * Returns the total weight (see {@link SystemStateWeigher}) of the system states that are currently stored in the
+     * tree.
+     *
+     * @return the total weight of the stored system states
+     */
+    public long getSystemStateWeight() {
+        return budget.getStoredWeight();
+    }
+
+    /**
+     * Returns the number of system states that have been evicted from the tree, either due to the capacity of a node or
+     * due to the budget of the tree. Explicit disposals (see {@link #disposeSystemStates()}) are not counted.
+     *
+     * @return the number of evicted system states
+     */
+    public long getEvictedSystemStateCount() {
+        return budget.getEvictedStates();
+    }
+
+    /**
+     * Returns the total weight (see {@link SystemStateWeigher}) of the system states that have been evicted from the
+     * tree.
+     *
+     * @return the total weight of the evicted system states
+     *
+     * @see #getEvictedSystemStateCount()
+     */
+    public long getEvictedSystemStateWeight() {
+        return budget.getEvictedWeight();
     }
 
     @Override
@@ -408,4 +555,116 @@ public final class ReuseTree<S, I, O> implements Graph<ReuseNode<S, I, O>, Reuse
     public VisualizationHelper<ReuseNode<S, I, O>, ReuseEdge<S, I, O>> getVisualizationHelper() {
         return new ReuseTreeDotHelper<>();
     }
+
+    /**
+     * The result of a {@link #lookup(Word) lookup} of a query in the {@link ReuseTree}.
+     *
+     * @param <S>
+     *         system state type
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     */
+    public static final class QueryLookup<S, I, O> {
+
+        private final Word<I> query;
+        private final Word<O> knownOutput;
+        private final boolean @Nullable [] reflexive;
+        private final @Nullable ReuseNode<S, I, O> reuseNode;
+        private final int reuseLength;
+
+        QueryLookup(Word<I> query,
+                    Word<O> knownOutput,
+                    boolean @Nullable [] reflexive,
+                    @Nullable ReuseNode<S, I, O> reuseNode,
+                    int reuseLength) {
+            this.query = query;
+            this.knownOutput = knownOutput;
+            this.reflexive = reflexive;
+            this.reuseNode = reuseNode;
+            this.reuseLength = reuseLength;
+        }
+
+        /**
+         * Returns the query of this lookup.
+         *
+         * @return the query
+         */
+        public Word<I> getQuery() {
+            return query;
+        }
+
+        /**
+         * Returns the output of the query if it is completely known from the {@link ReuseTree}, or {@code null}
+         * otherwise.
+         *
+         * @return the output of the query, or {@code null} if unknown
+         */
+        public @Nullable Word<O> getOutput() {
+            return knownOutput.size() == query.size() ? knownOutput : null;
+        }
+
+        /**
+         * Returns the known output of the prefix of the given length.
+         *
+         * @param length
+         *         the length of the prefix, must not exceed the length of the longest known prefix
+         *
+         * @return the known output of the prefix of the given length
+         */
+        public Word<O> getOutput(int length) {
+            return knownOutput.prefix(length);
+        }
+
+        /**
+         * Returns whether the symbol at the given index of the query corresponds to a "reflexive" edge in the
+         * {@link ReuseTree}, in which case its output is already known (see {@link #getReflexiveOutput(int)}).
+         *
+         * @param index
+         *         the index of the symbol
+         *
+         * @return {@code true} if the symbol corresponds to a "reflexive" edge, {@code false} otherwise
+         */
+        public boolean isReflexive(int index) {
+            return reflexive != null && reflexive[index];
+        }
+
+        /**
+         * Returns the known output of the "reflexive" edge at the given index of the query.
+         *
+         * @param index
+         *         the index of the symbol
+         *
+         * @return the known output of the "reflexive" edge
+         *
+         * @see #isReflexive(int)
+         */
+        public O getReflexiveOutput(int index) {
+            assert isReflexive(index);
+            return knownOutput.getSymbol(index);
+        }
+
+        /**
+         * Returns the number of "reflexive" edges of the suffix of the query that starts at the given index.
+         *
+         * @param fromIndex
+         *         the start index of the suffix
+         *
+         * @return the number of "reflexive" edges of the suffix
+         */
+        public int countReflexive(int fromIndex) {
+            if (reflexive == null) {
+                return 0;
+            }
+
+            int result = 0;
+            for (int i = fromIndex; i < knownOutput.size(); i++) {
+                if (reflexive[i]) {
+                    result++;
+                }
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,272 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.filter.reuse.tree;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Book-keeping for the system states stored in a {@link ReuseTree}. Keeps track of the number and (total) weight of
+ * stored and evicted system states and, if a budget is set, evicts system states from the tree until their total
+ * weight no longer exceeds the budget.
+ * <p>
+ * The eviction is cost-aware and follows the GreedyDual-Size strategy: each stored system state is assigned the
+ * priority {@code L + cost / weight}, where the cost of a system state is the depth of its node (i.e., the number of
+ * steps required to re-create it) plus one (for the reset), and {@code L} is an inflation value that is raised to the
+ * priority of each evicted system state. The system state with the lowest priority is evicted first. Since accessing a
+ * system state refreshes its priority w.r.t. the current inflation value, system states that have not been accessed for
+ * a long time will eventually be evicted, even if they are expensive to re-create.
+ * <p>
+ * The system states are additionally kept in a set ordered by their priorities (ties are broken by the order of their
+ * last update), so that each eviction only requires logarithmic time in the number of stored system states.
+ *
+ * @param <S>
+ *         system state class
+ * @param <I>
+ *         input symbol class
+ * @param <O>
+ *         output symbol class
+ */
+final class SystemStateBudget<S, I, O> {
+
+    private static final Comparator<Candidate<?, ?, ?>> CANDIDATE_ORDER =
+            Comparator.<Candidate<?, ?, ?>>comparingDouble(c -> c.priority).thenComparingLong(c -> c.id);
+
+    private final long budget;
+    private final SystemStateWeigher<S> weigher;
+    private final SystemStateHandler<S> handler;
+    private final Map<Key<S, I, O>, Entry<S, I, O>> entries;
+    private final NavigableSet<Candidate<S, I, O>> candidates;
+    private final AtomicLong sequence;
+    private final AtomicLong inflation; // bits of a double value
+
+    private final AtomicLong storedStates;
+    private final AtomicLong storedWeight;
+    private final AtomicLong evictedStates;
+    private final AtomicLong evictedWeight;
+
+    SystemStateBudget(long budget, SystemStateWeigher<S> weigher, SystemStateHandler<S> handler) {
+        this.budget = budget;
+        this.weigher = weigher;
+        this.handler = handler;
+        this.entries = new ConcurrentHashMap<>();
+        this.candidates = new ConcurrentSkipListSet<>(CANDIDATE_ORDER);
+        this.sequence = new AtomicLong();
+        this.inflation = new AtomicLong(Double.doubleToLongBits(0));
+
+        this.storedStates = new AtomicLong();
+        this.storedWeight = new AtomicLong();
+        this.evictedStates = new AtomicLong();
+        this.evictedWeight = new AtomicLong();
+    }
+
+    /**
+     * Registers a system state that is about to be stored in the given node.
+     */
+    void stored(ReuseNode<S, I, O> node, S state) {
+        final long weight = weigh(state);
+
+        storedStates.incrementAndGet();
+        storedWeight.addAndGet(weight);
+
+        if (isBounded()) {
+            entries.compute(new Key<>(node, state), (k, e) -> {
+                final Entry<S, I, O> result = e == null ? new Entry<>(weight) : e;
+                result.count++;
+                enqueue(k, result, priority(node, weight));
+                return result;
+            });
+        }
+    }
+
+    /**
+     * Unregisters a system state that has been removed from the given node.
+     */
+    void removed(ReuseNode<S, I, O> node, S state) {
+        storedStates.decrementAndGet();
+        storedWeight.addAndGet(-weigh(state));
+
+        if (isBounded()) {
+            entries.computeIfPresent(new Key<>(node, state), (k, e) -> {
+                if (--e.count > 0) {
+                    return e;
+                }
+                candidates.remove(e.candidate);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Refreshes the priority of a system state that has been accessed (but not removed) in the given node.
+     */
+    void accessed(ReuseNode<S, I, O> node, S state) {
+        if (isBounded()) {
+            entries.computeIfPresent(new Key<>(node, state), (k, e) -> {
+                enqueue(k, e, priority(node, e.weight));
+                return e;
+            });
+        }
+    }
+
+    /**
+     * Unregisters and disposes a system state that has been evicted from the given node.
+     */
+    void evicted(ReuseNode<S, I, O> node, S state) {
+        removed(node, state);
+        evictedStates.incrementAndGet();
+        evictedWeight.addAndGet(weigh(state));
+        handler.dispose(state);
+    }
+
+    /**
+     * Evicts system states (in the order of their priorities) until the total weight of all stored system states no
+     * longer exceeds the budget.
+     */
+    void enforce() {
+        if (!isBounded()) {
+            return;
+        }
+
+        final Iterator<Candidate<S, I, O>> iter = candidates.iterator();
+
+        while (storedWeight.get() > budget && iter.hasNext()) {
+            final Candidate<S, I, O> victim = iter.next();
+            final Key<S, I, O> key = victim.key;
+            final long bits = Double.doubleToLongBits(victim.priority);
+
+            // a node may store multiple equal system states, which share the same candidate. System states that are
+            // claimed concurrently cannot be evicted, in which case we continue with the next candidate
+            while (storedWeight.get() > budget && key.node.removeSystemState(key.state)) {
+                inflation.accumulateAndGet(bits,
+                                           (x, y) -> Double.longBitsToDouble(x) < Double.longBitsToDouble(y) ? y : x);
+                evicted(key.node, key.state);
+            }
+        }
+    }
+
+    long getStoredStates() {
+        return storedStates.get();
+    }
+
+    long getStoredWeight() {
+        return storedWeight.get();
+    }
+
+    long getEvictedStates() {
+        return evictedStates.get();
+    }
+
+    long getEvictedWeight() {
+        return evictedWeight.get();
+    }
+
+    private boolean isBounded() {
+        return budget > 0;
+    }
+
+    private double priority(ReuseNode<S, I, O> node, long weight) {
+        return Double.longBitsToDouble(inflation.get()) + (node.getDepth() + 1) / (double) weight;
+    }
+
+    /**
+     * Replaces the eviction candidate of the given entry. Must only be called from within the (atomic) update methods
+     * of {@link #entries}.
+     */
+    private void enqueue(Key<S, I, O> key, Entry<S, I, O> entry, double priority) {
+        if (entry.candidate != null) {
+            candidates.remove(entry.candidate);
+        }
+        entry.candidate = new Candidate<>(key, priority, sequence.getAndIncrement());
+        candidates.add(entry.candidate);
+    }
+
+    private long weigh(S state) {
+        final long weight = weigher.weigh(state);
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight of system state must be positive: " + state);
+        }
+        return weight;
+    }
+
+    private static final class Key<S, I, O> {
+
+        private final ReuseNode<S, I, O> node;
+        private final S state;
+
+        Key(ReuseNode<S, I, O> node, S state) {
+            this.node = node;
+            this.state = state;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            final Key<?, ?, ?> that = (Key<?, ?, ?>) o;
+            return node == that.node && Objects.equals(state, that.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(node) + Objects.hashCode(state);
+        }
+    }
+
+    /**
+     * The book-keeping data of (possibly multiple equal) system states of a node. Only modified atomically via the
+     * methods of the containing {@link ConcurrentHashMap}.
+     */
+    private static final class Entry<S, I, O> {
+
+        private final long weight;
+        private int count;
+        private @Nullable Candidate<S, I, O> candidate;
+
+        Entry(long weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * An (immutable) element of the priority-ordered set of eviction candidates.
+     */
+    private static final class Candidate<S, I, O> {
+
+        private final Key<S, I, O> key;
+        private final double priority;
+        private final long id;
+
+        Candidate(Key<S, I, O> key, double priority, long id) {
+            this.key = key;
+            this.priority = priority;
+            this.id = id;
+        }
+    }
+}
@@ -20,7 +20,9 @@ import de.learnlib.filter.reuse.ReuseOracleBuilder;
 /**
  * An implementation of this interface that is set to the {@link ReuseTree} (see
  * {@link ReuseOracleBuilder#withSystemStateHandler(SystemStateHandler)}) will be informed about all removed system
- * states whenever {@link ReuseTree#disposeSystemStates()} gets called.
+ * states whenever {@link ReuseTree#disposeSystemStates()} gets called or system states are evicted from the
+ * {@link ReuseTree} (see {@link ReuseOracleBuilder#withMaxSystemStates(int)} and
+ * {@link ReuseOracleBuilder#withSystemStateBudget(long)}).
  * <p>
  * The objective of this handler is that clearing system states from the reuse tree may also result in cleaning up the
  * SUL by e.g. perform tasks like removing persisted entities from a database.
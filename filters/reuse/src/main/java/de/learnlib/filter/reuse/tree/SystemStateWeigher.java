@@ -0,0 +1,43 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.filter.reuse.tree;
+
+import de.learnlib.filter.reuse.ReuseOracleBuilder;
+
+/**
+ * An implementation of this interface that is set to the {@link ReuseTree} (see
+ * {@link ReuseOracleBuilder#withSystemStateWeigher(SystemStateWeigher)}) determines the weight (e.g., the size of a
+ * snapshot in bytes) of a system state with respect to the budget of the {@link ReuseTree} (see
+ * {@link ReuseOracleBuilder#withSystemStateBudget(long)}).
+ * <p>
+ * The weight of a system state must not change while it is stored in the {@link ReuseTree}.
+ *
+ * @param <S>
+ *         system state class
+ */
+@FunctionalInterface
+public interface SystemStateWeigher<S> {
+
+    /**
+     * Returns the (positive) weight of the given system state.
+     *
+     * @param state
+     *         the system state
+     *
+     * @return the weight of the system state
+     */
+    long weigh(S state);
+}
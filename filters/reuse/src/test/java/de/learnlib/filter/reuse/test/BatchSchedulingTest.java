@@ -0,0 +1,121 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.filter.reuse.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import de.learnlib.filter.reuse.ReuseCapableOracle;
+import de.learnlib.filter.reuse.ReuseOracle;
+import de.learnlib.filter.reuse.ReuseOracleBuilder;
+import de.learnlib.query.DefaultQuery;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the batch scheduling of the {@link ReuseOracle}.
+ */
+public class BatchSchedulingTest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 2);
+    private static final int DEPTH = 4;
+
+    @Test
+    public void testBatchScheduling() {
+        final List<DefaultQuery<Integer, Word<String>>> unsortedQueries = createQueries();
+        final List<DefaultQuery<Integer, Word<String>>> sortedQueries = createQueries();
+
+        // system states are kept after retrieval, so that siblings may continue from the state of their parent
+        final ReuseOracle<Integer, Integer, String> unsorted = new ReuseOracleBuilder<>(ALPHABET, TestOracle::new)
+                .withEnabledSystemStateInvalidation(false)
+                .build();
+        final ReuseOracle<Integer, Integer, String> sorted = new ReuseOracleBuilder<>(ALPHABET, TestOracle::new)
+                .withEnabledSystemStateInvalidation(false)
+                .withEnabledBatchScheduling(true)
+                .build();
+
+        unsorted.processQueries(unsortedQueries);
+        sorted.processQueries(sortedQueries);
+
+        // answers must not depend on the schedule
+        final TestOracle reference = new TestOracle();
+        for (int i = 0; i < sortedQueries.size(); i++) {
+            final DefaultQuery<Integer, Word<String>> q = sortedQueries.get(i);
+            final Word<String> expected =
+                    reference.processQuery(q.getInput()).output.suffix(q.getSuffix().length());
+            Assert.assertEquals(q.getOutput(), expected);
+            Assert.assertEquals(unsortedQueries.get(i).getOutput(), expected);
+        }
+
+        Assert.assertEquals(sorted.getResetCount() + sorted.getSavedResetCount(), sortedQueries.size());
+        Assert.assertEquals(unsorted.getResetCount() + unsorted.getSavedResetCount(), unsortedQueries.size());
+        // in depth-first order, only the queries of length one require a reset
+        Assert.assertEquals(sorted.getResetCount(), ALPHABET.size());
+        Assert.assertTrue(sorted.getResetCount() < unsorted.getResetCount());
+    }
+
+    private static List<DefaultQuery<Integer, Word<String>>> createQueries() {
+        final List<DefaultQuery<Integer, Word<String>>> result = new ArrayList<>();
+        final List<Word<Integer>> words = new ArrayList<>();
+        words.add(Word.epsilon());
+
+        // all non-empty words up to the given depth, each query asking for the output of the last symbol
+        for (int i = 0; i < words.size(); i++) {
+            final Word<Integer> w = words.get(i);
+            if (w.length() < DEPTH) {
+                for (Integer sym : ALPHABET) {
+                    words.add(w.append(sym));
+                    result.add(new DefaultQuery<>(w, Word.fromLetter(sym)));
+                }
+            }
+        }
+
+        Collections.shuffle(result, new Random(42));
+        return result;
+    }
+
+    /**
+     * A system whose state is the number of executed (non-zero) symbols.
+     */
+    private static final class TestOracle implements ReuseCapableOracle<Integer, Integer, String> {
+
+        @Override
+        public QueryResult<Integer, String> continueQuery(Word<Integer> trace, Integer s) {
+            int state = s;
+            final WordBuilder<String> output = new WordBuilder<>(trace.length());
+
+            for (Integer symbol : trace) {
+                if (symbol != 0) {
+                    state++;
+                }
+                output.add(Integer.toString(state));
+            }
+
+            return new QueryResult<>(output.toWord(), state);
+        }
+
+        @Override
+        public QueryResult<Integer, String> processQuery(Word<Integer> trace) {
+            return continueQuery(trace, 0);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.filter.reuse.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.learnlib.filter.reuse.ReuseCapableOracle.QueryResult;
+import de.learnlib.filter.reuse.tree.BoundedDeque;
+import de.learnlib.filter.reuse.tree.BoundedDeque.AccessPolicy;
+import de.learnlib.filter.reuse.tree.BoundedDeque.EvictPolicy;
+import de.learnlib.filter.reuse.tree.ReuseNode.NodeResult;
+import de.learnlib.filter.reuse.tree.ReuseTree;
+import de.learnlib.filter.reuse.tree.ReuseTreeBuilder;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the concurrent access of the {@link ReuseTree}.
+ */
+public class ConcurrentReuseTreeTest {
+
+    private static final Alphabet<Integer> SIGMA = Alphabets.integers(0, 2);
+    private static final int THREADS = 4;
+    private static final int QUERIES = 5_000;
+    private static final int MAX_LENGTH = 8;
+
+    @Test(timeOut = 30_000)
+    public void testConcurrentAccess() throws Exception {
+        final AtomicInteger stateCounter = new AtomicInteger();
+        final Set<Integer> claimed = ConcurrentHashMap.newKeySet();
+        final Set<Integer> disposed = ConcurrentHashMap.newKeySet();
+
+        final ReuseTree<Integer, Integer, String> tree = new ReuseTreeBuilder<Integer, Integer, String>(SIGMA)
+                .withSystemStateHandler(state -> Assert.assertTrue(disposed.add(state)))
+                .withMaxSystemStates(2)
+                .build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<?>> futures = new ArrayList<>(THREADS);
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                final Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < QUERIES; i++) {
+                        final Word<Integer> query = randomWord(random);
+                        final NodeResult<Integer, Integer, String> result = tree.fetchSystemState(query);
+
+                        if (result == null) {
+                            tree.insert(query, new QueryResult<>(output(query), stateCounter.getAndIncrement()));
+                        } else {
+                            // each system state must only be handed out once
+                            Assert.assertTrue(claimed.add(result.systemState));
+
+                            final Word<Integer> suffix = query.subWord(result.prefixLength);
+                            final Word<String> suffixOutput = output(query).subWord(result.prefixLength);
+                            tree.insert(suffix,
+                                        result.reuseNode,
+                                        new QueryResult<>(suffixOutput, stateCounter.getAndIncrement()));
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // no state has been both handed out and disposed
+        for (Integer s : claimed) {
+            Assert.assertFalse(disposed.contains(s));
+        }
+
+        // all concurrently inserted outputs are consistent
+        final Random random = new Random(THREADS);
+        for (int i = 0; i < QUERIES; i++) {
+            final Word<Integer> query = randomWord(random);
+            final Word<String> output = tree.getOutput(query);
+            if (output != null) {
+                Assert.assertEquals(output, output(query));
+            }
+        }
+
+        // the remaining states are neither claimed nor disposed
+        tree.disposeSystemStates();
+        Assert.assertEquals(claimed.size() + disposed.size(), stateCounter.get());
+    }
+
+    @Test(timeOut = 30_000)
+    public void testBoundedDeque() throws Exception {
+        final int capacity = 16;
+        final BoundedDeque<Integer> deque = new BoundedDeque<>(capacity, AccessPolicy.LIFO, EvictPolicy.EVICT_OLDEST);
+        final Set<Integer> removed = ConcurrentHashMap.newKeySet();
+        final AtomicInteger counter = new AtomicInteger();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<?>> futures = new ArrayList<>(THREADS);
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                final Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < QUERIES; i++) {
+                        final Integer e = random.nextBoolean() ?
+                                deque.insert(counter.getAndIncrement()) :
+                                deque.retrieve();
+                        if (e != null) {
+                            Assert.assertTrue(removed.add(e));
+                        }
+                        Assert.assertTrue(deque.size() <= capacity);
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(removed.size() + deque.size(), counter.get());
+    }
+
+    private static Word<Integer> randomWord(Random random) {
+        final int length = random.nextInt(MAX_LENGTH) + 1;
+        final WordBuilder<Integer> wb = new WordBuilder<>(length);
+        for (int i = 0; i < length; i++) {
+            wb.add(SIGMA.getSymbol(random.nextInt(SIGMA.size())));
+        }
+        return wb.toWord();
+    }
+
+    private static Word<String> output(Word<Integer> query) {
+        final WordBuilder<String> wb = new WordBuilder<>(query.length());
+        int sum = 0;
+        for (Integer i : query) {
+            sum += i;
+            wb.add(Integer.toString(sum % 3));
+        }
+        return wb.toWord();
+    }
+}
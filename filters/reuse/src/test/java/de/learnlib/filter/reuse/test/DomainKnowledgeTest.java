@@ -15,7 +15,9 @@
  */
 package de.learnlib.filter.reuse.test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Supplier;
 
 import de.learnlib.filter.reuse.ReuseCapableOracle;
@@ -23,6 +25,8 @@ import de.learnlib.filter.reuse.ReuseCapableOracle.QueryResult;
 import de.learnlib.filter.reuse.ReuseOracle;
 import de.learnlib.filter.reuse.ReuseOracleBuilder;
 import de.learnlib.filter.reuse.tree.ReuseNode.NodeResult;
+import de.learnlib.filter.reuse.tree.ReuseTree;
+import de.learnlib.filter.reuse.tree.ReuseTree.QueryLookup;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.word.Word;
@@ -111,6 +115,85 @@ public class DomainKnowledgeTest {
         Assert.assertEquals(output.size(), 7);
     }
 
+    @Test
+    public void testLookup() {
+        final ReuseTree<Integer, Integer, String> tree = reuseOracle.getReuseTree();
+        tree.insert(getInput(1, 0, 1), new QueryResult<>(getOutput("ok1", "ok0", "ok1"), 2));
+
+        final Word<Integer> input = getInput(1, 0, 0, 1, 1);
+        final QueryLookup<Integer, Integer, String> lookup = tree.lookup(input);
+        final Word<String> partialOutput = tree.getPartialOutput(input);
+
+        Assert.assertNull(lookup.getOutput());
+        Assert.assertEquals(lookup.getOutput(4), tree.getOutput(input.prefix(4)));
+        Assert.assertEquals(lookup.countReflexive(0), 2);
+        Assert.assertEquals(lookup.countReflexive(3), 0);
+
+        for (int i = 0; i < input.size(); i++) {
+            final String expected = partialOutput.getSymbol(i);
+            Assert.assertEquals(lookup.isReflexive(i), expected != null);
+            if (expected != null) {
+                Assert.assertEquals(lookup.getReflexiveOutput(i), expected);
+            }
+        }
+
+        final Word<Integer> known = getInput(1, 0, 0, 0, 1);
+        Assert.assertEquals(tree.lookup(known).getOutput(), tree.getOutput(known));
+
+        NodeResult<Integer, Integer, String> node = tree.fetchSystemState(lookup);
+        Assert.assertNotNull(node);
+        Assert.assertEquals(node.prefixLength, 4);
+        Assert.assertEquals(node.systemState.intValue(), 2);
+
+        // the system state has been invalidated
+        node = tree.fetchSystemState(lookup);
+        Assert.assertNull(node);
+    }
+
+    @Test
+    public void testFilteredExecution() {
+        final List<Word<Integer>> traces = new ArrayList<>();
+        final ReuseOracle<Integer, Integer, String> oracle =
+                new ReuseOracleBuilder<>(Alphabets.integers(0, 10), () -> new RecordingReuseCapableOracle(traces))
+                        .withInvariantInputs(Collections.singleton(0))
+                        .build();
+
+        Assert.assertEquals(oracle.answerQuery(getInput(1, 0, 1)), getOutput("ok1", "ok0", "ok1"));
+        Assert.assertEquals(traces.get(0), getInput(1, 0, 1));
+
+        // continue from the system state of "1 0 1", which is reached via the reflexive edges of "1 0 0 1"
+        Assert.assertEquals(oracle.answerQuery(getInput(1, 0, 0, 1, 2)), getOutput("ok1", "ok0", "ok0", "ok1", "ok2"));
+        Assert.assertEquals(traces.get(1), getInput(2));
+
+        // no system state available, the known reflexive edge is filtered
+        Assert.assertEquals(oracle.answerQuery(getInput(1, 0, 2)), getOutput("ok1", "ok0", "ok2"));
+        Assert.assertEquals(traces.get(2), getInput(1, 2));
+
+        // completely known
+        Assert.assertEquals(oracle.answerQuery(getInput(1, 0, 0, 0, 1)), getOutput("ok1", "ok0", "ok0", "ok0", "ok1"));
+        Assert.assertEquals(traces.size(), 3);
+    }
+
+    private static final class RecordingReuseCapableOracle implements ReuseCapableOracle<Integer, Integer, String> {
+
+        private final List<Word<Integer>> traces;
+
+        RecordingReuseCapableOracle(List<Word<Integer>> traces) {
+            this.traces = traces;
+        }
+
+        @Override
+        public QueryResult<Integer, String> continueQuery(Word<Integer> trace, Integer s) {
+            traces.add(trace);
+            return new QueryResult<>(trace.transform(i -> "ok" + i), s + trace.size());
+        }
+
+        @Override
+        public QueryResult<Integer, String> processQuery(Word<Integer> trace) {
+            return continueQuery(trace, 0);
+        }
+    }
+
     private static final class NullReuseCapableFactory implements Supplier<ReuseCapableOracle<Integer, Integer, String>> {
 
         @Override
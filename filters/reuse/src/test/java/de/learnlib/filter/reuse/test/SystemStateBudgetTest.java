@@ -0,0 +1,137 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.filter.reuse.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import de.learnlib.filter.reuse.ReuseCapableOracle.QueryResult;
+import de.learnlib.filter.reuse.tree.ReuseNode.NodeResult;
+import de.learnlib.filter.reuse.tree.ReuseTree;
+import de.learnlib.filter.reuse.tree.ReuseTreeBuilder;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the tree-wide budget of system states of the {@link ReuseTree}.
+ */
+public class SystemStateBudgetTest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 2);
+
+    @Test
+    public void testDepth() {
+        final List<Integer> disposed = new ArrayList<>();
+        final ReuseTree<Integer, Integer, String> tree = new ReuseTreeBuilder<Integer, Integer, String>(ALPHABET)
+                .withSystemStateHandler(disposed::add)
+                .withSystemStateBudget(3)
+                .build();
+
+        insert(tree, Word.fromSymbols(0), 1);
+        insert(tree, Word.fromSymbols(0, 0), 2);
+        insert(tree, Word.fromSymbols(0, 0, 0), 3);
+        Assert.assertTrue(disposed.isEmpty());
+
+        // the cheapest state to re-create is evicted first
+        insert(tree, Word.fromSymbols(0, 0, 0, 0), 4);
+        Assert.assertEquals(disposed, Collections.singletonList(1));
+
+        // the state of depth 2 is older than the new state of depth 1
+        insert(tree, Word.fromSymbols(1), 5);
+        Assert.assertEquals(disposed, Arrays.asList(1, 2));
+
+        Assert.assertEquals(tree.getSystemStateCount(), 3);
+        Assert.assertEquals(tree.getSystemStateWeight(), 3);
+        Assert.assertEquals(tree.getEvictedSystemStateCount(), 2);
+        Assert.assertEquals(tree.getEvictedSystemStateWeight(), 2);
+
+        tree.disposeSystemStates();
+        Assert.assertEquals(tree.getSystemStateCount(), 0);
+        Assert.assertEquals(tree.getEvictedSystemStateCount(), 2);
+        Assert.assertEquals(disposed.size(), 5);
+    }
+
+    @Test
+    public void testWeight() {
+        final List<Integer> disposed = new ArrayList<>();
+        final ReuseTree<Integer, Integer, String> tree = new ReuseTreeBuilder<Integer, Integer, String>(ALPHABET)
+                .withSystemStateHandler(disposed::add)
+                .withSystemStateBudget(10)
+                .withSystemStateWeigher(Integer::longValue)
+                .build();
+
+        insert(tree, Word.fromSymbols(0), 8);
+        insert(tree, Word.fromSymbols(1), 2);
+        insert(tree, Word.fromSymbols(2), 3);
+
+        // the heaviest state is evicted first
+        Assert.assertEquals(disposed, Collections.singletonList(8));
+        Assert.assertEquals(tree.getSystemStateCount(), 2);
+        Assert.assertEquals(tree.getSystemStateWeight(), 5);
+        Assert.assertEquals(tree.getEvictedSystemStateWeight(), 8);
+    }
+
+    @Test
+    public void testRecency() {
+        final List<Integer> disposed = new ArrayList<>();
+        final ReuseTree<Integer, Integer, String> tree = new ReuseTreeBuilder<Integer, Integer, String>(ALPHABET)
+                .withSystemStateHandler(disposed::add)
+                .withEnabledSystemStateInvalidation(false)
+                .withSystemStateBudget(2)
+                .build();
+
+        insert(tree, Word.fromSymbols(0, 0, 0), 1);
+        insert(tree, Word.fromSymbols(0), 2);
+        insert(tree, Word.fromSymbols(1, 1), 3);
+        Assert.assertEquals(disposed, Collections.singletonList(2));
+
+        // accessing the state refreshes its priority
+        final NodeResult<Integer, Integer, String> result = tree.fetchSystemState(Word.fromSymbols(1, 1));
+        Assert.assertNotNull(result);
+        Assert.assertEquals(result.systemState.intValue(), 3);
+
+        // the deepest state is evicted, because it has not been accessed for a long time
+        insert(tree, Word.fromSymbols(2, 2), 4);
+        Assert.assertEquals(disposed, Arrays.asList(2, 1));
+        Assert.assertEquals(tree.getSystemStateCount(), 2);
+    }
+
+    @Test
+    public void testNodeCapacity() {
+        final List<Integer> disposed = new ArrayList<>();
+        final ReuseTree<Integer, Integer, String> tree = new ReuseTreeBuilder<Integer, Integer, String>(ALPHABET)
+                .withSystemStateHandler(disposed::add)
+                .withMaxSystemStates(1)
+                .build();
+
+        insert(tree, Word.fromSymbols(0), 1);
+        insert(tree, Word.fromSymbols(0), 2);
+
+        Assert.assertEquals(disposed, Collections.singletonList(1));
+        Assert.assertEquals(tree.getSystemStateCount(), 1);
+        Assert.assertEquals(tree.getEvictedSystemStateCount(), 1);
+    }
+
+    private static void insert(ReuseTree<Integer, Integer, String> tree, Word<Integer> input, Integer state) {
+        final Word<String> output = input.transform(Object::toString);
+        tree.insert(input, new QueryResult<>(output, state));
+    }
+}
@@ -15,35 +15,37 @@
  */
 package de.learnlib.filter.statistic;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * A simple counter.
+ * A simple counter. Increments are striped across multiple cells (see {@link LongAdder}), so that concurrent updates
+ * (e.g., by the workers of a parallel oracle) do not contend for a single memory location. As a consequence,
+ * {@link #getCount()} is not an atomic snapshot if the counter is updated concurrently.
  */
 public class Counter extends AbstractStatisticData {
 
-    private final AtomicLong count;
+    private final LongAdder count;
 
     public Counter(String name, String unit) {
         super(name, unit);
-        this.count = new AtomicLong(0L);
+        this.count = new LongAdder();
     }
 
     public void increment(long inc) {
-        count.addAndGet(inc);
+        count.add(inc);
     }
 
     public void increment() {
-        count.incrementAndGet();
+        count.increment();
     }
 
     public long getCount() {
-        return count.get();
+        return count.sum();
     }
 
     @Override
     public String getSummary() {
-        return getName() + " [" + getUnit() + "]: " + count;
+        return getName() + " [" + getUnit() + "]: " + getCount();
     }
 
     @Override
@@ -13,63 +13,96 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package de.learnlib.filter.statistic;
 
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A simple histogram data set.
+ * <p>
+ * This class is thread-safe: each value is counted in its own bucket (backed by a {@link LongAdder}), so that concurrent
+ * updates of different (and even equal) values do not contend with each other. Small non-negative values (e.g., query
+ * lengths) are mapped to their buckets via an array, all other values via a concurrent map. Note that the reported
+ * statistics are not atomic snapshots if the data set is updated concurrently.
  */
 public class HistogramDataSet extends AbstractStatisticData {
 
-    private final SortedMap<Long, Integer> histogram = new TreeMap<>();
-
-    private long size;
+    private static final int NUM_DIRECT_BUCKETS = 1024;
 
-    private long sum;
-
-    private double mean;
+    private final AtomicReferenceArray<LongAdder> directBuckets;
+    private final Map<Long, LongAdder> buckets;
+    private final LongAdder size;
+    private final LongAdder sum;
 
     public HistogramDataSet(String name, String unit) {
         super(name, unit);
+        this.directBuckets = new AtomicReferenceArray<>(NUM_DIRECT_BUCKETS);
+        this.buckets = new ConcurrentHashMap<>();
+        this.size = new LongAdder();
+        this.sum = new LongAdder();
     }
 
     public void addDataPoint(Long value) {
-        Integer i = histogram.get(value);
-        if (i == null) {
-            i = 0;
+        addDataPoints(value, 1);
+    }
+
+    /**
+     * Adds all data points of the given data set to this data set.
+     *
+     * @param other
+     *         the data set to merge
+     */
+    public void merge(HistogramDataSet other) {
+        for (Entry<Long, Long> e : other.snapshot().entrySet()) {
+            addDataPoints(e.getKey(), e.getValue());
         }
-        histogram.put(value, i + 1);
-        sum += value;
-        size++;
-        mean = mean + ((value - mean) / size);
     }
 
+    /**
+     * Returns a snapshot of the histogram, mapping each value to its number of occurrences. Subsequent updates of this
+     * data set are not reflected in the returned map.
+     *
+     * @return a snapshot of the histogram
+     */
     public SortedMap<Long, Integer> getHistogram() {
-        return histogram;
+        final SortedMap<Long, Integer> result = new TreeMap<>();
+        for (Entry<Long, Long> e : snapshot().entrySet()) {
+            result.put(e.getKey(), (int) Math.min(Integer.MAX_VALUE, e.getValue()));
+        }
+        return result;
     }
 
     public double getMean() {
-        return mean;
+        final long n = size.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
     }
 
     public long getSize() {
-        return size;
+        return size.sum();
     }
 
     public long getSum() {
-        return sum;
+        return sum.sum();
     }
 
     public double getMedian() {
+        final SortedMap<Long, Long> histogram = snapshot();
+
+        long total = 0;
+        for (Long count : histogram.values()) {
+            total += count;
+        }
+
         long idx = 0;
-        for (Entry<Long, Integer> e : histogram.entrySet()) {
-            int count = e.getValue();
-            idx += count;
-            if (idx >= size / 2) {
+        for (Entry<Long, Long> e : histogram.entrySet()) {
+            idx += e.getValue();
+            if (idx >= total / 2) {
                 return e.getKey();
             }
         }
@@ -78,15 +111,15 @@ public class HistogramDataSet extends AbstractStatisticData {
 
     @Override
     public String getSummary() {
-        return getName() + " [" + getUnit() + "]: " + size + " (count), " + sum + " (sum), " + mean + " (mean), " +
-               getMedian() + " (median)";
+        return getName() + " [" + getUnit() + "]: " + getSize() + " (count), " + getSum() + " (sum), " + getMean() +
+               " (mean), " + getMedian() + " (median)";
     }
 
     @Override
     public String getDetails() {
         StringBuilder sb = new StringBuilder();
         sb.append(getSummary()).append(System.lineSeparator());
-        for (Entry<Long, Integer> e : histogram.entrySet()) {
+        for (Entry<Long, Long> e : snapshot().entrySet()) {
             sb.append('\t')
               .append(e.getKey())
               .append(", ")
@@ -96,4 +129,50 @@ public class HistogramDataSet extends AbstractStatisticData {
         return sb.toString();
     }
 
+    private void addDataPoints(long value, long count) {
+        getBucket(value).add(count);
+        sum.add(value * count);
+        size.add(count);
+    }
+
+    private LongAdder getBucket(long value) {
+        if (value >= 0 && value < NUM_DIRECT_BUCKETS) {
+            final int idx = (int) value;
+            final LongAdder bucket = directBuckets.get(idx);
+
+            if (bucket != null) {
+                return bucket;
+            }
+
+            directBuckets.compareAndSet(idx, null, new LongAdder());
+            return directBuckets.get(idx);
+        }
+
+        return buckets.computeIfAbsent(value, k -> new LongAdder());
+    }
+
+    private SortedMap<Long, Long> snapshot() {
+        final SortedMap<Long, Long> result = new TreeMap<>();
+
+        for (int i = 0; i < NUM_DIRECT_BUCKETS; i++) {
+            final LongAdder bucket = directBuckets.get(i);
+            if (bucket != null) {
+                putIfPositive(result, (long) i, bucket.sum());
+            }
+        }
+
+        for (Entry<Long, LongAdder> e : buckets.entrySet()) {
+            putIfPositive(result, e.getKey(), e.getValue().sum());
+        }
+
+        return result;
+    }
+
+    private static void putIfPositive(Map<Long, Long> map, Long value, long count) {
+        // buckets may have been created concurrently but not updated yet
+        if (count > 0) {
+            map.put(value, count);
+        }
+    }
+
 }
@@ -0,0 +1,95 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.filter.statistic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class HistogramDataSetTest {
+
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_POINTS = 10_000;
+    private static final long LARGE_VALUE = 5_000L;
+
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException, ExecutionException {
+        final HistogramDataSet dataSet = new HistogramDataSet("test", "#");
+        final Counter counter = new Counter("test", "#");
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>(NUM_THREADS);
+            for (int t = 0; t < NUM_THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < NUM_POINTS; i++) {
+                        dataSet.addDataPoint((long) i % 10);
+                        dataSet.addDataPoint(LARGE_VALUE);
+                        counter.increment();
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final long n = (long) NUM_THREADS * NUM_POINTS;
+
+        Assert.assertEquals(counter.getCount(), n);
+        Assert.assertEquals(dataSet.getSize(), 2 * n);
+        Assert.assertEquals(dataSet.getSum(), n / 10 * 45 + n * LARGE_VALUE);
+
+        final SortedMap<Long, Integer> histogram = dataSet.getHistogram();
+        Assert.assertEquals(histogram.size(), 11);
+        for (long i = 0; i < 10; i++) {
+            Assert.assertEquals(histogram.get(i).longValue(), n / 10);
+        }
+        Assert.assertEquals(histogram.get(LARGE_VALUE).longValue(), n);
+        Assert.assertEquals(dataSet.getMedian(), 9.0);
+    }
+
+    @Test
+    public void testMerge() {
+        final HistogramDataSet ds1 = new HistogramDataSet("ds1", "#");
+        final HistogramDataSet ds2 = new HistogramDataSet("ds2", "#");
+
+        ds1.addDataPoint(1L);
+        ds1.addDataPoint(2L);
+        ds2.addDataPoint(2L);
+        ds2.addDataPoint(-3L);
+        ds2.addDataPoint(LARGE_VALUE);
+
+        ds1.merge(ds2);
+
+        Assert.assertEquals(ds1.getSize(), 5);
+        Assert.assertEquals(ds1.getSum(), 2 + LARGE_VALUE);
+        Assert.assertEquals(ds1.getMean(), (2 + LARGE_VALUE) / 5.0);
+        Assert.assertEquals(ds1.getHistogram().toString(), "{-3=1, 1=1, 2=2, " + LARGE_VALUE + "=1}");
+
+        // merging does not alter the source
+        Assert.assertEquals(ds2.getSize(), 3);
+    }
+}
@@ -15,11 +15,18 @@
  */
 package de.learnlib.oracle.equivalence;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import de.learnlib.exception.BatchInterruptedException;
 import de.learnlib.logging.Category;
 import de.learnlib.oracle.EquivalenceOracle;
 import de.learnlib.oracle.MembershipOracle;
@@ -37,6 +44,19 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Being {@link Stream stream}-based, this oracle encourages the lazy computation of counterexamples, so that all
  * counterexamples do not have to be computed upfront, but only until the first valid counterexample is found.
+ * Furthermore, the search is aborted with a {@link BatchInterruptedException} (preserving the interrupt flag) if the
+ * executing thread is interrupted, so that concurrently running oracles (see {@link ParallelEQOracleChain}) can be
+ * cancelled without their (unfinished) search being mistaken for the absence of counterexamples.
+ * <p>
+ * Optionally, test words can be reduced before they are posed to the membership oracle:
+ * <ul>
+ *     <li>If a {@link #setCacheLookup(Function) cache lookup} is configured, test words whose outputs are already
+ *     cached are directly checked against the hypothesis and are not posed to the membership oracle.</li>
+ *     <li>If a {@link #setPrefixReductionWindow(int) prefix reduction window} is configured, test words that are
+ *     prefixes of other test words within the same window are dropped. Note that this is only sound for output
+ *     semantics in which the output of a word determines the outputs of its prefixes (e.g., Mealy and Moore machines)
+ *     but not for acceptor semantics (e.g., DFAs).</li>
+ * </ul>
  *
  * @param <A>
  *         hypothesis type
@@ -51,6 +71,8 @@ public abstract class AbstractTestWordEQOracle<A extends Output<I, D>, I, D> imp
 
     private final MembershipOracle<I, D> membershipOracle;
     private final int batchSize;
+    private @Nullable Function<? super Word<I>, ? extends @Nullable D> cacheLookup;
+    private int prefixReductionWindow;
 
     public AbstractTestWordEQOracle(MembershipOracle<I, D> membershipOracle) {
         this(membershipOracle, 1);
@@ -61,6 +83,31 @@ public abstract class AbstractTestWordEQOracle<A extends Output<I, D>, I, D> imp
         this.batchSize = batchSize;
     }
 
+    /**
+     * Sets the function for looking up cached outputs of test words, e.g., via {@code cache::lookup} of a learning
+     * cache that sits in front of the membership oracle. Test words whose outputs are cached (i.e., for which the
+     * function returns a non-{@code null} value) are directly checked against the hypothesis and are not posed to the
+     * membership oracle.
+     *
+     * @param cacheLookup
+     *         the lookup function, or {@code null} to disable cache lookups
+     */
+    public void setCacheLookup(@Nullable Function<? super Word<I>, ? extends @Nullable D> cacheLookup) {
+        this.cacheLookup = cacheLookup;
+    }
+
+    /**
+     * Sets the size of the window (of consecutively generated test words) in which test words that are prefixes of
+     * other test words are dropped. This is only sound for output semantics in which the output of a word determines
+     * the outputs of its prefixes (e.g., Mealy and Moore machines).
+     *
+     * @param prefixReductionWindow
+     *         the size of the window, values smaller than {@code 2} disable the reduction
+     */
+    public void setPrefixReductionWindow(int prefixReductionWindow) {
+        this.prefixReductionWindow = prefixReductionWindow;
+    }
+
     @Override
     public @Nullable DefaultQuery<I, D> findCounterExample(A hypothesis, Collection<? extends I> inputs) {
         // Fail fast on empty inputs
@@ -70,16 +117,37 @@ public abstract class AbstractTestWordEQOracle<A extends Output<I, D>, I, D> imp
             return null;
         }
 
-        final Stream<Word<I>> testWordStream = generateTestWords(hypothesis, inputs);
-        final Stream<DefaultQuery<I, D>> queryStream = testWordStream.map(DefaultQuery::new);
-        final Stream<DefaultQuery<I, D>> answeredQueryStream = answerQueries(queryStream);
+        // close the stream afterwards, so that generators may release their resources (e.g., threads)
+        try (Stream<Word<I>> testWordStream = generateTestWords(hypothesis, inputs)) {
+            final Iterator<List<Word<I>>> batchIter =
+                    IteratorUtil.batch(reduceTestWords(testWordStream).iterator(), Math.max(1, batchSize));
+
+            while (batchIter.hasNext()) {
+                // check for interrupts between test words to allow for a cooperative cancellation of the search
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new BatchInterruptedException(new InterruptedException("Equivalence test was interrupted"));
+                }
 
-        final Stream<DefaultQuery<I, D>> ceStream = answeredQueryStream.filter(query -> {
-            D hypOutput = hypothesis.computeOutput(query.getInput());
-            return !Objects.equals(hypOutput, query.getOutput());
-        });
+                final List<Word<I>> batch = batchIter.next();
+                final List<DefaultQuery<I, D>> queries = new ArrayList<>(batch.size());
 
-        return ceStream.findFirst().orElse(null);
+                for (Word<I> word : batch) {
+                    final D cachedOutput = cacheLookup == null ? null : cacheLookup.apply(word);
+                    if (cachedOutput == null) {
+                        queries.add(new DefaultQuery<>(word));
+                    } else if (!Objects.equals(hypothesis.computeOutput(word), cachedOutput)) {
+                        return new DefaultQuery<>(word, cachedOutput);
+                    }
+                }
+
+                final DefaultQuery<I, D> ce = answerQueries(hypothesis, queries);
+                if (ce != null) {
+                    return ce;
+                }
+            }
+        }
+
+        return null;
     }
 
     /**
@@ -96,18 +164,102 @@ public abstract class AbstractTestWordEQOracle<A extends Output<I, D>, I, D> imp
      */
     protected abstract Stream<Word<I>> generateTestWords(A hypothesis, Collection<? extends I> inputs);
 
-    private Stream<DefaultQuery<I, D>> answerQueries(Stream<DefaultQuery<I, D>> stream) {
+    /**
+     * Callback for test words that have been posed to the membership oracle. Test words that have been dropped by the
+     * prefix reduction or that have been answered by the cache lookup are not reported. If queries are batched, all
+     * queries of a batch are reported, including the ones after a counterexample. The default implementation does
+     * nothing.
+     *
+     * @param hypothesis
+     *         the current hypothesis of the learning algorithm
+     * @param query
+     *         the (answered) query of the executed test word
+     */
+    protected void onExecutedTestWord(A hypothesis, DefaultQuery<I, D> query) {
+        // do nothing by default
+    }
+
+    private @Nullable DefaultQuery<I, D> answerQueries(A hypothesis, List<DefaultQuery<I, D>> queries) {
         if (isBatched()) {
-            return IteratorUtil.stream(IteratorUtil.batch(stream.iterator(), this.batchSize))
-                               .peek(membershipOracle::processQueries)
-                               .flatMap(List::stream);
-        } else {
-            return stream.peek(membershipOracle::processQuery);
+            membershipOracle.processQueries(queries);
+            for (DefaultQuery<I, D> query : queries) {
+                onExecutedTestWord(hypothesis, query);
+            }
         }
+
+        for (DefaultQuery<I, D> query : queries) {
+            if (!isBatched()) {
+                membershipOracle.processQuery(query);
+                onExecutedTestWord(hypothesis, query);
+            }
+
+            final D hypOutput = hypothesis.computeOutput(query.getInput());
+            if (!Objects.equals(hypOutput, query.getOutput())) {
+                return query;
+            }
+        }
+
+        return null;
+    }
+
+    private Stream<Word<I>> reduceTestWords(Stream<Word<I>> stream) {
+        if (prefixReductionWindow < 2) {
+            return stream;
+        }
+
+        return IteratorUtil.stream(IteratorUtil.batch(stream.iterator(), prefixReductionWindow))
+                           .flatMap(window -> removePrefixes(window).stream());
+    }
+
+    /**
+     * Removes all words (in order) that are prefixes of (or equal to) other words of the given window. Uses a trie so
+     * that the reduction is linear in the total length of the words.
+     */
+    static <I> List<Word<I>> removePrefixes(List<Word<I>> window) {
+        final TrieNode<I> root = new TrieNode<>();
+        final List<TrieNode<I>> leaves = new ArrayList<>(window.size());
+
+        for (Word<I> word : window) {
+            TrieNode<I> iter = root;
+            for (I sym : word) {
+                iter = iter.getOrCreateSuccessor(sym);
+            }
+            leaves.add(iter);
+        }
+
+        final List<Word<I>> result = new ArrayList<>(window.size());
+
+        for (int i = 0; i < window.size(); i++) {
+            final TrieNode<I> leaf = leaves.get(i);
+            // only keep the first occurrence of each maximal word
+            if (leaf.successors.isEmpty() && !leaf.emitted) {
+                leaf.emitted = true;
+                result.add(window.get(i));
+            }
+        }
+
+        return result;
     }
 
     private boolean isBatched() {
         return this.batchSize > 1;
     }
 
+    private static final class TrieNode<I> {
+
+        private Map<I, TrieNode<I>> successors;
+        private boolean emitted;
+
+        TrieNode() {
+            this.successors = Collections.emptyMap();
+        }
+
+        TrieNode<I> getOrCreateSuccessor(I sym) {
+            if (successors.isEmpty()) {
+                successors = new HashMap<>();
+            }
+            return successors.computeIfAbsent(sym, k -> new TrieNode<>());
+        }
+    }
+
 }
@@ -25,6 +25,7 @@ import de.learnlib.oracle.MembershipOracle;
 import de.learnlib.oracle.MembershipOracle.DFAMembershipOracle;
 import de.learnlib.oracle.MembershipOracle.MealyMembershipOracle;
 import de.learnlib.oracle.MembershipOracle.MooreMembershipOracle;
+import de.learnlib.oracle.equivalence.mealy.ParallelCompleteExplorationEQOracle;
 import de.learnlib.tooling.annotation.refinement.GenerateRefinement;
 import de.learnlib.tooling.annotation.refinement.Generic;
 import de.learnlib.tooling.annotation.refinement.Interface;
@@ -39,6 +40,9 @@ import net.automatalib.word.Word;
 /**
  * Implements an equivalence check by complete exploration up to a given depth, i.e., by testing all possible sequences
  * of a certain length within a specified range.
+ * <p>
+ * For Mealy machines, see {@link ParallelCompleteExplorationEQOracle} for a variant that shares the execution of common
+ * prefixes and explores the input tree concurrently on multiple (forked) SULs.
  *
  * @param <I>
  *         input symbol type
@@ -0,0 +1,254 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.cover.Covers;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A cache for the state cover and the (global and state-local) characterizing sets of hypotheses that persists across
+ * multiple rounds of equivalence testing.
+ * <p>
+ * Since subsequent hypotheses usually only differ in a few (split) states, the cached data of the previous round is
+ * extended incrementally: the state cover and the global characterizing set are only extended by words for new or not
+ * yet distinguished states, and the local characterizing set of a state (identified by its access sequence) is re-used
+ * as long as it still distinguishes the state from all other states. Local characterizing sets are only computed on
+ * demand. If the cached data cannot be re-used (e.g., because the inputs have changed or the cached state cover no
+ * longer identifies unique states), all data is re-computed from scratch.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+final class IncrementalTestSetCache<I> {
+
+    private List<I> inputs;
+    private final List<Word<I>> stateCover;
+    private final List<Word<I>> globalSuffixes;
+    private final Map<Word<I>, List<Word<I>>> localSuffixes;
+
+    IncrementalTestSetCache() {
+        this.inputs = Collections.emptyList();
+        this.stateCover = new ArrayList<>();
+        this.globalSuffixes = new ArrayList<>();
+        this.localSuffixes = new HashMap<>();
+    }
+
+    /**
+     * Updates the cache for the given hypothesis.
+     *
+     * @param hypothesis
+     *         the current hypothesis
+     * @param inputs
+     *         the inputs to consider
+     * @param <S>
+     *         state type
+     *
+     * @return a view on the (updated) cache data for the given hypothesis
+     */
+    <S> Round<S, I> update(UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis, Collection<? extends I> inputs) {
+
+        final List<I> inputList = new ArrayList<>(inputs);
+
+        if (!this.inputs.equals(inputList)) {
+            reset();
+            this.inputs = inputList;
+        }
+
+        MutableMapping<S, @Nullable Word<I>> accessSequences = hypothesis.createStaticStateMapping();
+
+        if (!updateStateCover(hypothesis, accessSequences)) {
+            // cached data is not compatible with current hypothesis
+            reset();
+            accessSequences = hypothesis.createStaticStateMapping();
+            updateStateCover(hypothesis, accessSequences);
+        }
+
+        final List<Word<I>> newSuffixes = new ArrayList<>();
+        Automata.incrementalCharacterizingSet(hypothesis, inputList, globalSuffixes, newSuffixes);
+        globalSuffixes.addAll(newSuffixes);
+
+        return new Round<>(this, hypothesis, accessSequences);
+    }
+
+    /**
+     * Extends the cached state cover and stores the access sequence of each state in the given mapping. Returns
+     * {@code false} if the cached state cover contains redundant or undefined words.
+     */
+    private <S> boolean updateStateCover(UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
+                                         MutableMapping<S, @Nullable Word<I>> accessSequences) {
+
+        final List<Word<I>> newWords = new ArrayList<>();
+        Covers.incrementalStateCover(hypothesis, inputs, stateCover, newWords);
+        stateCover.addAll(newWords);
+
+        for (Word<I> as : stateCover) {
+            final S state = hypothesis.getState(as);
+            if (state == null || accessSequences.put(state, as) != null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static <S, I, T> List<@Nullable Object> buildTrace(UniversalDeterministicAutomaton<S, I, T, ?, ?> automaton,
+                                                               S state,
+                                                               Word<I> suffix) {
+        final List<@Nullable Object> trace = new ArrayList<>(2 * suffix.length() + 1);
+        S iter = state;
+
+        trace.add(automaton.getStateProperty(iter));
+
+        for (I sym : suffix) {
+            final T trans = automaton.getTransition(iter, sym);
+            if (trans == null) {
+                trace.add(null);
+                break;
+            }
+            trace.add(automaton.getTransitionProperty(trans));
+            iter = automaton.getSuccessor(trans);
+            trace.add(automaton.getStateProperty(iter));
+        }
+
+        return trace;
+    }
+
+    private void reset() {
+        this.stateCover.clear();
+        this.globalSuffixes.clear();
+        this.localSuffixes.clear();
+    }
+
+    /**
+     * The cached data for a specific hypothesis.
+     *
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     */
+    static final class Round<S, I> {
+
+        private final IncrementalTestSetCache<I> cache;
+        private final UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis;
+        private final MutableMapping<S, @Nullable Word<I>> accessSequences;
+        private final MutableMapping<S, @Nullable List<Word<I>>> localSuffixes;
+
+        Round(IncrementalTestSetCache<I> cache,
+              UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
+              MutableMapping<S, @Nullable Word<I>> accessSequences) {
+            this.cache = cache;
+            this.hypothesis = hypothesis;
+            this.accessSequences = accessSequences;
+            this.localSuffixes = hypothesis.createDynamicStateMapping();
+        }
+
+        List<Word<I>> getStateCover() {
+            return Collections.unmodifiableList(cache.stateCover);
+        }
+
+        List<Word<I>> getGlobalSuffixes() {
+            return Collections.unmodifiableList(cache.globalSuffixes);
+        }
+
+        List<I> getInputs() {
+            return Collections.unmodifiableList(cache.inputs);
+        }
+
+        /**
+         * Returns a characterizing set for the given state, either from the cache of previous rounds (if it is still
+         * characterizing) or by computing it from scratch.
+         *
+         * @param state
+         *         the state
+         *
+         * @return the characterizing set of the given state
+         */
+        List<Word<I>> getLocalSuffixes(S state) {
+            final List<Word<I>> local = localSuffixes.get(state);
+
+            if (local != null) {
+                return local;
+            }
+
+            final Word<I> as = accessSequences.get(state);
+            assert as != null;
+
+            List<Word<I>> result = cache.localSuffixes.get(as);
+
+            if (result == null || !isCharacterizing(state, result)) {
+                result = new ArrayList<>();
+                Automata.stateCharacterizingSet(hypothesis, cache.inputs, state, result);
+                cache.localSuffixes.put(as, result);
+            }
+
+            localSuffixes.put(state, result);
+            return result;
+        }
+
+        /**
+         * Computes the characterizing sets of all states (in the order of the state cover), so that subsequent calls to
+         * {@link #getLocalSuffixes(Object)} only read cached data.
+         */
+        void computeAllLocalSuffixes() {
+            for (Word<I> as : cache.stateCover) {
+                final S state = hypothesis.getState(as);
+                assert state != null;
+                getLocalSuffixes(state);
+            }
+        }
+
+        private boolean isCharacterizing(S state, List<Word<I>> suffixes) {
+            final List<List<@Nullable Object>> traces = new ArrayList<>(suffixes.size());
+            for (Word<I> suffix : suffixes) {
+                traces.add(buildTrace(state, suffix));
+            }
+
+            for (S other : hypothesis.getStates()) {
+                if (Objects.equals(state, other)) {
+                    continue;
+                }
+
+                boolean separated = false;
+                for (int i = 0; i < suffixes.size() && !separated; i++) {
+                    separated = !traces.get(i).equals(buildTrace(other, suffixes.get(i)));
+                }
+
+                if (!separated) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private List<@Nullable Object> buildTrace(S state, Word<I> suffix) {
+            return IncrementalTestSetCache.buildTrace(hypothesis, state, suffix);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.learnlib.exception.BatchInterruptedException;
+import de.learnlib.oracle.EquivalenceOracle;
+import de.learnlib.oracle.EquivalenceOracle.DFAEquivalenceOracle;
+import de.learnlib.oracle.EquivalenceOracle.MealyEquivalenceOracle;
+import de.learnlib.oracle.EquivalenceOracle.MooreEquivalenceOracle;
+import de.learnlib.query.DefaultQuery;
+import de.learnlib.tooling.annotation.refinement.GenerateRefinement;
+import de.learnlib.tooling.annotation.refinement.Generic;
+import de.learnlib.tooling.annotation.refinement.Interface;
+import de.learnlib.tooling.annotation.refinement.Mapping;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MooreMachine;
+import net.automatalib.common.util.exception.ExceptionUtil;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A portfolio version of the {@link EQOracleChain} which runs all of its oracles concurrently (using the given
+ * {@link ExecutorService}) instead of one after another. As soon as one oracle reports a counterexample, the chain waits
+ * for at most the configured grace period for further counterexamples, returns the shortest one, and cancels the
+ * remaining oracles.
+ * <p>
+ * Cancellation is cooperative: running oracles are interrupted and are expected to stop their search in a timely
+ * manner (e.g., {@link AbstractTestWordEQOracle}s check for interrupts between test words and abort their search with a
+ * {@link BatchInterruptedException}, which is discarded for cancelled oracles). The chain only returns after all
+ * cancelled oracles have actually stopped, so that no oracle accesses the hypothesis (which may be refined after the
+ * chain has returned) or its resources (e.g., its SUL) concurrently to the next call of the chain. As a consequence,
+ * oracles that ignore interrupts delay the return of the chain until their search finishes.
+ * <p>
+ * Since the oracles run concurrently, they must not share any non-thread-safe resources. Typically, each oracle should
+ * use its own (membership oracle on a) SUL instance or a shared, thread-safe parallel oracle.
+ *
+ * @param <A>
+ *         hypothesis type
+ * @param <I>
+ *         input symbol type
+ * @param <D>
+ *         output domain type
+ */
+@GenerateRefinement(name = "DFAParallelEQOracleChain",
+                    generics = @Generic(value = "I", desc = "input symbol type"),
+                    parentGenerics = {@Generic(clazz = DFA.class, generics = {"?", "I"}),
+                                      @Generic("I"),
+                                      @Generic(clazz = Boolean.class)},
+                    typeMappings = @Mapping(from = EquivalenceOracle.class,
+                                            to = DFAEquivalenceOracle.class,
+                                            generics = @Generic("I")),
+                    interfaces = @Interface(clazz = DFAEquivalenceOracle.class, generics = @Generic("I")))
+@GenerateRefinement(name = "MealyParallelEQOracleChain",
+                    generics = {@Generic(value = "I", desc = "input symbol type"),
+                                @Generic(value = "O", desc = "output symbol type")},
+                    parentGenerics = {@Generic(clazz = MealyMachine.class, generics = {"?", "I", "?", "O"}),
+                                      @Generic("I"),
+                                      @Generic(clazz = Word.class, generics = "O")},
+                    typeMappings = @Mapping(from = EquivalenceOracle.class,
+                                            to = MealyEquivalenceOracle.class,
+                                            generics = {@Generic("I"), @Generic("O")}),
+                    interfaces = @Interface(clazz = MealyEquivalenceOracle.class,
+                                            generics = {@Generic("I"), @Generic("O")}))
+@GenerateRefinement(name = "MooreParallelEQOracleChain",
+                    generics = {@Generic(value = "I", desc = "input symbol type"),
+                                @Generic(value = "O", desc = "output symbol type")},
+                    parentGenerics = {@Generic(clazz = MooreMachine.class, generics = {"?", "I", "?", "O"}),
+                                      @Generic("I"),
+                                      @Generic(clazz = Word.class, generics = "O")},
+                    typeMappings = @Mapping(from = EquivalenceOracle.class,
+                                            to = MooreEquivalenceOracle.class,
+                                            generics = {@Generic("I"), @Generic("O")}),
+                    interfaces = @Interface(clazz = MooreEquivalenceOracle.class,
+                                            generics = {@Generic("I"), @Generic("O")}))
+public class ParallelEQOracleChain<A, I, D> implements EquivalenceOracle<A, I, D> {
+
+    private final ExecutorService executor;
+    private final long gracePeriodNanos;
+    private final List<EquivalenceOracle<? super A, I, D>> oracles;
+
+    /**
+     * Constructor.
+     *
+     * @param executor
+     *         the executor used for running the oracles. Note that all oracles are submitted at once, so the executor
+     *         should provide enough threads to run them concurrently
+     * @param gracePeriod
+     *         the amount of time to wait for potentially shorter counterexamples after the first counterexample has been
+     *         found (use {@code 0} to return the first counterexample immediately)
+     * @param unit
+     *         the time unit of {@code gracePeriod}
+     * @param oracles
+     *         the oracles of the portfolio
+     */
+    @SafeVarargs
+    public ParallelEQOracleChain(ExecutorService executor,
+                                 long gracePeriod,
+                                 TimeUnit unit,
+                                 EquivalenceOracle<? super A, I, D>... oracles) {
+        this(executor, gracePeriod, unit, Arrays.asList(oracles));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor
+     *         the executor used for running the oracles. Note that all oracles are submitted at once, so the executor
+     *         should provide enough threads to run them concurrently
+     * @param gracePeriod
+     *         the amount of time to wait for potentially shorter counterexamples after the first counterexample has been
+     *         found (use {@code 0} to return the first counterexample immediately)
+     * @param unit
+     *         the time unit of {@code gracePeriod}
+     * @param oracles
+     *         the oracles of the portfolio
+     */
+    public ParallelEQOracleChain(ExecutorService executor,
+                                 long gracePeriod,
+                                 TimeUnit unit,
+                                 List<? extends EquivalenceOracle<? super A, I, D>> oracles) {
+        this.executor = executor;
+        this.gracePeriodNanos = unit.toNanos(Math.max(0, gracePeriod));
+        this.oracles = new ArrayList<>(oracles);
+    }
+
+    public void addOracle(EquivalenceOracle<? super A, I, D> oracle) {
+        oracles.add(oracle);
+    }
+
+    @Override
+    public @Nullable DefaultQuery<I, D> findCounterExample(A hypothesis, Collection<? extends I> inputs) {
+        final CompletionService<@Nullable DefaultQuery<I, D>> completionService =
+                new ExecutorCompletionService<>(executor);
+        final List<OracleTask<A, I, D>> tasks = new ArrayList<>(oracles.size());
+        final List<Future<@Nullable DefaultQuery<I, D>>> futures = new ArrayList<>(oracles.size());
+
+        try {
+            for (EquivalenceOracle<? super A, I, D> oracle : oracles) {
+                final OracleTask<A, I, D> task = new OracleTask<>(oracle, hypothesis, inputs);
+                tasks.add(task);
+                futures.add(completionService.submit(task));
+            }
+
+            return awaitCounterExample(completionService, futures.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchInterruptedException(e);
+        } finally {
+            // the results of cancelled oracles (e.g., the BatchInterruptedExceptions thrown by interrupted
+            // AbstractTestWordEQOracles) are never queried and therefore discarded
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+            awaitTermination(tasks);
+        }
+    }
+
+    /**
+     * Waits until all (possibly cancelled) tasks have stopped. Interrupts of the waiting thread do not abort the waiting,
+     * but are preserved.
+     */
+    private static void awaitTermination(List<? extends OracleTask<?, ?, ?>> tasks) {
+        boolean interrupted = false;
+
+        for (OracleTask<?, ?, ?> task : tasks) {
+            while (true) {
+                try {
+                    task.awaitTermination();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private @Nullable DefaultQuery<I, D> awaitCounterExample(CompletionService<@Nullable DefaultQuery<I, D>> service,
+                                                             int numTasks) throws InterruptedException {
+        DefaultQuery<I, D> result = null;
+        Throwable failure = null;
+        long deadline = 0;
+
+        for (int i = 0; i < numTasks; i++) {
+            final Future<@Nullable DefaultQuery<I, D>> next;
+
+            if (result == null) {
+                next = service.take();
+            } else {
+                final long remaining = deadline - System.nanoTime();
+                next = remaining > 0 ? service.poll(remaining, TimeUnit.NANOSECONDS) : service.poll();
+                if (next == null) {
+                    break;
+                }
+            }
+
+            try {
+                final DefaultQuery<I, D> ce = next.get();
+                if (ce != null) {
+                    if (result == null) {
+                        result = ce;
+                        if (gracePeriodNanos == 0) {
+                            break;
+                        }
+                        deadline = System.nanoTime() + gracePeriodNanos;
+                    } else if (ce.getInput().length() < result.getInput().length()) {
+                        result = ce;
+                    }
+                }
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        // only report failures if no oracle was able to provide a counterexample
+        if (result == null && failure != null) {
+            ExceptionUtil.throwIfUnchecked(failure);
+            throw new IllegalStateException("Equivalence oracle threw a checked exception", failure);
+        }
+
+        return result;
+    }
+
+    /**
+     * A wrapper for the search of a single oracle, which allows one to wait for the search to stop, even if the
+     * surrounding {@link Future} has been cancelled while the search was running.
+     */
+    private static final class OracleTask<A, I, D> implements Callable<@Nullable DefaultQuery<I, D>> {
+
+        private final EquivalenceOracle<? super A, I, D> oracle;
+        private final A hypothesis;
+        private final Collection<? extends I> inputs;
+        private final AtomicBoolean claimed;
+        private final CountDownLatch terminated;
+
+        OracleTask(EquivalenceOracle<? super A, I, D> oracle, A hypothesis, Collection<? extends I> inputs) {
+            this.oracle = oracle;
+            this.hypothesis = hypothesis;
+            this.inputs = inputs;
+            this.claimed = new AtomicBoolean();
+            this.terminated = new CountDownLatch(1);
+        }
+
+        @Override
+        public @Nullable DefaultQuery<I, D> call() {
+            // the task has already been claimed by awaitTermination (i.e., it has been cancelled before it started)
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+
+            try {
+                return oracle.findCounterExample(hypothesis, inputs);
+            } finally {
+                terminated.countDown();
+            }
+        }
+
+        void awaitTermination() throws InterruptedException {
+            // if the task has not been started yet, it never will
+            if (claimed.compareAndSet(false, true)) {
+                return;
+            }
+
+            terminated.await();
+        }
+    }
+}
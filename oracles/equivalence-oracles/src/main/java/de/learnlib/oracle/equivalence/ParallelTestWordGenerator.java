@@ -0,0 +1,299 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import de.learnlib.exception.BatchInterruptedException;
+import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A utility class for generating random test words on multiple threads.
+ * <p>
+ * Each call to {@link #generate(long, Function)} splits a new {@link SplittableRandom} from the (seeded) root generator,
+ * from which each of the {@code numThreads} producers again splits its own generator. Producer {@code t} generates the
+ * words with indices {@code t, t + numThreads, t + 2 * numThreads, ...} into its own bounded queue and the returned
+ * stream consumes the queues in a round-robin fashion. As a result, the generated sequence of test words only depends
+ * on the seed, the number of threads, and the number of previous calls, but not on the scheduling of the producers.
+ * <p>
+ * Producers never block: a producer only runs until its queue is full and is re-scheduled by the consumer once the
+ * queue has been drained sufficiently. Hence, producers stop as soon as the returned stream is {@link Stream#close()
+ * closed} or no longer consumed (e.g., because it has become unreachable) and never occupy a thread of the executor
+ * indefinitely. This also allows executors with fewer threads than producers (at the cost of less parallelism).
+ * <p>
+ * Note that this class itself is not thread-safe, i.e., concurrent calls to {@link #generate(long, Function)} need to
+ * be synchronized externally.
+ */
+final class ParallelTestWordGenerator {
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int RESCHEDULE_THRESHOLD = QUEUE_CAPACITY / 2;
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long KEEP_ALIVE_S = 10;
+
+    private final SplittableRandom root;
+    private final int numThreads;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor. Creates a thread pool (shared by all generated streams) with {@code numThreads} daemon threads that
+     * terminate when idle, so that the pool does not need to be shut down.
+     *
+     * @param seed
+     *         the seed of the root random number generator
+     * @param numThreads
+     *         the number of producers
+     */
+    ParallelTestWordGenerator(long seed, int numThreads) {
+        this(seed, numThreads, createExecutor(Math.max(1, numThreads)));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param seed
+     *         the seed of the root random number generator
+     * @param numThreads
+     *         the number of producers
+     * @param executor
+     *         the executor (shared by all generated streams) that runs the producers
+     */
+    ParallelTestWordGenerator(long seed, int numThreads, ExecutorService executor) {
+        this.root = new SplittableRandom(seed);
+        this.numThreads = Math.max(1, numThreads);
+        this.executor = executor;
+    }
+
+    /**
+     * Generates a stream of (at most {@code limit}) test words.
+     *
+     * @param limit
+     *         the maximum number of test words to generate ({@link Long#MAX_VALUE} for an unbounded stream)
+     * @param generator
+     *         the function for generating a single test word from a given source of randomness. The function is called
+     *         concurrently and therefore must be thread-safe
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the stream of test words
+     */
+    <I> Stream<Word<I>> generate(long limit, Function<? super Random, Word<I>> generator) {
+        if (limit <= 0) {
+            return Stream.empty();
+        }
+
+        final SplittableRandom roundRandom = root.split();
+
+        final int threads = (int) Math.min(numThreads, limit);
+        final AtomicBoolean closed = new AtomicBoolean();
+        final List<Producer<I>> producers = new ArrayList<>(threads);
+
+        for (int i = 0; i < threads; i++) {
+            final Random random = new SplittableRandomAdapter(roundRandom.split());
+            final long numWords = limit / threads + (i < limit % threads ? 1 : 0);
+            final Producer<I> producer = new Producer<>(generator, random, numWords, closed);
+
+            producers.add(producer);
+            producer.schedule(executor);
+        }
+
+        return IteratorUtil.stream(new RoundRobinIterator<>(producers, executor, limit))
+                           .onClose(() -> closed.set(true));
+    }
+
+    private static ExecutorService createExecutor(int numThreads) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(numThreads,
+                                                                   numThreads,
+                                                                   KEEP_ALIVE_S,
+                                                                   TimeUnit.SECONDS,
+                                                                   new LinkedBlockingQueue<>(),
+                                                                   ParallelTestWordGenerator::createThread);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static Thread createThread(Runnable r) {
+        final Thread t = new Thread(r, "learnlib-test-word-generator");
+        t.setDaemon(true);
+        return t;
+    }
+
+    /**
+     * A producer of test words. Each run of a producer generates words until its queue is full, the requested number of
+     * words has been generated, or the stream has been closed. At most one run of a producer is scheduled at any time,
+     * which also makes the (unsynchronized) state of the producer safely visible to subsequent runs.
+     */
+    private static final class Producer<I> implements Runnable {
+
+        private final BlockingQueue<Word<I>> queue;
+        private final Function<? super Random, Word<I>> generator;
+        private final Random random;
+        private final AtomicBoolean closed;
+        private final AtomicBoolean scheduled;
+        private final AtomicBoolean finished;
+        private final AtomicReference<@Nullable RuntimeException> failure;
+        private long remaining;
+
+        Producer(Function<? super Random, Word<I>> generator, Random random, long numWords, AtomicBoolean closed) {
+            this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            this.generator = generator;
+            this.random = random;
+            this.remaining = numWords;
+            this.closed = closed;
+            this.scheduled = new AtomicBoolean();
+            this.finished = new AtomicBoolean();
+            this.failure = new AtomicReference<>();
+        }
+
+        void schedule(ExecutorService executor) {
+            if (!finished.get() && !closed.get() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException") // failures are propagated to the consumer
+        public void run() {
+            try {
+                // the queue only has a single producer, so its remaining capacity cannot decrease concurrently
+                while (remaining > 0 && queue.remainingCapacity() > 0 && !closed.get()) {
+                    queue.add(generator.apply(random));
+                    remaining--;
+                }
+                finished.set(remaining == 0);
+            } catch (RuntimeException e) {
+                failure.set(e);
+                finished.set(true);
+            } finally {
+                scheduled.set(false);
+            }
+        }
+    }
+
+    private static final class RoundRobinIterator<I> implements Iterator<Word<I>> {
+
+        private final List<Producer<I>> producers;
+        private final ExecutorService executor;
+        private final long limit;
+        private long index;
+
+        RoundRobinIterator(List<Producer<I>> producers, ExecutorService executor, long limit) {
+            this.producers = producers;
+            this.executor = executor;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < limit;
+        }
+
+        @Override
+        public Word<I> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Producer<I> producer = producers.get((int) (index % producers.size()));
+            final BlockingQueue<Word<I>> queue = producer.queue;
+
+            try {
+                Word<I> result = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+                while (result == null) {
+                    final RuntimeException failure = producer.failure.get();
+                    if (failure != null) {
+                        throw failure;
+                    } else if (producer.finished.get()) {
+                        // the producer may have finished after our last poll
+                        result = queue.poll();
+                        if (result == null) {
+                            throw new IllegalStateException("Producer terminated prematurely");
+                        }
+                    } else {
+                        // the producer may have stopped (due to a full queue) after our last scheduling attempt
+                        producer.schedule(executor);
+                        result = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                    }
+                }
+
+                if (queue.size() <= RESCHEDULE_THRESHOLD) {
+                    producer.schedule(executor);
+                }
+
+                index++;
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BatchInterruptedException(e);
+            }
+        }
+    }
+
+    /**
+     * A {@link Random} view on a {@link SplittableRandom}, so that test word generators can be used with both kinds of
+     * random number generators. Note that this class is not thread-safe.
+     */
+    private static final class SplittableRandomAdapter extends Random {
+
+        private static final long serialVersionUID = 1L;
+        private static final int INT_BITS = 32;
+
+        // instances are only used internally and never serialized
+        private final transient SplittableRandom delegate;
+
+        SplittableRandomAdapter(SplittableRandom delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected int next(int bits) {
+            return delegate.nextInt() >>> (INT_BITS - bits);
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return delegate.nextInt(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return delegate.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return delegate.nextBoolean();
+        }
+    }
+}
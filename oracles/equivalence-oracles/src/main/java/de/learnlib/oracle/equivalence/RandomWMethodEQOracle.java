@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import de.learnlib.oracle.EquivalenceOracle.DFAEquivalenceOracle;
@@ -37,10 +38,10 @@ import net.automatalib.automaton.concept.Output;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.MooreMachine;
-import net.automatalib.util.automaton.Automata;
 import net.automatalib.util.automaton.cover.Covers;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Implements an equivalence test based on a randomized version of the W-method as described in <a
@@ -102,6 +103,8 @@ public class RandomWMethodEQOracle<A extends UniversalDeterministicAutomaton<?,
     private final int rndLength;
     private final int bound;
     private final Random rand;
+    private final @Nullable ParallelTestWordGenerator parallelGenerator;
+    private final IncrementalTestSetCache<I> cache;
 
     /**
      * Constructor for an unbounded testing oracle.
@@ -177,11 +180,98 @@ public class RandomWMethodEQOracle<A extends UniversalDeterministicAutomaton<?,
                                  int bound,
                                  Random random,
                                  int batchSize) {
+        this(sulOracle, minimalSize, rndLength, bound, random, null, batchSize);
+    }
+
+    /**
+     * Constructor for a bounded testing oracle whose test words are generated in parallel. The generated sequence of
+     * test words is reproducible for a fixed seed and number of threads, regardless of the scheduling of the threads.
+     * The test words are generated on a thread pool that is created once by this oracle and whose idle threads
+     * terminate automatically.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param minimalSize
+     *         minimal size of the random word
+     * @param rndLength
+     *         expected length (in addition to minimalSize) of random word
+     * @param bound
+     *         specifies the bound (set to 0 for unbounded).
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     * @param seed
+     *         the seed for the random number generators of the test word generation
+     * @param numThreads
+     *         the number of threads generating test words
+     */
+    public RandomWMethodEQOracle(MembershipOracle<I, D> sulOracle,
+                                 int minimalSize,
+                                 int rndLength,
+                                 int bound,
+                                 int batchSize,
+                                 long seed,
+                                 int numThreads) {
+        this(sulOracle,
+             minimalSize,
+             rndLength,
+             bound,
+             new Random(seed),
+             new ParallelTestWordGenerator(seed, numThreads),
+             batchSize);
+    }
+
+    /**
+     * Constructor for a bounded testing oracle whose test words are generated in parallel. The generated sequence of
+     * test words is reproducible for a fixed seed and number of threads, regardless of the scheduling of the threads.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param minimalSize
+     *         minimal size of the random word
+     * @param rndLength
+     *         expected length (in addition to minimalSize) of random word
+     * @param bound
+     *         specifies the bound (set to 0 for unbounded).
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     * @param seed
+     *         the seed for the random number generators of the test word generation
+     * @param numThreads
+     *         the number of threads generating test words
+     * @param executor
+     *         the executor running the test word generation. The executor is not shut down by this oracle
+     */
+    public RandomWMethodEQOracle(MembershipOracle<I, D> sulOracle,
+                                 int minimalSize,
+                                 int rndLength,
+                                 int bound,
+                                 int batchSize,
+                                 long seed,
+                                 int numThreads,
+                                 ExecutorService executor) {
+        this(sulOracle,
+             minimalSize,
+             rndLength,
+             bound,
+             new Random(seed),
+             new ParallelTestWordGenerator(seed, numThreads, executor),
+             batchSize);
+    }
+
+    private RandomWMethodEQOracle(MembershipOracle<I, D> sulOracle,
+                                 int minimalSize,
+                                 int rndLength,
+                                 int bound,
+                                 Random random,
+                                 @Nullable ParallelTestWordGenerator parallelGenerator,
+                                 int batchSize) {
         super(sulOracle, batchSize);
         this.minimalSize = minimalSize;
         this.rndLength = rndLength;
         this.bound = bound;
         this.rand = random;
+        this.parallelGenerator = parallelGenerator;
+        this.cache = new IncrementalTestSetCache<>();
     }
 
     @Override
@@ -200,20 +290,28 @@ public class RandomWMethodEQOracle<A extends UniversalDeterministicAutomaton<?,
         List<Word<I>> transitionCover = new ArrayList<>(hypothesis.size());
         Covers.transitionCover(hypothesis, inputs, transitionCover);
 
-        // Then repeatedly from this for a random word
-        List<I> arrayAlphabet = new ArrayList<>(inputs);
+        // Then repeatedly from this for a random word. Finally, we test the state with a suffix from the characterizing
+        // set which is maintained incrementally across rounds
+        final IncrementalTestSetCache.Round<S, I> round = cache.update(hypothesis, inputs);
+        final List<I> arrayAlphabet = round.getInputs();
+        final List<Word<I>> globalSuffixes = round.getGlobalSuffixes();
 
-        // Finally we test the state with a suffix
-        List<Word<I>> globalSuffixes = new ArrayList<>();
-        Automata.characterizingSet(hypothesis, inputs, globalSuffixes);
+        if (parallelGenerator != null) {
+            return parallelGenerator.generate(bound > 0 ? bound : Long.MAX_VALUE,
+                                              r -> generateSingleTestWord(r,
+                                                                          transitionCover,
+                                                                          arrayAlphabet,
+                                                                          globalSuffixes));
+        }
 
         final Stream<Word<I>> result =
-                Stream.generate(() -> generateSingleTestWord(transitionCover, arrayAlphabet, globalSuffixes));
+                Stream.generate(() -> generateSingleTestWord(rand, transitionCover, arrayAlphabet, globalSuffixes));
 
         return bound > 0 ? result.limit(bound) : result;
     }
 
-    private Word<I> generateSingleTestWord(List<Word<I>> stateCover,
+    private Word<I> generateSingleTestWord(Random rand,
+                                           List<Word<I>> stateCover,
                                            List<I> arrayAlphabet,
                                            List<Word<I>> globalSuffixes) {
         final WordBuilder<I> wb = new WordBuilder<>(minimalSize + rndLength + 1);
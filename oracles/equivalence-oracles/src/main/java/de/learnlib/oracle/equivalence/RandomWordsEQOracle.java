@@ -18,6 +18,7 @@ package de.learnlib.oracle.equivalence;
 import java.util.Collection;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import de.learnlib.oracle.EquivalenceOracle.DFAEquivalenceOracle;
@@ -38,6 +39,7 @@ import net.automatalib.automaton.transducer.MooreMachine;
 import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 @GenerateRefinement(name = "DFARandomWordsEQOracle",
                     generics = @Generic(value = "I", desc = "input symbol type"),
@@ -73,6 +75,7 @@ import net.automatalib.word.WordBuilder;
 public class RandomWordsEQOracle<A extends Output<I, D>, I, D> extends AbstractTestWordEQOracle<A, I, D> {
 
     private final Random random;
+    private final @Nullable ParallelTestWordGenerator parallelGenerator;
     private final int maxTests;
     private final int minLength;
     private final int maxLength;
@@ -95,11 +98,97 @@ public class RandomWordsEQOracle<A extends Output<I, D>, I, D> extends AbstractT
                                int maxTests,
                                Random random,
                                int batchSize) {
+        this(mqOracle, minLength, maxLength, maxTests, random, null, batchSize);
+    }
+
+    /**
+     * Constructor for an oracle whose test words are generated in parallel. The generated sequence of test words is
+     * reproducible for a fixed seed and number of threads, regardless of the scheduling of the threads.
+     * The test words are generated on a thread pool that is created once by this oracle and whose idle threads
+     * terminate automatically.
+     *
+     * @param mqOracle
+     *         the oracle which answers tests
+     * @param minLength
+     *         the minimal length of the test words
+     * @param maxLength
+     *         the maximal length of the test words
+     * @param maxTests
+     *         the number of test words per round
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     * @param seed
+     *         the seed for the random number generators of the test word generation
+     * @param numThreads
+     *         the number of threads generating test words
+     */
+    public RandomWordsEQOracle(MembershipOracle<I, D> mqOracle,
+                               int minLength,
+                               int maxLength,
+                               int maxTests,
+                               int batchSize,
+                               long seed,
+                               int numThreads) {
+        this(mqOracle,
+             minLength,
+             maxLength,
+             maxTests,
+             new Random(seed),
+             new ParallelTestWordGenerator(seed, numThreads),
+             batchSize);
+    }
+
+    /**
+     * Constructor for an oracle whose test words are generated in parallel. The generated sequence of test words is
+     * reproducible for a fixed seed and number of threads, regardless of the scheduling of the threads.
+     *
+     * @param mqOracle
+     *         the oracle which answers tests
+     * @param minLength
+     *         the minimal length of the test words
+     * @param maxLength
+     *         the maximal length of the test words
+     * @param maxTests
+     *         the number of test words per round
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     * @param seed
+     *         the seed for the random number generators of the test word generation
+     * @param numThreads
+     *         the number of threads generating test words
+     * @param executor
+     *         the executor running the test word generation. The executor is not shut down by this oracle
+     */
+    public RandomWordsEQOracle(MembershipOracle<I, D> mqOracle,
+                               int minLength,
+                               int maxLength,
+                               int maxTests,
+                               int batchSize,
+                               long seed,
+                               int numThreads,
+                               ExecutorService executor) {
+        this(mqOracle,
+             minLength,
+             maxLength,
+             maxTests,
+             new Random(seed),
+             new ParallelTestWordGenerator(seed, numThreads, executor),
+             batchSize);
+    }
+
+    private RandomWordsEQOracle(MembershipOracle<I, D> mqOracle,
+                                int minLength,
+                                int maxLength,
+                                int maxTests,
+                                Random random,
+                                @Nullable ParallelTestWordGenerator parallelGenerator,
+                                int batchSize) {
         super(mqOracle, batchSize);
         this.maxTests = maxTests;
         this.minLength = minLength;
         this.maxLength = maxLength;
         this.random = random;
+        this.parallelGenerator = parallelGenerator;
     }
 
     @Override
@@ -107,10 +196,14 @@ public class RandomWordsEQOracle<A extends Output<I, D>, I, D> extends AbstractT
 
         final List<? extends I> symbolList = CollectionUtil.randomAccessList(inputs);
 
-        return Stream.generate(() -> generateTestWord(symbolList, symbolList.size())).limit(maxTests);
+        if (parallelGenerator != null) {
+            return parallelGenerator.generate(maxTests, r -> generateTestWord(r, symbolList, symbolList.size()));
+        }
+
+        return Stream.generate(() -> generateTestWord(random, symbolList, symbolList.size())).limit(maxTests);
     }
 
-    private Word<I> generateTestWord(List<? extends I> symbolList, int numSyms) {
+    private Word<I> generateTestWord(Random random, List<? extends I> symbolList, int numSyms) {
 
         final int length = minLength + random.nextInt(maxLength - minLength + 1);
         final WordBuilder<I> result = new WordBuilder<>(length);
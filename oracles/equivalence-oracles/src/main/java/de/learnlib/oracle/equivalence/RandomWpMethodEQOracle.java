@@ -15,10 +15,10 @@
  */
 package de.learnlib.oracle.equivalence;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import de.learnlib.oracle.EquivalenceOracle.DFAEquivalenceOracle;
@@ -37,11 +37,9 @@ import net.automatalib.automaton.concept.Output;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.MooreMachine;
-import net.automatalib.common.util.mapping.MutableMapping;
-import net.automatalib.util.automaton.Automata;
-import net.automatalib.util.automaton.cover.Covers;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Implements an equivalence test based on a randomized version of the W(p)-method as described in <a
@@ -103,6 +101,8 @@ public class RandomWpMethodEQOracle<A extends UniversalDeterministicAutomaton<?,
     private final int rndLength;
     private final int bound;
     private final Random rand;
+    private final @Nullable ParallelTestWordGenerator parallelGenerator;
+    private final IncrementalTestSetCache<I> cache;
 
     /**
      * Constructor for an unbounded testing oracle.
@@ -178,11 +178,98 @@ public class RandomWpMethodEQOracle<A extends UniversalDeterministicAutomaton<?,
                                   int bound,
                                   Random random,
                                   int batchSize) {
+        this(sulOracle, minimalSize, rndLength, bound, random, null, batchSize);
+    }
+
+    /**
+     * Constructor for a bounded testing oracle whose test words are generated in parallel. The generated sequence of
+     * test words is reproducible for a fixed seed and number of threads, regardless of the scheduling of the threads.
+     * The test words are generated on a thread pool that is created once by this oracle and whose idle threads
+     * terminate automatically.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param minimalSize
+     *         minimal size of the random word
+     * @param rndLength
+     *         expected length (in addition to minimalSize) of random word
+     * @param bound
+     *         specifies the bound (set to 0 for unbounded).
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     * @param seed
+     *         the seed for the random number generators of the test word generation
+     * @param numThreads
+     *         the number of threads generating test words
+     */
+    public RandomWpMethodEQOracle(MembershipOracle<I, D> sulOracle,
+                                  int minimalSize,
+                                  int rndLength,
+                                  int bound,
+                                  int batchSize,
+                                  long seed,
+                                  int numThreads) {
+        this(sulOracle,
+             minimalSize,
+             rndLength,
+             bound,
+             new Random(seed),
+             new ParallelTestWordGenerator(seed, numThreads),
+             batchSize);
+    }
+
+    /**
+     * Constructor for a bounded testing oracle whose test words are generated in parallel. The generated sequence of
+     * test words is reproducible for a fixed seed and number of threads, regardless of the scheduling of the threads.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param minimalSize
+     *         minimal size of the random word
+     * @param rndLength
+     *         expected length (in addition to minimalSize) of random word
+     * @param bound
+     *         specifies the bound (set to 0 for unbounded).
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     * @param seed
+     *         the seed for the random number generators of the test word generation
+     * @param numThreads
+     *         the number of threads generating test words
+     * @param executor
+     *         the executor running the test word generation. The executor is not shut down by this oracle
+     */
+    public RandomWpMethodEQOracle(MembershipOracle<I, D> sulOracle,
+                                  int minimalSize,
+                                  int rndLength,
+                                  int bound,
+                                  int batchSize,
+                                  long seed,
+                                  int numThreads,
+                                  ExecutorService executor) {
+        this(sulOracle,
+             minimalSize,
+             rndLength,
+             bound,
+             new Random(seed),
+             new ParallelTestWordGenerator(seed, numThreads, executor),
+             batchSize);
+    }
+
+    private RandomWpMethodEQOracle(MembershipOracle<I, D> sulOracle,
+                                  int minimalSize,
+                                  int rndLength,
+                                  int bound,
+                                  Random random,
+                                  @Nullable ParallelTestWordGenerator parallelGenerator,
+                                  int batchSize) {
         super(sulOracle, batchSize);
         this.minimalSize = minimalSize;
         this.rndLength = rndLength;
         this.bound = bound;
         this.rand = random;
+        this.parallelGenerator = parallelGenerator;
+        this.cache = new IncrementalTestSetCache<>();
     }
 
     @Override
@@ -193,39 +280,29 @@ public class RandomWpMethodEQOracle<A extends UniversalDeterministicAutomaton<?,
 
     private <S> Stream<Word<I>> doGenerateTestWords(UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
                                                     Collection<? extends I> inputs) {
-        // Note that we want to use ArrayLists because we want constant time random access
-        // We will sample from this for a prefix
-        List<Word<I>> stateCover = new ArrayList<>(hypothesis.size());
-        Covers.stateCover(hypothesis, inputs, stateCover);
+        // The state cover (to sample a prefix from) as well as the global and local suffixes (to test the reached state
+        // with) are maintained incrementally across rounds. Local suffixes are only computed on demand.
+        final IncrementalTestSetCache.Round<S, I> round = cache.update(hypothesis, inputs);
 
-        // Then repeatedly from this for a random word
-        List<I> arrayAlphabet = new ArrayList<>(inputs);
-
-        // Finally we test the state with a suffix, sometimes a global one, sometimes local
-        List<Word<I>> globalSuffixes = new ArrayList<>();
-        Automata.characterizingSet(hypothesis, inputs, globalSuffixes);
-
-        MutableMapping<S, List<Word<I>>> localSuffixSets = hypothesis.createStaticStateMapping();
-        for (S state : hypothesis.getStates()) {
-            List<Word<I>> suffixSet = new ArrayList<>();
-            Automata.stateCharacterizingSet(hypothesis, inputs, state, suffixSet);
-            localSuffixSets.put(state, suffixSet);
+        if (parallelGenerator != null) {
+            // pre-compute all local suffixes, so that concurrent generators only read the cached data
+            round.computeAllLocalSuffixes();
+            return parallelGenerator.generate(bound > 0 ? bound : Long.MAX_VALUE,
+                                              r -> generateSingleTestWord(r, hypothesis, round));
         }
 
-        final Stream<Word<I>> result = Stream.generate(() -> generateSingleTestWord(hypothesis,
-                                                                                    stateCover,
-                                                                                    arrayAlphabet,
-                                                                                    globalSuffixes,
-                                                                                    localSuffixSets));
+        final Stream<Word<I>> result = Stream.generate(() -> generateSingleTestWord(rand, hypothesis, round));
 
         return bound > 0 ? result.limit(bound) : result;
     }
 
-    private <S> Word<I> generateSingleTestWord(UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
-                                               List<Word<I>> stateCover,
-                                               List<I> arrayAlphabet,
-                                               List<Word<I>> globalSuffixes,
-                                               MutableMapping<S, List<Word<I>>> localSuffixSets) {
+    private <S> Word<I> generateSingleTestWord(Random rand,
+                                               UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
+                                               IncrementalTestSetCache.Round<S, I> round) {
+
+        final List<Word<I>> stateCover = round.getStateCover();
+        final List<I> arrayAlphabet = round.getInputs();
+        final List<Word<I>> globalSuffixes = round.getGlobalSuffixes();
 
         WordBuilder<I> wb = new WordBuilder<>(minimalSize + rndLength + 1);
 
@@ -251,7 +328,8 @@ public class RandomWpMethodEQOracle<A extends UniversalDeterministicAutomaton<?,
         } else {
             // local
             S state2 = hypothesis.getState(wb);
-            List<Word<I>> localSuffixes = localSuffixSets.get(state2);
+            assert state2 != null;
+            List<Word<I>> localSuffixes = round.getLocalSuffixes(state2);
             if (!localSuffixes.isEmpty()) {
                 wb.append(localSuffixes.get(rand.nextInt(localSuffixes.size())));
             }
@@ -15,18 +15,24 @@
  */
 package de.learnlib.oracle.equivalence;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
 
 import de.learnlib.oracle.EquivalenceOracle;
 import de.learnlib.oracle.MembershipOracle;
 import de.learnlib.query.DefaultQuery;
-import de.learnlib.query.Query;
+import net.automatalib.automaton.concept.DetSuffixOutputAutomaton;
 import net.automatalib.automaton.concept.SuffixOutput;
 import net.automatalib.word.Word;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -42,6 +48,12 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * This oracle will always repeatedly test queries from the sample set if they turned out to be counterexamples.
  * However, the oracle can be configured to remove queries from the sample set if they did not serve as
  * counterexamples.
+ * <p>
+ * Internally, the sample set is stored in a prefix tree (indexed by the input words of the queries), which is traversed
+ * in breadth-first order. As a result, the oracle always returns a shortest counterexample of the sample set, and
+ * samples containing symbols that are not part of the current inputs are skipped as a whole subtree. If the hypothesis
+ * is a {@link DetSuffixOutputAutomaton}, the hypothesis states reached by the (shared) prefixes of the samples are
+ * computed only once per traversal.
  *
  * @param <I>
  *         input symbol type
@@ -51,7 +63,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public class SampleSetEQOracle<I, D> implements EquivalenceOracle<SuffixOutput<I, D>, I, D> {
 
     private final boolean removeUnsuccessful;
-    private final List<DefaultQuery<I, D>> testQueries;
+    private final Node<I, D> root;
 
     /**
      * Constructor. Convenience method for {@link #SampleSetEQOracle(boolean)} that does not remove unsuccessful
@@ -71,11 +83,7 @@ public class SampleSetEQOracle<I, D> implements EquivalenceOracle<SuffixOutput<I
      */
     public SampleSetEQOracle(boolean removeUnsuccessful) {
         this.removeUnsuccessful = removeUnsuccessful;
-        if (removeUnsuccessful) {
-            testQueries = new LinkedList<>(); // for O(1) removal of elements
-        } else {
-            testQueries = new ArrayList<>();
-        }
+        this.root = new Node<>(null, null);
     }
 
     /**
@@ -89,7 +97,7 @@ public class SampleSetEQOracle<I, D> implements EquivalenceOracle<SuffixOutput<I
      * @return {@code this}, to enable chained {@code add} or {@code addAll} calls
      */
     public SampleSetEQOracle<I, D> add(Word<I> input, D expectedOutput) {
-        testQueries.add(new DefaultQuery<>(input, expectedOutput));
+        insert(new DefaultQuery<>(input, expectedOutput));
         return this;
     }
 
@@ -129,8 +137,7 @@ public class SampleSetEQOracle<I, D> implements EquivalenceOracle<SuffixOutput<I
         }
         oracle.processQueries(newQueries);
 
-        testQueries.addAll(newQueries);
-        return this;
+        return addAll(newQueries);
     }
 
     /**
@@ -157,69 +164,149 @@ public class SampleSetEQOracle<I, D> implements EquivalenceOracle<SuffixOutput<I
      * @return {@code this}, to enable chained {@code add} or {@code addAll} calls
      */
     public SampleSetEQOracle<I, D> addAll(Collection<? extends DefaultQuery<I, D>> newTestQueries) {
-        testQueries.addAll(newTestQueries);
+        for (DefaultQuery<I, D> q : newTestQueries) {
+            insert(q);
+        }
         return this;
     }
 
+    private void insert(DefaultQuery<I, D> query) {
+        Node<I, D> iter = root;
+        for (I sym : query.getInput()) {
+            iter = iter.getOrCreateChild(sym);
+        }
+        iter.addSample(query);
+    }
+
     @Override
     public @Nullable DefaultQuery<I, D> findCounterExample(SuffixOutput<I, D> hypothesis,
                                                            Collection<? extends I> inputs) {
-        Iterator<DefaultQuery<I, D>> queryIt = testQueries.iterator();
+        final Set<I> alphabet = new HashSet<>(inputs);
+
+        if (hypothesis instanceof DetSuffixOutputAutomaton) {
+            return findCounterExample(hypothesis, (DetSuffixOutputAutomaton<?, I, ?, D>) hypothesis, alphabet);
+        }
+
+        return findCounterExample(hypothesis, null, alphabet);
+    }
+
+    private <S> @Nullable DefaultQuery<I, D> findCounterExample(SuffixOutput<I, D> hypothesis,
+                                                                @Nullable DetSuffixOutputAutomaton<S, I, ?, D> automaton,
+                                                                Set<I> alphabet) {
+        final Queue<Entry<I, D, S>> queue = new ArrayDeque<>();
+        queue.add(new Entry<>(root, automaton == null ? null : automaton.getInitialState(), null, 0));
 
-        while (queryIt.hasNext()) {
-            DefaultQuery<I, D> query = queryIt.next();
+        // breadth-first traversal, so that we find the shortest counterexample
+        Entry<I, D, S> entry;
+        while ((entry = queue.poll()) != null) {
+            final Node<I, D> node = entry.node;
+            final Iterator<DefaultQuery<I, D>> sampleIt = node.samples.iterator();
 
-            if (checkInputs(query, inputs)) {
-                if (!test(query, hypothesis)) {
+            while (sampleIt.hasNext()) {
+                final DefaultQuery<I, D> query = sampleIt.next();
+                final D hypOut = computeOutput(hypothesis, automaton, entry, query);
+
+                if (!Objects.equals(hypOut, query.getOutput())) {
                     return query;
                 } else if (removeUnsuccessful) {
-                    queryIt.remove();
+                    sampleIt.remove();
+                }
+            }
+
+            for (Map.Entry<I, Node<I, D>> e : node.children.entrySet()) {
+                final I sym = e.getKey();
+                if (alphabet.contains(sym)) {
+                    final S state = entry.state;
+                    final S succ = automaton == null || state == null ? null : automaton.getSuccessor(state, sym);
+                    queue.add(new Entry<>(e.getValue(), succ, entry, entry.depth + 1));
                 }
             }
+
+            if (removeUnsuccessful) {
+                node.prune();
+            }
         }
+
         return null;
     }
 
-    /**
-     * Tests if the input word of the given {@link Query} consists entirely of symbols in {@code inputs}.
-     *
-     * @param query
-     *         the query to test
-     * @param inputs
-     *         the set of allowed inputs
-     *
-     * @return {@code true} if the input word of {@code query} consists entirely of symbols in {@code inputs},
-     * {@code false} otherwise
-     */
-    private static <I> boolean checkInputs(Query<I, ?> query, Collection<? extends I> inputs) {
-        for (I sym : query.getPrefix()) {
-            if (!inputs.contains(sym)) {
-                return false;
+    private static <I, D, S> D computeOutput(SuffixOutput<I, D> hypothesis,
+                                             @Nullable DetSuffixOutputAutomaton<S, I, ?, D> automaton,
+                                             Entry<I, D, S> entry,
+                                             DefaultQuery<I, D> query) {
+        final Word<I> prefix = query.getPrefix();
+        final Word<I> suffix = query.getSuffix();
+
+        if (automaton != null) {
+            // find the (cached) state reached by the prefix of the query
+            Entry<I, D, S> iter = entry;
+            while (iter.depth > prefix.length()) {
+                assert iter.parent != null;
+                iter = iter.parent;
             }
-        }
-        for (I sym : query.getSuffix()) {
-            if (!inputs.contains(sym)) {
-                return false;
+
+            if (iter.state != null) {
+                return automaton.computeStateOutput(iter.state, suffix);
             }
         }
-        return true;
+
+        return hypothesis.computeSuffixOutput(prefix, suffix);
     }
 
-    /**
-     * Tests if the suffix output of the given hypothesis matches the expected output stored in the query.
-     *
-     * @param query
-     *         the query, containing the expected output
-     * @param hypOutput
-     *         the suffix output portion of the hypothesis
-     *
-     * @return {@code true} if the suffix output by {@code hypOutput} matches the expected output stored in
-     * {@code query}, {@code false} otherwise.
-     */
-    private static <I, D> boolean test(DefaultQuery<I, D> query, SuffixOutput<I, D> hypOutput) {
-        D hypOut = hypOutput.computeSuffixOutput(query.getPrefix(), query.getSuffix());
+    private static final class Node<I, D> {
+
+        private final @Nullable Node<I, D> parent;
+        private final @Nullable I symbol;
+        private Map<I, Node<I, D>> children;
+        private List<DefaultQuery<I, D>> samples;
 
-        return Objects.equals(hypOut, query.getOutput());
+        Node(@Nullable Node<I, D> parent, @Nullable I symbol) {
+            this.parent = parent;
+            this.symbol = symbol;
+            this.children = Collections.emptyMap();
+            this.samples = Collections.emptyList();
+        }
+
+        Node<I, D> getOrCreateChild(I sym) {
+            if (children.isEmpty()) {
+                // preserve insertion order, so that ties between counterexamples are broken deterministically
+                children = new LinkedHashMap<>();
+            }
+            return children.computeIfAbsent(sym, k -> new Node<>(this, k));
+        }
+
+        void addSample(DefaultQuery<I, D> query) {
+            if (samples.isEmpty()) {
+                samples = new ArrayList<>();
+            }
+            samples.add(query);
+        }
+
+        /**
+         * Removes this node (and recursively its ancestors) from the tree if it neither stores samples nor has any
+         * children.
+         */
+        void prune() {
+            Node<I, D> iter = this;
+            while (iter.parent != null && iter.samples.isEmpty() && iter.children.isEmpty()) {
+                iter.parent.children.remove(iter.symbol);
+                iter = iter.parent;
+            }
+        }
     }
 
+    private static final class Entry<I, D, S> {
+
+        private final Node<I, D> node;
+        private final @Nullable S state;
+        private final @Nullable Entry<I, D, S> parent;
+        private final int depth;
+
+        Entry(Node<I, D> node, @Nullable S state, @Nullable Entry<I, D, S> parent, int depth) {
+            this.node = node;
+            this.state = state;
+            this.parent = parent;
+            this.depth = depth;
+        }
+    }
 }
@@ -0,0 +1,356 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import de.learnlib.oracle.EquivalenceOracle.DFAEquivalenceOracle;
+import de.learnlib.oracle.EquivalenceOracle.MealyEquivalenceOracle;
+import de.learnlib.oracle.EquivalenceOracle.MooreEquivalenceOracle;
+import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.oracle.MembershipOracle.DFAMembershipOracle;
+import de.learnlib.oracle.MembershipOracle.MealyMembershipOracle;
+import de.learnlib.oracle.MembershipOracle.MooreMembershipOracle;
+import de.learnlib.query.DefaultQuery;
+import de.learnlib.tooling.annotation.refinement.GenerateRefinement;
+import de.learnlib.tooling.annotation.refinement.Generic;
+import de.learnlib.tooling.annotation.refinement.Interface;
+import de.learnlib.tooling.annotation.refinement.Mapping;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.concept.Output;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.MooreMachine;
+import net.automatalib.common.util.HashUtil;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An equivalence oracle that generates random test words which are biased towards rarely tested transitions of the
+ * hypothesis. The oracle counts how often each transition of the hypothesis has been traversed by its executed test
+ * words, i.e., the test words that have actually been posed to the membership oracle (see
+ * {@link #onExecutedTestWord}). Since
+ * transitions are identified by the access sequence of their source state and their input symbol, these counts persist
+ * across multiple rounds of equivalence testing as long as the access sequences of the hypotheses remain stable (which
+ * is the case for the incrementally maintained state cover of this oracle). A test word is constructed as follows:
+ * <ol>
+ * <li>select a target transition among a few randomly sampled candidates by choosing the least often traversed one.
+ * With a probability of 50%, the candidates are sampled from the states that have been added in the last
+ * refinement</li>
+ * <li>append the access sequence of the source state and the input of the target transition</li>
+ * <li>perform a random walk (of some expected length) that prefers the less often traversed one of two randomly sampled
+ * outgoing transitions in each step</li>
+ * <li>append a random word of the (global) characterizing set to identify the reached state</li>
+ * </ol>
+ * Compared to uniformly sampling test words (e.g., via the {@link RandomWordsEQOracle}), this spends less of the test
+ * budget on frequently visited parts of the hypothesis and tests rarely reached states more often.
+ * <p>
+ * Note that this oracle does not support a parallel test word generation, since each test word depends on the
+ * transition counts of the previously executed test words. For the same reason, test words that are generated before
+ * any of them is executed (e.g., the test words of a batch or a prefix reduction window) are based on the same counts.
+ *
+ * @param <A>
+ *         automaton type
+ * @param <I>
+ *         input symbol type
+ * @param <D>
+ *         output domain type
+ */
+@GenerateRefinement(name = "DFATransitionCoverageEQOracle",
+                    generics = @Generic(value = "I", desc = "input symbol type"),
+                    parentGenerics = {@Generic(clazz = DFA.class, generics = {"?", "I"}),
+                                      @Generic("I"),
+                                      @Generic(clazz = Boolean.class)},
+                    typeMappings = @Mapping(from = MembershipOracle.class,
+                                            to = DFAMembershipOracle.class,
+                                            generics = @Generic("I")),
+                    interfaces = @Interface(clazz = DFAEquivalenceOracle.class, generics = @Generic("I")))
+@GenerateRefinement(name = "MealyTransitionCoverageEQOracle",
+                    generics = {@Generic(value = "I", desc = "input symbol type"),
+                                @Generic(value = "O", desc = "output symbol type")},
+                    parentGenerics = {@Generic(clazz = MealyMachine.class, generics = {"?", "I", "?", "O"}),
+                                      @Generic("I"),
+                                      @Generic(clazz = Word.class, generics = "O")},
+                    typeMappings = @Mapping(from = MembershipOracle.class,
+                                            to = MealyMembershipOracle.class,
+                                            generics = {@Generic("I"), @Generic("O")}),
+                    interfaces = @Interface(clazz = MealyEquivalenceOracle.class,
+                                            generics = {@Generic("I"), @Generic("O")}))
+@GenerateRefinement(name = "MooreTransitionCoverageEQOracle",
+                    generics = {@Generic(value = "I", desc = "input symbol type"),
+                                @Generic(value = "O", desc = "output symbol type")},
+                    parentGenerics = {@Generic(clazz = MooreMachine.class, generics = {"?", "I", "?", "O"}),
+                                      @Generic("I"),
+                                      @Generic(clazz = Word.class, generics = "O")},
+                    typeMappings = @Mapping(from = MembershipOracle.class,
+                                            to = MooreMembershipOracle.class,
+                                            generics = {@Generic("I"), @Generic("O")}),
+                    interfaces = @Interface(clazz = MooreEquivalenceOracle.class,
+                                            generics = {@Generic("I"), @Generic("O")}))
+public class TransitionCoverageEQOracle<A extends UniversalDeterministicAutomaton<?, I, ?, ?, ?> & Output<I, D>, I, D>
+        extends AbstractTestWordEQOracle<A, I, D> {
+
+    private static final int NUM_CANDIDATES = 4;
+
+    private final int rndLength;
+    private final int bound;
+    private final Random rand;
+    private final IncrementalTestSetCache<I> cache;
+    private final Map<Word<I>, long[]> hits;
+    private List<I> previousInputs;
+    private @Nullable HitCounter<?, I> hitCounter;
+
+    /**
+     * Constructor for an unbounded testing oracle.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param rndLength
+     *         expected length of the random walk
+     */
+    public TransitionCoverageEQOracle(MembershipOracle<I, D> sulOracle, int rndLength) {
+        this(sulOracle, rndLength, 0);
+    }
+
+    /**
+     * Constructor for a bounded testing oracle.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param rndLength
+     *         expected length of the random walk
+     * @param bound
+     *         specifies the bound (set to 0 for unbounded).
+     */
+    public TransitionCoverageEQOracle(MembershipOracle<I, D> sulOracle, int rndLength, int bound) {
+        this(sulOracle, rndLength, bound, new Random(), 1);
+    }
+
+    /**
+     * Constructor for a bounded testing oracle with specific batch size.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param rndLength
+     *         expected length of the random walk
+     * @param bound
+     *         specifies the bound (set to 0 for unbounded).
+     * @param random
+     *         custom Random generator.
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     */
+    public TransitionCoverageEQOracle(MembershipOracle<I, D> sulOracle,
+                                      int rndLength,
+                                      int bound,
+                                      Random random,
+                                      int batchSize) {
+        super(sulOracle, batchSize);
+        this.rndLength = rndLength;
+        this.bound = bound;
+        this.rand = random;
+        this.cache = new IncrementalTestSetCache<>();
+        this.hits = new HashMap<>();
+        this.previousInputs = new ArrayList<>();
+    }
+
+    @Override
+    protected Stream<Word<I>> generateTestWords(A hypothesis, Collection<? extends I> inputs) {
+        UniversalDeterministicAutomaton<?, I, ?, ?, ?> aut = hypothesis;
+        return doGenerateTestWords(aut, inputs);
+    }
+
+    private <S> Stream<Word<I>> doGenerateTestWords(UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
+                                                    Collection<? extends I> inputs) {
+        final IncrementalTestSetCache.Round<S, I> round = cache.update(hypothesis, inputs);
+        final List<I> alphabet = round.getInputs();
+        final List<Word<I>> stateCover = round.getStateCover();
+
+        if (!previousInputs.equals(alphabet)) {
+            // transition counts refer to input indices
+            hits.clear();
+            previousInputs = alphabet;
+        }
+
+        final boolean firstRound = hits.isEmpty();
+        final MutableMapping<S, long @Nullable []> stateHits = hypothesis.createStaticStateMapping();
+        final List<Coverage<S, I>> states = new ArrayList<>(stateCover.size());
+        final List<Coverage<S, I>> newStates = new ArrayList<>();
+
+        for (Word<I> as : stateCover) {
+            final S state = hypothesis.getState(as);
+            assert state != null;
+
+            long[] counts = hits.get(as);
+            if (counts == null) {
+                counts = new long[alphabet.size()];
+                hits.put(as, counts);
+                if (!firstRound) {
+                    newStates.add(new Coverage<>(as, state, counts));
+                }
+            }
+
+            stateHits.put(state, counts);
+            states.add(new Coverage<>(as, state, counts));
+        }
+
+        // discard counts of states that are no longer part of the state cover
+        hits.keySet().retainAll(new HashSet<>(stateCover));
+
+        hitCounter = new HitCounter<>(hypothesis, alphabet, stateHits);
+
+        final Stream<Word<I>> result = Stream.generate(() -> generateSingleTestWord(hypothesis,
+                                                                                    alphabet,
+                                                                                    states,
+                                                                                    newStates,
+                                                                                    stateHits,
+                                                                                    round.getGlobalSuffixes()));
+
+        return bound > 0 ? result.limit(bound) : result;
+    }
+
+    @Override
+    protected void onExecutedTestWord(A hypothesis, DefaultQuery<I, D> query) {
+        if (hitCounter != null) {
+            hitCounter.count(query.getInput());
+        }
+    }
+
+    /**
+     * Returns the (current) transition counts of the state with the given access sequence, indexed by the inputs of the
+     * last round.
+     *
+     * @param accessSequence
+     *         the access sequence of the state
+     *
+     * @return the transition counts of the state, or {@code null} if the state is not part of the current state cover
+     */
+    long @Nullable [] getHits(Word<I> accessSequence) {
+        return hits.get(accessSequence);
+    }
+
+    private <S> Word<I> generateSingleTestWord(UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
+                                               List<I> alphabet,
+                                               List<Coverage<S, I>> states,
+                                               List<Coverage<S, I>> newStates,
+                                               MutableMapping<S, long @Nullable []> stateHits,
+                                               List<Word<I>> suffixes) {
+
+        final WordBuilder<I> wb = new WordBuilder<>(rndLength + 1);
+
+        // select the least covered one of some random candidate transitions
+        final List<Coverage<S, I>> candidates = newStates.isEmpty() || rand.nextBoolean() ? states : newStates;
+        Coverage<S, I> source = null;
+        int input = -1;
+        for (int i = 0; i < NUM_CANDIDATES; i++) {
+            final Coverage<S, I> c = candidates.get(rand.nextInt(candidates.size()));
+            final int idx = rand.nextInt(alphabet.size());
+            if (source == null || c.counts[idx] < source.counts[input]) {
+                source = c;
+                input = idx;
+            }
+        }
+        assert source != null;
+
+        wb.append(source.accessSequence);
+        @Nullable S state = source.state;
+
+        // traverse the target transition and continue with a random walk (of some expected length)
+        boolean walk = true;
+        while (walk) {
+            wb.append(alphabet.get(input));
+            state = hypothesis.getSuccessor(state, alphabet.get(input));
+            walk = state != null && rand.nextDouble() > 1 / (rndLength + 1.0);
+
+            if (walk) {
+                final long[] nextCounts = stateHits.get(state);
+                assert nextCounts != null;
+                final int i1 = rand.nextInt(alphabet.size());
+                final int i2 = rand.nextInt(alphabet.size());
+                input = nextCounts[i1] <= nextCounts[i2] ? i1 : i2;
+            }
+        }
+
+        // identify the reached state
+        if (state != null && !suffixes.isEmpty()) {
+            wb.append(suffixes.get(rand.nextInt(suffixes.size())));
+        }
+
+        return wb.toWord();
+    }
+
+    /**
+     * Counts the transitions of the hypothesis (of the current round) that are traversed by the executed test words.
+     */
+    private static final class HitCounter<S, I> {
+
+        private final UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis;
+        private final Map<I, Integer> inputIndices;
+        private final MutableMapping<S, long @Nullable []> stateHits;
+
+        HitCounter(UniversalDeterministicAutomaton<S, I, ?, ?, ?> hypothesis,
+                   List<I> alphabet,
+                   MutableMapping<S, long @Nullable []> stateHits) {
+            this.hypothesis = hypothesis;
+            this.inputIndices = new HashMap<>(HashUtil.capacity(alphabet.size()));
+            this.stateHits = stateHits;
+
+            for (int i = 0; i < alphabet.size(); i++) {
+                inputIndices.put(alphabet.get(i), i);
+            }
+        }
+
+        void count(Word<I> testWord) {
+            S state = hypothesis.getInitialState();
+
+            for (I sym : testWord) {
+                if (state == null) {
+                    return;
+                }
+
+                final long[] counts = stateHits.get(state);
+                final Integer idx = inputIndices.get(sym);
+                if (counts != null && idx != null) {
+                    counts[idx]++;
+                }
+
+                state = hypothesis.getSuccessor(state, sym);
+            }
+        }
+    }
+
+    private static final class Coverage<S, I> {
+
+        private final Word<I> accessSequence;
+        private final S state;
+        private final long[] counts;
+
+        Coverage(Word<I> accessSequence, S state, long[] counts) {
+            this.accessSequence = accessSequence;
+            this.state = state;
+            this.counts = counts;
+        }
+    }
+}
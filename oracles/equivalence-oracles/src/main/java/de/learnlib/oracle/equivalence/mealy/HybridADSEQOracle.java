@@ -0,0 +1,146 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import de.learnlib.oracle.EquivalenceOracle.MealyEquivalenceOracle;
+import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.oracle.equivalence.AbstractTestWordEQOracle;
+import de.learnlib.oracle.equivalence.WpMethodEQOracle;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.common.util.collection.IterableUtil;
+import net.automatalib.common.util.mapping.Mapping;
+import net.automatalib.util.automaton.cover.Covers;
+import net.automatalib.word.Word;
+
+/**
+ * An equivalence oracle that generates a complete test suite in the style of the Hybrid-ADS method (a variant of the
+ * H-method). Each test consists of an access sequence of a hypothesis state, an arbitrary "middle" part of bounded
+ * length, and a word of a separating family for the state reached by the first two parts (see below).
+ * <p>
+ * If the hypothesis has an adaptive distinguishing sequence (ADS), the separating family of a state consists of the
+ * single word that the ADS applies to this state. This typically results in fewer and shorter tests compared to the
+ * {@link WpMethodEQOracle W(p)-method}, which tests each reached state with a (local) characterizing set. If no ADS
+ * exists, a partial ADS splits the states as far as possible and (harmonized) pairwise separating words are only added
+ * for the states that the partial ADS cannot split.
+ * <p>
+ * Given a maximum middle length of {@code k + 1}, the test suite is {@code m}-complete for {@code m = n + k} where
+ * {@code n} is the size of the (minimal) hypothesis, i.e., it reveals any inequivalent system under learning with at
+ * most {@code m} states.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ *
+ * @see RandomHybridADSEQOracle
+ */
+public class HybridADSEQOracle<I, O> extends AbstractTestWordEQOracle<MealyMachine<?, I, ?, O>, I, Word<O>>
+        implements MealyEquivalenceOracle<I, O> {
+
+    private final int lookahead;
+    private final int expectedSize;
+
+    /**
+     * Constructor. Convenience method for {@link #HybridADSEQOracle(MembershipOracle, int)} that sets
+     * {@code lookahead} to 1.
+     *
+     * @param sulOracle
+     *         interface to the system under learning
+     */
+    public HybridADSEQOracle(MembershipOracle<I, Word<O>> sulOracle) {
+        this(sulOracle, 1);
+    }
+
+    /**
+     * Constructor. Convenience method for {@link #HybridADSEQOracle(MembershipOracle, int, int)} that sets
+     * {@code expectedSize} to 0.
+     *
+     * @param sulOracle
+     *         interface to the system under learning
+     * @param lookahead
+     *         the number of additional states (compared to the hypothesis) to account for
+     */
+    public HybridADSEQOracle(MembershipOracle<I, Word<O>> sulOracle, int lookahead) {
+        this(sulOracle, lookahead, 0);
+    }
+
+    /**
+     * Constructor. Convenience method for {@link #HybridADSEQOracle(MembershipOracle, int, int, int)} that sets
+     * {@code batchSize} to 1.
+     *
+     * @param sulOracle
+     *         interface to the system under learning
+     * @param lookahead
+     *         the (minimal) number of additional states (compared to the hypothesis) to account for
+     * @param expectedSize
+     *         the expected size of the system under learning
+     */
+    public HybridADSEQOracle(MembershipOracle<I, Word<O>> sulOracle, int lookahead, int expectedSize) {
+        this(sulOracle, lookahead, expectedSize, 1);
+    }
+
+    /**
+     * Constructor. Uses {@link Math#max(int, int) Math.max}{@code (lookahead, expectedSize - }{@link
+     * MealyMachine#size() hypothesis.size()}{@code )} to determine the number of additional states to account for,
+     * i.e., the maximum length of the middle part of the tests is this value plus one.
+     *
+     * @param sulOracle
+     *         interface to the system under learning
+     * @param lookahead
+     *         the (minimal) number of additional states (compared to the hypothesis) to account for
+     * @param expectedSize
+     *         the expected size of the system under learning
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     */
+    public HybridADSEQOracle(MembershipOracle<I, Word<O>> sulOracle, int lookahead, int expectedSize, int batchSize) {
+        super(sulOracle, batchSize);
+        this.lookahead = lookahead;
+        this.expectedSize = expectedSize;
+    }
+
+    @Override
+    protected Stream<Word<I>> generateTestWords(MealyMachine<?, I, ?, O> hypothesis, Collection<? extends I> inputs) {
+        return doGenerateTestWords(hypothesis, inputs);
+    }
+
+    private <S> Stream<Word<I>> doGenerateTestWords(MealyMachine<S, I, ?, O> hypothesis,
+                                                    Collection<? extends I> inputs) {
+        final Mapping<S, List<Word<I>>> family = SeparatingFamily.compute(hypothesis, inputs);
+        final List<Word<I>> stateCover = new ArrayList<>(hypothesis.size());
+        Covers.stateCover(hypothesis, inputs, stateCover);
+
+        final int maxMiddleLength = Math.max(lookahead, expectedSize - hypothesis.size()) + 1;
+
+        return stateCover.stream().flatMap(as -> {
+            final S state = hypothesis.getState(as);
+            assert state != null;
+            return IterableUtil.stream(IterableUtil.allTuples(inputs, 0, maxMiddleLength)).flatMap(middle -> {
+                final S target = hypothesis.getSuccessor(state, middle);
+                final Word<I> prefix = as.concat(Word.fromList(middle));
+                if (target == null) {
+                    return Stream.of(prefix);
+                }
+                return family.get(target).stream().map(prefix::concat);
+            });
+        });
+    }
+}
@@ -0,0 +1,288 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import de.learnlib.exception.BatchInterruptedException;
+import de.learnlib.logging.Category;
+import de.learnlib.oracle.EquivalenceOracle.MealyEquivalenceOracle;
+import de.learnlib.oracle.ThreadPool;
+import de.learnlib.oracle.equivalence.CompleteExplorationEQOracle;
+import de.learnlib.query.DefaultQuery;
+import de.learnlib.sul.SUL;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.exception.ExceptionUtil;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A parallel version of the {@link CompleteExplorationEQOracle} for Mealy machines which explores all input sequences
+ * up to a given depth directly on (forked instances of) a SUL.
+ * <p>
+ * Since the outputs of a Mealy machine for a word contain the outputs for all of its prefixes, only the words of
+ * maximal length (i.e., the leaves of the input tree) are executed and each output is compared against the hypothesis
+ * as soon as it is produced. Hence, each word of smaller length is tested as part of its extensions and the exploration
+ * only requires one reset per leaf instead of one reset per word. A mismatch is reported as the shortest prefix of the
+ * current leaf which exposes it.
+ * <p>
+ * The input tree is partitioned into subtrees (identified by their first symbols) which are distributed dynamically
+ * among the workers, each of which uses its own {@link SUL#fork() forked} SUL to explore its subtrees in depth-first
+ * order. As soon as one worker finds a counterexample, all workers are stopped. Due to the concurrent execution, the
+ * found counterexample (if any) may differ between executions.
+ * <p>
+ * The workers are executed by an {@link ExecutorService} that is either provided by the user or created (once) by this
+ * oracle. In the latter case, this oracle needs to be {@link #shutdown() shut down} after usage.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public final class ParallelCompleteExplorationEQOracle<I, O> implements MealyEquivalenceOracle<I, O>, ThreadPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelCompleteExplorationEQOracle.class);
+
+    private final int maxDepth;
+    private final List<SUL<I, O>> suls;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor. Creates a fixed thread pool with one thread for each worker.
+     *
+     * @param sul
+     *         the system under learning. If more than one worker is used, the SUL must be {@link SUL#canFork()
+     *         forkable}
+     * @param maxDepth
+     *         maximum exploration depth
+     * @param numWorkers
+     *         the number of concurrent workers
+     */
+    public ParallelCompleteExplorationEQOracle(SUL<I, O> sul, int maxDepth, int numWorkers) {
+        this(sul, maxDepth, numWorkers, Executors.newFixedThreadPool(checkNumWorkers(numWorkers)));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sul
+     *         the system under learning. If more than one worker is used, the SUL must be {@link SUL#canFork()
+     *         forkable}
+     * @param maxDepth
+     *         maximum exploration depth
+     * @param numWorkers
+     *         the number of concurrent workers
+     * @param executor
+     *         the executor used for running the workers. Note that the workers only run concurrently if the executor
+     *         provides enough threads
+     */
+    public ParallelCompleteExplorationEQOracle(SUL<I, O> sul, int maxDepth, int numWorkers, ExecutorService executor) {
+        if (numWorkers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+
+        if (numWorkers > 1 && !sul.canFork()) {
+            throw new IllegalArgumentException("SUL must be forkable for parallel processing");
+        }
+
+        this.maxDepth = maxDepth;
+        this.suls = new ArrayList<>(numWorkers);
+        this.executor = executor;
+
+        this.suls.add(sul);
+        for (int i = 1; i < numWorkers; i++) {
+            this.suls.add(sul.fork());
+        }
+    }
+
+    @Override
+    public @Nullable DefaultQuery<I, Word<O>> findCounterExample(MealyMachine<?, I, ?, O> hypothesis,
+                                                                 Collection<? extends I> inputs) {
+        if (inputs.isEmpty()) {
+            LOGGER.warn(Category.COUNTEREXAMPLE,
+                        "Passed empty set of inputs to equivalence oracle; no counterexample can be found!");
+            return null;
+        }
+
+        if (maxDepth <= 0) {
+            return null;
+        }
+
+        final List<? extends I> symbols = CollectionUtil.randomAccessList(inputs);
+
+        // partition the input tree into (at least) as many subtrees as there are workers
+        int partitionDepth = 1;
+        long numPartitions = symbols.size();
+        while (numPartitions < suls.size() && partitionDepth < maxDepth) {
+            partitionDepth++;
+            numPartitions *= symbols.size();
+        }
+
+        final Exploration<I, O> exploration = new Exploration<>(symbols, partitionDepth, (int) numPartitions);
+        final List<Future<?>> futures = new ArrayList<>(suls.size());
+
+        try {
+            for (SUL<I, O> sul : suls) {
+                futures.add(executor.submit(() -> explore(sul, hypothesis, exploration)));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (ExecutionException e) {
+            ExceptionUtil.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchInterruptedException(e);
+        } finally {
+            // only relevant if a worker failed or the search has been interrupted
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+        }
+
+        return exploration.result.get();
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+
+    private static int checkNumWorkers(int numWorkers) {
+        if (numWorkers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        return numWorkers;
+    }
+
+    private <S, T> void explore(SUL<I, O> sul, MealyMachine<S, I, T, O> hypothesis, Exploration<I, O> exploration) {
+
+        final List<? extends I> symbols = exploration.symbols;
+        final int[] leaf = new int[maxDepth];
+        int partition;
+
+        while ((partition = exploration.nextPartition.getAndIncrement()) < exploration.numPartitions) {
+            // the first symbols of all leaves of this subtree are given by the partition index
+            int p = partition;
+            for (int i = exploration.partitionDepth - 1; i >= 0; i--) {
+                leaf[i] = p % symbols.size();
+                p /= symbols.size();
+            }
+            for (int i = exploration.partitionDepth; i < maxDepth; i++) {
+                leaf[i] = 0;
+            }
+
+            // enumerate the leaves of this subtree in depth-first order
+            do {
+                if (exploration.result.get() != null || Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+
+                final DefaultQuery<I, Word<O>> ce = execute(sul, hypothesis, symbols, leaf);
+                if (ce != null) {
+                    exploration.result.compareAndSet(null, ce);
+                    return;
+                }
+            } while (increment(leaf, exploration.partitionDepth, symbols.size()));
+        }
+    }
+
+    private <S, T> @Nullable DefaultQuery<I, Word<O>> execute(SUL<I, O> sul,
+                                                              MealyMachine<S, I, T, O> hypothesis,
+                                                              List<? extends I> symbols,
+                                                              int[] leaf) {
+        final WordBuilder<O> wbOut = new WordBuilder<>(leaf.length);
+        S cur = hypothesis.getInitialState();
+
+        sul.pre();
+        try {
+            for (int i = 0; i < leaf.length; i++) {
+                final I in = symbols.get(leaf[i]);
+                final O outSul = sul.step(in);
+
+                assert cur != null;
+                final O outHyp = hypothesis.getTransitionProperty(cur, in);
+                wbOut.add(outSul);
+
+                if (!Objects.equals(outSul, outHyp)) {
+                    final WordBuilder<I> wbIn = new WordBuilder<>(i + 1);
+                    for (int j = 0; j <= i; j++) {
+                        wbIn.add(symbols.get(leaf[j]));
+                    }
+                    final DefaultQuery<I, Word<O>> ce = new DefaultQuery<>(wbIn.toWord());
+                    ce.answer(wbOut.toWord());
+                    return ce;
+                }
+                cur = hypothesis.getSuccessor(cur, in);
+            }
+        } finally {
+            sul.post();
+        }
+
+        return null;
+    }
+
+    /**
+     * Increments the given leaf (interpreted as a number with the given base) in the positions starting from the given
+     * offset. Returns {@code false} if there is no further leaf in the subtree.
+     */
+    private static boolean increment(int[] leaf, int offset, int base) {
+        for (int i = leaf.length - 1; i >= offset; i--) {
+            if (++leaf[i] < base) {
+                return true;
+            }
+            leaf[i] = 0;
+        }
+        return false;
+    }
+
+    private static final class Exploration<I, O> {
+
+        private final List<? extends I> symbols;
+        private final int partitionDepth;
+        private final int numPartitions;
+        private final AtomicInteger nextPartition;
+        private final AtomicReference<@Nullable DefaultQuery<I, Word<O>>> result;
+
+        Exploration(List<? extends I> symbols, int partitionDepth, int numPartitions) {
+            this.symbols = symbols;
+            this.partitionDepth = partitionDepth;
+            this.numPartitions = numPartitions;
+            this.nextPartition = new AtomicInteger();
+            this.result = new AtomicReference<>();
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import de.learnlib.exception.BatchInterruptedException;
+import de.learnlib.logging.Category;
+import de.learnlib.oracle.EquivalenceOracle.MealyEquivalenceOracle;
+import de.learnlib.oracle.ThreadPool;
+import de.learnlib.query.DefaultQuery;
+import de.learnlib.sul.SUL;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.exception.ExceptionUtil;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A parallel version of the {@link RandomWalkEQOracle}. Instead of a single random walk, this oracle performs multiple
+ * independent random walks concurrently on {@link SUL#fork() forked} instances of the given SUL. All walkers share a
+ * common step budget and each walker uses its own random number generator, derived from the given seed. As soon as one
+ * walker finds a counterexample, all walkers are stopped.
+ * <p>
+ * Each step is only performed after it has been claimed from the shared step budget, so all walkers together never
+ * perform more than the maximum number of steps (per search if the step count is reset, in total otherwise). Note that
+ * due to the concurrent execution, the found counterexample (if any) may differ between executions with the same seed.
+ * <p>
+ * The walkers are executed by an {@link ExecutorService} that is either provided by the user or created (once) by this
+ * oracle. In the latter case, this oracle needs to be {@link #shutdown() shut down} after usage.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public final class ParallelRandomWalkEQOracle<I, O> implements MealyEquivalenceOracle<I, O>, ThreadPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelRandomWalkEQOracle.class);
+
+    private final double restartProbability;
+    private final long maxSteps;
+    private final boolean resetStepCount;
+    private final SplittableRandom random;
+    private final List<SUL<I, O>> suls;
+    private final AtomicLong steps;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor. Creates a fixed thread pool with one thread for each walker.
+     *
+     * @param sul
+     *         the system under learning. If more than one walker is used, the SUL must be {@link SUL#canFork()
+     *         forkable}
+     * @param restartProbability
+     *         the probability to restart a walk before each step
+     * @param maxSteps
+     *         the maximum number of steps (shared by all walkers)
+     * @param resetStepCount
+     *         flag for resetting the step count after every search
+     * @param seed
+     *         the seed from which the random number generators of the walkers are derived
+     * @param numWalkers
+     *         the number of concurrent walkers
+     */
+    public ParallelRandomWalkEQOracle(SUL<I, O> sul,
+                                      double restartProbability,
+                                      long maxSteps,
+                                      boolean resetStepCount,
+                                      long seed,
+                                      int numWalkers) {
+        this(sul,
+             restartProbability,
+             maxSteps,
+             resetStepCount,
+             seed,
+             numWalkers,
+             Executors.newFixedThreadPool(checkNumWalkers(numWalkers)));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param sul
+     *         the system under learning. If more than one walker is used, the SUL must be {@link SUL#canFork()
+     *         forkable}
+     * @param restartProbability
+     *         the probability to restart a walk before each step
+     * @param maxSteps
+     *         the maximum number of steps (shared by all walkers)
+     * @param resetStepCount
+     *         flag for resetting the step count after every search
+     * @param seed
+     *         the seed from which the random number generators of the walkers are derived
+     * @param numWalkers
+     *         the number of concurrent walkers
+     * @param executor
+     *         the executor used for running the walkers. Note that the walkers only run concurrently if the executor
+     *         provides enough threads
+     */
+    public ParallelRandomWalkEQOracle(SUL<I, O> sul,
+                                      double restartProbability,
+                                      long maxSteps,
+                                      boolean resetStepCount,
+                                      long seed,
+                                      int numWalkers,
+                                      ExecutorService executor) {
+        if (numWalkers < 1) {
+            throw new IllegalArgumentException("At least one walker is required");
+        }
+
+        if (numWalkers > 1 && !sul.canFork()) {
+            throw new IllegalArgumentException("SUL must be forkable for parallel processing");
+        }
+
+        this.restartProbability = restartProbability;
+        this.maxSteps = maxSteps;
+        this.resetStepCount = resetStepCount;
+        this.random = new SplittableRandom(seed);
+        this.steps = new AtomicLong();
+        this.suls = new ArrayList<>(numWalkers);
+        this.executor = executor;
+
+        this.suls.add(sul);
+        for (int i = 1; i < numWalkers; i++) {
+            this.suls.add(sul.fork());
+        }
+    }
+
+    /**
+     * Returns the number of steps performed so far (since the last reset of the step count).
+     *
+     * @return the number of steps performed so far
+     */
+    public long getSteps() {
+        return Math.min(steps.get(), maxSteps);
+    }
+
+    @Override
+    public @Nullable DefaultQuery<I, Word<O>> findCounterExample(MealyMachine<?, I, ?, O> hypothesis,
+                                                                 Collection<? extends I> inputs) {
+        if (resetStepCount) {
+            steps.set(0);
+        }
+
+        if (inputs.isEmpty()) {
+            LOGGER.warn(Category.COUNTEREXAMPLE,
+                        "Passed empty set of inputs to equivalence oracle; no counterexample can be found!");
+            return null;
+        }
+
+        final List<? extends I> choices = CollectionUtil.randomAccessList(inputs);
+        final AtomicReference<@Nullable DefaultQuery<I, Word<O>>> result = new AtomicReference<>();
+        final List<Future<?>> futures = new ArrayList<>(suls.size());
+
+        try {
+            for (SUL<I, O> sul : suls) {
+                final Random rand = new Random(random.nextLong());
+                futures.add(executor.submit(() -> walk(sul, hypothesis, choices, rand, result)));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (ExecutionException e) {
+            ExceptionUtil.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchInterruptedException(e);
+        } finally {
+            // only relevant if a walker failed or the search has been interrupted
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+        }
+
+        return result.get();
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+
+    private static int checkNumWalkers(int numWalkers) {
+        if (numWalkers < 1) {
+            throw new IllegalArgumentException("At least one walker is required");
+        }
+        return numWalkers;
+    }
+
+    private <S, T> void walk(SUL<I, O> sul,
+                             MealyMachine<S, I, T, O> hypothesis,
+                             List<? extends I> choices,
+                             Random rand,
+                             AtomicReference<@Nullable DefaultQuery<I, Word<O>>> result) {
+
+        final int bound = choices.size();
+        S cur = hypothesis.getInitialState();
+        WordBuilder<I> wbIn = new WordBuilder<>();
+        WordBuilder<O> wbOut = new WordBuilder<>();
+
+        boolean first = true;
+        sul.pre();
+        try {
+            while (result.get() == null && !Thread.currentThread().isInterrupted() &&
+                   steps.getAndIncrement() < maxSteps) {
+
+                if (first) {
+                    first = false;
+                } else if (rand.nextDouble() < restartProbability) {
+                    sul.post();
+                    sul.pre();
+                    cur = hypothesis.getInitialState();
+                    wbIn.clear();
+                    wbOut.clear();
+                }
+
+                I in = choices.get(rand.nextInt(bound));
+                O outSul = sul.step(in);
+
+                assert cur != null;
+                O outHyp = hypothesis.getTransitionProperty(cur, in);
+                wbIn.add(in);
+                wbOut.add(outSul);
+
+                if (!Objects.equals(outSul, outHyp)) {
+                    DefaultQuery<I, Word<O>> ce = new DefaultQuery<>(wbIn.toWord());
+                    ce.answer(wbOut.toWord());
+                    result.compareAndSet(null, ce);
+                    return;
+                }
+                cur = hypothesis.getSuccessor(cur, in);
+            }
+        } finally {
+            sul.post();
+        }
+    }
+}
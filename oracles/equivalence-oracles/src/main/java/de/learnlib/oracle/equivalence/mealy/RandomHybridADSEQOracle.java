@@ -0,0 +1,160 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import de.learnlib.oracle.EquivalenceOracle.MealyEquivalenceOracle;
+import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.oracle.equivalence.AbstractTestWordEQOracle;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.mapping.Mapping;
+import net.automatalib.util.automaton.cover.Covers;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+
+/**
+ * A randomized version of the {@link HybridADSEQOracle}. Each test consists of the access sequence of a random
+ * hypothesis state, a random middle part (of some expected length), and a random word of the separating family of the
+ * state reached by the first two parts. If the hypothesis has an adaptive distinguishing sequence, this is always the
+ * word that the ADS applies to the reached state.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class RandomHybridADSEQOracle<I, O> extends AbstractTestWordEQOracle<MealyMachine<?, I, ?, O>, I, Word<O>>
+        implements MealyEquivalenceOracle<I, O> {
+
+    private final int minimalSize;
+    private final int rndLength;
+    private final int bound;
+    private final Random rand;
+
+    /**
+     * Constructor for an unbounded testing oracle.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param minimalSize
+     *         minimal size of the random middle part
+     * @param rndLength
+     *         expected length (in addition to minimalSize) of the random middle part
+     */
+    public RandomHybridADSEQOracle(MembershipOracle<I, Word<O>> sulOracle, int minimalSize, int rndLength) {
+        this(sulOracle, minimalSize, rndLength, 0);
+    }
+
+    /**
+     * Constructor for a bounded testing oracle.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param minimalSize
+     *         minimal size of the random middle part
+     * @param rndLength
+     *         expected length (in addition to minimalSize) of the random middle part
+     * @param bound
+     *         specifies the bound (set to 0 for unbounded).
+     */
+    public RandomHybridADSEQOracle(MembershipOracle<I, Word<O>> sulOracle, int minimalSize, int rndLength, int bound) {
+        this(sulOracle, minimalSize, rndLength, bound, new Random(), 1);
+    }
+
+    /**
+     * Constructor for a bounded testing oracle with specific batch size.
+     *
+     * @param sulOracle
+     *         oracle which answers tests.
+     * @param minimalSize
+     *         minimal size of the random middle part
+     * @param rndLength
+     *         expected length (in addition to minimalSize) of the random middle part
+     * @param bound
+     *         specifies the bound (set to 0 for unbounded).
+     * @param random
+     *         custom Random generator.
+     * @param batchSize
+     *         size of the batches sent to the membership oracle
+     */
+    public RandomHybridADSEQOracle(MembershipOracle<I, Word<O>> sulOracle,
+                                   int minimalSize,
+                                   int rndLength,
+                                   int bound,
+                                   Random random,
+                                   int batchSize) {
+        super(sulOracle, batchSize);
+        this.minimalSize = minimalSize;
+        this.rndLength = rndLength;
+        this.bound = bound;
+        this.rand = random;
+    }
+
+    @Override
+    protected Stream<Word<I>> generateTestWords(MealyMachine<?, I, ?, O> hypothesis, Collection<? extends I> inputs) {
+        return doGenerateTestWords(hypothesis, inputs);
+    }
+
+    private <S> Stream<Word<I>> doGenerateTestWords(MealyMachine<S, I, ?, O> hypothesis,
+                                                    Collection<? extends I> inputs) {
+        final Mapping<S, List<Word<I>>> family = SeparatingFamily.compute(hypothesis, inputs);
+        final List<? extends I> arrayAlphabet = CollectionUtil.randomAccessList(inputs);
+        final List<Word<I>> stateCover = new ArrayList<>(hypothesis.size());
+        Covers.stateCover(hypothesis, inputs, stateCover);
+
+        final Stream<Word<I>> result =
+                Stream.generate(() -> generateSingleTestWord(hypothesis, stateCover, arrayAlphabet, family));
+
+        return bound > 0 ? result.limit(bound) : result;
+    }
+
+    private <S> Word<I> generateSingleTestWord(MealyMachine<S, I, ?, O> hypothesis,
+                                               List<Word<I>> stateCover,
+                                               List<? extends I> arrayAlphabet,
+                                               Mapping<S, List<Word<I>>> family) {
+
+        final WordBuilder<I> wb = new WordBuilder<>(minimalSize + rndLength + 1);
+
+        // pick a random state
+        wb.append(stateCover.get(rand.nextInt(stateCover.size())));
+
+        // construct random middle part (of some expected length)
+        int size = minimalSize;
+        while (size > 0 || rand.nextDouble() > 1 / (rndLength + 1.0)) {
+            wb.append(arrayAlphabet.get(rand.nextInt(arrayAlphabet.size())));
+            if (size > 0) {
+                size--;
+            }
+        }
+
+        // test the reached state with a word of its separating family
+        final S state = hypothesis.getState(wb);
+        if (state != null) {
+            final List<Word<I>> suffixes = family.get(state);
+            if (!suffixes.isEmpty()) {
+                wb.append(suffixes.get(rand.nextInt(suffixes.size())));
+            }
+        }
+
+        return wb.toWord();
+    }
+}
@@ -0,0 +1,261 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.ads.ADSNode;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.ads.ADS;
+import net.automatalib.util.automaton.ads.ADSUtil;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Utility class for computing (harmonized) separating families of Mealy machines, i.e., for each state {@code s} a set
+ * of words {@code H(s)} such that for every other (inequivalent) state {@code t} there exists a word {@code w} that
+ * separates {@code s} and {@code t} and of which both {@code H(s)} and {@code H(t)} contain an extension.
+ * <p>
+ * The family is computed as in the Hybrid-ADS method: If the hypothesis has an adaptive distinguishing sequence (ADS),
+ * each set {@code H(s)} consists of the single word that the ADS applies to state {@code s}. Otherwise, a partial ADS
+ * is constructed that (greedily) splits the states as far as possible. Preferably, the partial ADS uses valid inputs
+ * that do not lead (not yet split) states with identical outputs into the same state. If no such input exists, inputs
+ * that merge the fewest states are used, and the merged states are no longer split by the partial ADS. Each set
+ * {@code H(s)} then consists of the word that the partial ADS applies to {@code s} and the pairwise separating words of
+ * {@code s} and the states that the partial ADS could not split from {@code s}. Words that are prefixes of other words
+ * of the same set are dropped (since, for Mealy machines, the longer word separates at least the same states).
+ */
+final class SeparatingFamily {
+
+    private SeparatingFamily() {
+        // prevent instantiation
+    }
+
+    static <S, I, O> MutableMapping<S, List<Word<I>>> compute(MealyMachine<S, I, ?, O> hypothesis,
+                                                              Collection<? extends I> inputs) {
+
+        final Alphabet<I> alphabet = Alphabets.fromCollection(inputs);
+        final Set<S> states = new HashSet<>(hypothesis.getStates());
+        final Optional<ADSNode<S, I, O>> ads = ADS.compute(hypothesis, alphabet, states);
+
+        if (ads.isPresent()) {
+            return fromADS(hypothesis, ads.get());
+        }
+
+        return fromPartialADS(hypothesis, alphabet);
+    }
+
+    private static <S, I, O> MutableMapping<S, List<Word<I>>> fromADS(MealyMachine<S, I, ?, O> hypothesis,
+                                                                      ADSNode<S, I, O> root) {
+        final MutableMapping<S, List<Word<I>>> result = hypothesis.createStaticStateMapping();
+
+        for (ADSNode<S, I, O> leaf : ADSUtil.collectLeaves(root)) {
+            final Word<I> trace = ADSUtil.buildTraceForNode(leaf).getFirst();
+            result.put(leaf.getState(), Collections.singletonList(trace));
+        }
+
+        return result;
+    }
+
+    private static <S, I, O> MutableMapping<S, List<Word<I>>> fromPartialADS(MealyMachine<S, I, ?, O> hypothesis,
+                                                                            Alphabet<I> alphabet) {
+        final MutableMapping<S, List<Word<I>>> result = hypothesis.createStaticStateMapping();
+        final Map<S, S> initialBlock = new LinkedHashMap<>();
+
+        for (S s : hypothesis.getStates()) {
+            result.put(s, new ArrayList<>());
+            initialBlock.put(s, s);
+        }
+
+        final Deque<Block<S, I>> worklist = new ArrayDeque<>();
+        worklist.add(new Block<>(initialBlock, Word.epsilon()));
+
+        while (!worklist.isEmpty()) {
+            final Block<S, I> block = worklist.poll();
+            final Map<S, S> currents = block.currents;
+            final Set<S> distinctCurrents = new HashSet<>(currents.values());
+            final Word<I> splitter = distinctCurrents.size() > 1 ?
+                    findSplittingWord(hypothesis, alphabet, distinctCurrents, hypothesis.size()) :
+                    null;
+
+            if (splitter == null) {
+                addLeaf(hypothesis, alphabet, block, result);
+                continue;
+            }
+
+            final Map<Word<O>, Map<S, S>> classes = new LinkedHashMap<>();
+            for (Map.Entry<S, S> e : currents.entrySet()) {
+                final S curr = e.getValue();
+                final Word<O> output = hypothesis.computeStateOutput(curr, splitter);
+                final S succ = hypothesis.getSuccessor(curr, splitter);
+                assert succ != null;
+                classes.computeIfAbsent(output, k -> new LinkedHashMap<>()).put(e.getKey(), succ);
+            }
+
+            final Word<I> trace = block.trace.concat(splitter);
+            for (Map<S, S> c : classes.values()) {
+                worklist.add(new Block<>(c, trace));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds the words for the states of a leaf of the partial ADS, i.e., the trace of the leaf and (if the leaf contains
+     * more than one state) pairwise separating words for the states that the partial ADS could not split.
+     */
+    private static <S, I, O> void addLeaf(MealyMachine<S, I, ?, O> hypothesis,
+                                          Alphabet<I> alphabet,
+                                          Block<S, I> block,
+                                          MutableMapping<S, List<Word<I>>> result) {
+        final List<S> states = new ArrayList<>(block.currents.keySet());
+
+        for (S s : states) {
+            addWord(result.get(s), block.trace);
+        }
+
+        for (int i = 0; i < states.size(); i++) {
+            final S s = states.get(i);
+            for (int j = i + 1; j < states.size(); j++) {
+                final S t = states.get(j);
+                final Word<I> sepWord = Automata.findSeparatingWord(hypothesis, s, t, alphabet);
+
+                if (sepWord != null) {
+                    addWord(result.get(s), sepWord);
+                    addWord(result.get(t), sepWord);
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches (in a breadth-first manner) for a shortest word that splits the given states, i.e., a word that yields
+     * different outputs for at least two of the states. Among the shortest splitting words, a word is chosen that leads
+     * the fewest states with identical outputs into the same state (ideally, none). Returns {@code null} if no splitting
+     * word with a length of at most {@code maxLength} exists.
+     */
+    private static <S, I, O> @Nullable Word<I> findSplittingWord(MealyMachine<S, I, ?, O> hypothesis,
+                                                                 Alphabet<I> alphabet,
+                                                                 Set<S> states,
+                                                                 int maxLength) {
+        final Set<Set<S>> visited = new HashSet<>();
+        List<Set<S>> level = Collections.singletonList(states);
+        List<Word<I>> levelWords = Collections.singletonList(Word.epsilon());
+        visited.add(states);
+
+        for (int length = 1; length <= maxLength && !level.isEmpty(); length++) {
+            final List<Set<S>> nextLevel = new ArrayList<>();
+            final List<Word<I>> nextLevelWords = new ArrayList<>();
+            Word<I> best = null;
+            int bestMerges = Integer.MAX_VALUE;
+
+            for (int j = 0; j < level.size(); j++) {
+                final Set<S> curr = level.get(j);
+                final Word<I> prefix = levelWords.get(j);
+
+                for (I i : alphabet) {
+                    final Map<O, Set<S>> successors = new LinkedHashMap<>();
+                    int merges = 0;
+
+                    for (S s : curr) {
+                        final S succ = hypothesis.getSuccessor(s, i);
+                        if (succ == null) {
+                            merges = -1;
+                            break;
+                        }
+                        final O out = hypothesis.getOutput(s, i);
+                        if (!successors.computeIfAbsent(out, k -> new HashSet<>()).add(succ)) {
+                            merges++;
+                        }
+                    }
+
+                    // undefined transitions cannot be used for splitting
+                    if (merges < 0) {
+                        continue;
+                    }
+
+                    if (successors.size() > 1) {
+                        if (merges == 0) {
+                            return prefix.append(i);
+                        } else if (merges < bestMerges) {
+                            best = prefix.append(i);
+                            bestMerges = merges;
+                        }
+                    } else {
+                        final Set<S> next = successors.values().iterator().next();
+                        if (next.size() > 1 && visited.add(next)) {
+                            nextLevel.add(next);
+                            nextLevelWords.add(prefix.append(i));
+                        }
+                    }
+                }
+            }
+
+            if (best != null) {
+                return best;
+            }
+
+            level = nextLevel;
+            levelWords = nextLevelWords;
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds the given word to the given set of words unless it is a prefix of an existing word. Existing words that are
+     * prefixes of the given word are removed.
+     */
+    private static <I> void addWord(List<Word<I>> words, Word<I> word) {
+        for (Word<I> w : words) {
+            if (word.isPrefixOf(w)) {
+                return;
+            }
+        }
+
+        words.removeIf(w -> w.isPrefixOf(word));
+        words.add(word);
+    }
+
+    private static final class Block<S, I> {
+
+        /**
+         * Maps the (initial) states of this block to the states they have been transferred to by {@link #trace}.
+         */
+        private final Map<S, S> currents;
+        private final Word<I> trace;
+
+        Block(Map<S, S> currents, Word<I> trace) {
+            this.currents = currents;
+            this.trace = trace;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import de.learnlib.oracle.equivalence.IncrementalTestSetCache.Round;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IncrementalTestSetCacheTest {
+
+    private static final Alphabet<Character> INPUTS = Alphabets.characters('a', 'c');
+    private static final List<Integer> OUTPUTS = Arrays.asList(0, 1);
+    private static final int SIZE = 30;
+    private static final int ROUNDS = 10;
+
+    @Test
+    public void testRefinements() {
+        final Random random = new Random(42);
+        final IncrementalTestSetCache<Character> cache = new IncrementalTestSetCache<>();
+
+        CompactMealy<Character, Integer> hyp = RandomAutomata.randomMealy(random, SIZE, INPUTS, OUTPUTS, true);
+        Map<Word<Character>, List<Word<Character>>> previousLocals = new HashMap<>();
+        int reused = 0;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            final Round<Integer, Character> round = cache.update(hyp, INPUTS);
+            final Map<Word<Character>, List<Word<Character>>> locals = checkRound(hyp, round);
+
+            for (Map.Entry<Word<Character>, List<Word<Character>>> e : locals.entrySet()) {
+                if (previousLocals.get(e.getKey()) == e.getValue()) {
+                    reused++;
+                }
+            }
+
+            previousLocals = locals;
+            hyp = split(hyp, random);
+        }
+
+        Assert.assertTrue(reused > 0);
+    }
+
+    @Test
+    public void testUnrelatedHypotheses() {
+        final Random random = new Random(42);
+        final IncrementalTestSetCache<Character> cache = new IncrementalTestSetCache<>();
+
+        for (int i = 0; i < ROUNDS; i++) {
+            final CompactMealy<Character, Integer> hyp =
+                    RandomAutomata.randomMealy(random, SIZE + random.nextInt(SIZE), INPUTS, OUTPUTS, true);
+            checkRound(hyp, cache.update(hyp, INPUTS));
+        }
+    }
+
+    @Test
+    public void testChangingInputs() {
+        final Random random = new Random(42);
+        final IncrementalTestSetCache<Character> cache = new IncrementalTestSetCache<>();
+        final CompactMealy<Character, Integer> hyp = RandomAutomata.randomMealy(random, SIZE, INPUTS, OUTPUTS, true);
+
+        checkRound(hyp, cache.update(hyp, INPUTS));
+
+        final List<Character> subInputs = Arrays.asList('a', 'b');
+        final Round<Integer, Character> round = cache.update(hyp, subInputs);
+        Assert.assertEquals(round.getInputs(), subInputs);
+        for (Word<Character> w : round.getStateCover()) {
+            Assert.assertTrue(subInputs.containsAll(w.asList()));
+        }
+    }
+
+    private static Map<Word<Character>, List<Word<Character>>> checkRound(CompactMealy<Character, Integer> hyp,
+                                                                          Round<Integer, Character> round) {
+        final Map<Word<Character>, List<Word<Character>>> locals = new HashMap<>();
+        final Set<Integer> covered = new HashSet<>();
+
+        // state cover
+        for (Word<Character> as : round.getStateCover()) {
+            final Integer state = hyp.getState(as);
+            Assert.assertNotNull(state);
+            Assert.assertTrue(covered.add(state));
+        }
+        Assert.assertEquals(covered.size(), hyp.size());
+
+        // global and local suffixes
+        for (Word<Character> as : round.getStateCover()) {
+            final Integer s = hyp.getState(as);
+            final List<Word<Character>> local = round.getLocalSuffixes(s);
+            locals.put(as, local);
+
+            for (Integer t : hyp.getStates()) {
+                if (!s.equals(t)) {
+                    Assert.assertTrue(isSeparated(hyp, s, t, round.getGlobalSuffixes()));
+                    Assert.assertTrue(isSeparated(hyp, s, t, local));
+                }
+            }
+        }
+
+        return locals;
+    }
+
+    private static boolean isSeparated(CompactMealy<Character, Integer> hyp,
+                                       Integer s,
+                                       Integer t,
+                                       List<Word<Character>> suffixes) {
+        for (Word<Character> w : suffixes) {
+            if (!Objects.equals(hyp.computeStateOutput(s, w), hyp.computeStateOutput(t, w))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits a random state of the given hypothesis (similar to a refinement of a learner) and returns the minimized
+     * result.
+     */
+    private static CompactMealy<Character, Integer> split(CompactMealy<Character, Integer> hyp, Random random) {
+        final CompactMealy<Character, Integer> result = new CompactMealy<>(hyp);
+
+        final int source = random.nextInt(hyp.size());
+        final Character sym = INPUTS.getSymbol(random.nextInt(INPUTS.size()));
+        final int oldTarget = result.getSuccessor(source, sym);
+        final int newTarget = result.addState();
+
+        for (Character i : INPUTS) {
+            result.addTransition(newTarget,
+                                 i,
+                                 result.getSuccessor(oldTarget, i),
+                                 random.nextInt(OUTPUTS.size()));
+        }
+
+        result.removeTransition(source, sym, result.getTransition(source, sym));
+        result.addTransition(source, sym, newTarget, hyp.getOutput(source, sym));
+
+        return Automata.minimize(result, INPUTS, new CompactMealy<>(INPUTS));
+    }
+}
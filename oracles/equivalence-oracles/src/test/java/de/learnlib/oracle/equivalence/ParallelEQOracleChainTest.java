@@ -0,0 +1,224 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import de.learnlib.oracle.EquivalenceOracle;
+import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.oracle.SingleQueryOracle;
+import de.learnlib.query.DefaultQuery;
+import de.learnlib.query.Query;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.concept.SuffixOutput;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class ParallelEQOracleChainTest {
+
+    private static final Alphabet<Character> ALPHABET = Alphabets.characters('a', 'c');
+    private static final SuffixOutput<Character, Boolean> HYPOTHESIS = (prefix, suffix) -> Boolean.TRUE;
+    private static final long TIMEOUT = 10;
+    private static final long SLOW_BATCH_MILLIS = 200;
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        Assert.assertTrue(executor.awaitTermination(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test(timeOut = 10_000)
+    public void testFirstCounterexampleCancelsOthers() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final DefaultQuery<Character, Boolean> ce = counterexample(Word.fromString("abc"));
+
+        final EquivalenceOracle<SuffixOutput<Character, Boolean>, Character, Boolean> blocking = (hyp, inputs) -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        };
+
+        final ParallelEQOracleChain<SuffixOutput<Character, Boolean>, Character, Boolean> chain =
+                new ParallelEQOracleChain<>(executor, 0, TimeUnit.SECONDS, blocking, (hyp, inputs) -> {
+                    // make sure the blocking oracle is running before it gets cancelled
+                    try {
+                        started.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ce;
+                });
+
+        Assert.assertSame(chain.findCounterExample(HYPOTHESIS, ALPHABET), ce);
+        Assert.assertTrue(interrupted.await(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test(timeOut = 10_000)
+    public void testShortestCounterexampleWithinGracePeriod() {
+        final DefaultQuery<Character, Boolean> longCe = counterexample(Word.fromString("abcabc"));
+        final DefaultQuery<Character, Boolean> shortCe = counterexample(Word.fromString("ab"));
+        final CountDownLatch longFound = new CountDownLatch(1);
+
+        final ParallelEQOracleChain<SuffixOutput<Character, Boolean>, Character, Boolean> chain =
+                new ParallelEQOracleChain<>(executor, TIMEOUT, TimeUnit.SECONDS, (hyp, inputs) -> {
+                    longFound.countDown();
+                    return longCe;
+                }, (hyp, inputs) -> {
+                    // make sure the longer counterexample is reported first
+                    try {
+                        longFound.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return shortCe;
+                });
+
+        Assert.assertSame(chain.findCounterExample(HYPOTHESIS, ALPHABET), shortCe);
+    }
+
+    @Test(timeOut = 10_000)
+    public void testCooperativeCancellation() throws InterruptedException {
+        final AtomicInteger numQueries = new AtomicInteger();
+        final DefaultQuery<Character, Boolean> ce = counterexample(Word.fromString("abc"));
+
+        // a random words oracle which would never terminate on its own
+        final RandomWordsEQOracle<SuffixOutput<Character, Boolean>, Character, Boolean> random =
+                new RandomWordsEQOracle<>((SingleQueryOracle<Character, Boolean>) (prefix, suffix) -> {
+                    numQueries.incrementAndGet();
+                    return Boolean.TRUE;
+                }, 1, 10, Integer.MAX_VALUE, new Random(42));
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final ParallelEQOracleChain<SuffixOutput<Character, Boolean>, Character, Boolean> chain =
+                new ParallelEQOracleChain<>(executor, 0, TimeUnit.SECONDS, random, (hyp, inputs) -> {
+                    while (numQueries.get() == 0) {
+                        Thread.yield();
+                    }
+                    started.countDown();
+                    return ce;
+                });
+
+        Assert.assertSame(chain.findCounterExample(HYPOTHESIS, ALPHABET), ce);
+        Assert.assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+
+        // the random oracle should stop posing queries shortly after the cancellation
+        int before;
+        int after = numQueries.get();
+        do {
+            before = after;
+            Thread.sleep(50);
+            after = numQueries.get();
+        } while (before != after);
+    }
+
+    @Test(timeOut = 10_000)
+    public void testAwaitCancelledOracles() {
+        final AtomicBoolean inBatch = new AtomicBoolean();
+        final AtomicInteger numBatches = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final DefaultQuery<Character, Boolean> ce = counterexample(Word.fromString("abc"));
+
+        // a membership oracle which ignores interrupts and takes its time to finish a batch
+        final MembershipOracle<Character, Boolean> slowOracle = queries -> {
+            inBatch.set(true);
+            numBatches.incrementAndGet();
+            started.countDown();
+
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SLOW_BATCH_MILLIS);
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+
+            for (Query<Character, Boolean> q : queries) {
+                q.answer(Boolean.TRUE);
+            }
+            inBatch.set(false);
+        };
+
+        final RandomWordsEQOracle<SuffixOutput<Character, Boolean>, Character, Boolean> random =
+                new RandomWordsEQOracle<>(slowOracle, 1, 10, Integer.MAX_VALUE, new Random(42), 10);
+
+        final ParallelEQOracleChain<SuffixOutput<Character, Boolean>, Character, Boolean> chain =
+                new ParallelEQOracleChain<>(executor, 0, TimeUnit.SECONDS, random, (hyp, inputs) -> {
+                    try {
+                        started.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ce;
+                });
+
+        Assert.assertSame(chain.findCounterExample(HYPOTHESIS, ALPHABET), ce);
+
+        // the cancelled oracle must have finished its batch and must not have started another one
+        Assert.assertFalse(inBatch.get());
+        Assert.assertEquals(numBatches.get(), 1);
+    }
+
+    @Test
+    public void testNoCounterexample() {
+        final ParallelEQOracleChain<SuffixOutput<Character, Boolean>, Character, Boolean> chain =
+                new ParallelEQOracleChain<>(executor, 0, TimeUnit.SECONDS, (hyp, inputs) -> null);
+        chain.addOracle((hyp, inputs) -> null);
+
+        Assert.assertNull(chain.findCounterExample(HYPOTHESIS, ALPHABET));
+    }
+
+    @Test
+    public void testExceptions() {
+        final DefaultQuery<Character, Boolean> ce = counterexample(Word.fromString("abc"));
+        final EquivalenceOracle<SuffixOutput<Character, Boolean>, Character, Boolean> failing = (hyp, inputs) -> {
+            throw new IllegalStateException();
+        };
+
+        // failures are only reported if no counterexample is found
+        final ParallelEQOracleChain<SuffixOutput<Character, Boolean>, Character, Boolean> chain1 =
+                new ParallelEQOracleChain<>(executor, TIMEOUT, TimeUnit.SECONDS, failing, (hyp, inputs) -> ce);
+        Assert.assertSame(chain1.findCounterExample(HYPOTHESIS, ALPHABET), ce);
+
+        final ParallelEQOracleChain<SuffixOutput<Character, Boolean>, Character, Boolean> chain2 =
+                new ParallelEQOracleChain<>(executor, 0, TimeUnit.SECONDS, failing, (hyp, inputs) -> null);
+        Assert.assertThrows(IllegalStateException.class, () -> chain2.findCounterExample(HYPOTHESIS, ALPHABET));
+    }
+
+    private static DefaultQuery<Character, Boolean> counterexample(Word<Character> input) {
+        return new DefaultQuery<>(input, Boolean.FALSE);
+    }
+}
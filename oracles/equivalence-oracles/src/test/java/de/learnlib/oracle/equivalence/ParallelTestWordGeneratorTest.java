@@ -0,0 +1,201 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import de.learnlib.oracle.SingleQueryOracle;
+import de.learnlib.oracle.membership.MealySimulatorOracle;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.concept.SuffixOutput;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParallelTestWordGeneratorTest {
+
+    private static final Alphabet<Character> ALPHABET = Alphabets.characters('a', 'c');
+    private static final long SEED = 42;
+    private static final int THREADS = 4;
+    private static final int LIMIT = 1000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    public void testReproducibility() {
+        final List<List<Word<Character>>> words1 = generateRounds(new ParallelTestWordGenerator(SEED, THREADS));
+        final List<List<Word<Character>>> words2 = generateRounds(new ParallelTestWordGenerator(SEED, THREADS));
+
+        Assert.assertEquals(words1, words2);
+
+        for (List<Word<Character>> round : words1) {
+            Assert.assertEquals(round.size(), LIMIT);
+        }
+
+        // subsequent rounds use fresh random number generators
+        Assert.assertNotEquals(words1.get(0), words1.get(1));
+    }
+
+    @Test
+    public void testUserExecutor() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // fewer threads than producers only affect the parallelism but not the generated words
+        final List<List<Word<Character>>> words1 = generateRounds(new ParallelTestWordGenerator(SEED, THREADS));
+        final List<List<Word<Character>>> words2 =
+                generateRounds(new ParallelTestWordGenerator(SEED, THREADS, executor));
+
+        Assert.assertEquals(words1, words2);
+
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAbandonedStream() throws InterruptedException, ExecutionException, TimeoutException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ParallelTestWordGenerator generator = new ParallelTestWordGenerator(SEED, THREADS, executor);
+
+        // partially consume an unbounded stream without closing it
+        final Iterator<Word<Character>> iter =
+                generator.generate(Long.MAX_VALUE, ParallelTestWordGeneratorTest::word).iterator();
+        for (int i = 0; i < LIMIT; i++) {
+            Assert.assertNotNull(iter.next());
+        }
+
+        // the producers must not occupy the (only) thread of the executor
+        Assert.assertTrue(executor.submit(() -> Boolean.TRUE).get(10, TimeUnit.SECONDS));
+
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testEarlyClose() {
+        final ParallelTestWordGenerator generator = new ParallelTestWordGenerator(SEED, THREADS);
+
+        final List<Word<Character>> prefix;
+        try (Stream<Word<Character>> stream = generator.generate(Long.MAX_VALUE, ParallelTestWordGeneratorTest::word)) {
+            prefix = stream.limit(LIMIT).collect(Collectors.toList());
+        }
+
+        Assert.assertEquals(prefix.size(), LIMIT);
+        Assert.assertTrue(collect(generator.generate(0, ParallelTestWordGeneratorTest::word)).isEmpty());
+    }
+
+    @Test
+    public void testExceptionPropagation() {
+        final ParallelTestWordGenerator generator = new ParallelTestWordGenerator(SEED, THREADS);
+
+        try (Stream<Word<Character>> stream = generator.generate(LIMIT, r -> {
+            throw new IllegalStateException();
+        })) {
+            Assert.assertThrows(IllegalStateException.class, () -> stream.forEach(w -> {}));
+        }
+    }
+
+    @Test
+    public void testRandomWordsEQOracle() {
+        final List<Word<Character>> words1 = new ArrayList<>();
+        final List<Word<Character>> words2 = new ArrayList<>();
+
+        new RandomWordsEQOracle<>(recordingOracle(words1), 1, 10, LIMIT, 1, SEED, THREADS).findCounterExample(
+                (SuffixOutput<Character, Boolean>) (prefix, suffix) -> Boolean.TRUE,
+                ALPHABET);
+        new RandomWordsEQOracle<>(recordingOracle(words2), 1, 10, LIMIT, 1, SEED, THREADS).findCounterExample(
+                (SuffixOutput<Character, Boolean>) (prefix, suffix) -> Boolean.TRUE,
+                ALPHABET);
+
+        Assert.assertEquals(words1.size(), LIMIT);
+        Assert.assertEquals(words1, words2);
+        for (Word<Character> w : words1) {
+            Assert.assertTrue(w.length() >= 1 && w.length() <= 10);
+        }
+    }
+
+    @Test
+    public void testRandomWpMethodEQOracle() {
+        final CompactMealy<Character, Integer> target =
+                RandomAutomata.randomMealy(new Random(SEED), 20, ALPHABET, Arrays.asList(0, 1));
+        final MealySimulatorOracle<Character, Integer> mqo = new MealySimulatorOracle<>(target);
+
+        final RandomWpMethodEQOracle<CompactMealy<Character, Integer>, Character, Word<Integer>> oracle1 =
+                new RandomWpMethodEQOracle<>(mqo, 0, 5, LIMIT, 1, SEED, THREADS);
+        final RandomWpMethodEQOracle<CompactMealy<Character, Integer>, Character, Word<Integer>> oracle2 =
+                new RandomWpMethodEQOracle<>(mqo, 0, 5, LIMIT, 1, SEED, THREADS);
+        final RandomWMethodEQOracle<CompactMealy<Character, Integer>, Character, Word<Integer>> oracle3 =
+                new RandomWMethodEQOracle<>(mqo, 0, 5, LIMIT, 1, SEED, THREADS);
+        final RandomWMethodEQOracle<CompactMealy<Character, Integer>, Character, Word<Integer>> oracle4 =
+                new RandomWMethodEQOracle<>(mqo, 0, 5, LIMIT, 1, SEED, THREADS);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            Assert.assertEquals(collect(oracle1.generateTestWords(target, ALPHABET)),
+                                collect(oracle2.generateTestWords(target, ALPHABET)));
+            Assert.assertEquals(collect(oracle3.generateTestWords(target, ALPHABET)),
+                                collect(oracle4.generateTestWords(target, ALPHABET)));
+        }
+
+        // equivalent hypotheses yield no counterexample
+        Assert.assertNull(oracle1.findCounterExample(target, ALPHABET));
+        Assert.assertNull(oracle3.findCounterExample(target, ALPHABET));
+    }
+
+    private static List<List<Word<Character>>> generateRounds(ParallelTestWordGenerator generator) {
+        final List<List<Word<Character>>> result = new ArrayList<>(ROUNDS);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            result.add(collect(generator.generate(LIMIT, ParallelTestWordGeneratorTest::word)));
+        }
+
+        return result;
+    }
+
+    private static <I> List<Word<I>> collect(Stream<Word<I>> stream) {
+        try (Stream<Word<I>> s = stream) {
+            return s.collect(Collectors.toList());
+        }
+    }
+
+    private static Word<Character> word(Random random) {
+        final int length = random.nextInt(10);
+        final Character[] symbols = new Character[length];
+        for (int i = 0; i < length; i++) {
+            symbols[i] = ALPHABET.getSymbol(random.nextInt(ALPHABET.size()));
+        }
+        return Word.fromSymbols(symbols);
+    }
+
+    private static SingleQueryOracle<Character, Boolean> recordingOracle(Collection<Word<Character>> words) {
+        return (prefix, suffix) -> {
+            words.add(prefix.concat(suffix));
+            return Boolean.TRUE;
+        };
+    }
+}
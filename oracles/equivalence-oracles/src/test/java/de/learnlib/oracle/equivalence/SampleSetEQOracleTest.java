@@ -18,14 +18,18 @@ package de.learnlib.oracle.equivalence;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 
 import de.learnlib.oracle.EquivalenceOracle;
 import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.query.DefaultQuery;
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.concept.SuffixOutput;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.common.util.random.RandomUtil;
+import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.word.Word;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -62,7 +66,11 @@ public class SampleSetEQOracleTest extends AbstractEQOracleTest<SuffixOutput<Cha
     }
 
     private <I> Word<I> generateTestWord(List<I> alphabet) {
-        return Word.fromList(RandomUtil.sample(random, alphabet, TEST_WORD_LENGTH));
+        return generateTestWord(alphabet, random, TEST_WORD_LENGTH);
+    }
+
+    private static <I> Word<I> generateTestWord(List<I> alphabet, Random random, int length) {
+        return Word.fromList(RandomUtil.sample(random, alphabet, length));
     }
 
     @Test(dependsOnMethods = "testGeneratedEQQueries")
@@ -70,6 +78,90 @@ public class SampleSetEQOracleTest extends AbstractEQOracleTest<SuffixOutput<Cha
         Assert.assertEquals(this.expectedTestWords, this.testedWords);
     }
 
+    @Test
+    public void testShortestCounterexample() {
+        final Random rand = new Random(42);
+        final CompactMealy<Character, Integer> target =
+                RandomAutomata.randomMealy(rand, 10, ALPHABET, Arrays.asList(0, 1));
+        final CompactMealy<Character, Integer> hyp = new CompactMealy<>(target);
+        final Character sym = ALPHABET.getSymbol(0);
+
+        // introduce an output difference in every state for the first symbol
+        for (Integer s : hyp.getStates()) {
+            hyp.setTransitionProperty(hyp.getTransition(s, sym), 1 - target.getOutput(s, sym));
+        }
+
+        final List<DefaultQuery<Character, Word<Integer>>> samples = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final Word<Character> word = generateTestWord(new ArrayList<>(ALPHABET), rand, 1 + rand.nextInt(10));
+            final int split = rand.nextInt(word.length() + 1);
+            final Word<Character> prefix = word.prefix(split);
+            final Word<Character> suffix = word.suffix(word.length() - split);
+            samples.add(new DefaultQuery<>(prefix, suffix, target.computeSuffixOutput(prefix, suffix)));
+        }
+
+        DefaultQuery<Character, Word<Integer>> expected = null;
+        for (DefaultQuery<Character, Word<Integer>> q : samples) {
+            final Word<Integer> hypOut = hyp.computeSuffixOutput(q.getPrefix(), q.getSuffix());
+            if (!Objects.equals(hypOut, q.getOutput()) &&
+                (expected == null || q.getInput().length() < expected.getInput().length())) {
+                expected = q;
+            }
+        }
+        Assert.assertNotNull(expected);
+
+        final SampleSetEQOracle<Character, Word<Integer>> sampleOracle = new SampleSetEQOracle<>(true);
+        sampleOracle.addAll(samples);
+
+        // automaton-based and generic evaluation
+        final SuffixOutput<Character, Word<Integer>> genericHyp = hyp::computeSuffixOutput;
+        final DefaultQuery<Character, Word<Integer>> ce1 = sampleOracle.findCounterExample(hyp, ALPHABET);
+        final DefaultQuery<Character, Word<Integer>> ce2 = sampleOracle.findCounterExample(genericHyp, ALPHABET);
+
+        Assert.assertNotNull(ce1);
+        Assert.assertNotNull(ce2);
+        Assert.assertEquals(ce1.getInput().length(), expected.getInput().length());
+        Assert.assertEquals(ce2, ce1);
+
+        // the target passes all (remaining) samples
+        Assert.assertNull(sampleOracle.findCounterExample(target, ALPHABET));
+        Assert.assertNull(sampleOracle.findCounterExample(hyp, ALPHABET));
+    }
+
+    @Test
+    public void testInputFiltering() {
+        final SampleSetEQOracle<Character, Boolean> sampleOracle = new SampleSetEQOracle<>();
+        sampleOracle.add(Word.fromString("12"), Boolean.FALSE);
+        sampleOracle.add(Word.fromString("1237"), Boolean.FALSE);
+
+        Assert.assertNull(sampleOracle.findCounterExample((prefix, suffix) -> Boolean.TRUE, Arrays.asList('2', '3')));
+
+        final DefaultQuery<Character, Boolean> ce =
+                sampleOracle.findCounterExample((prefix, suffix) -> Boolean.TRUE, Arrays.asList('1', '2', '3'));
+        Assert.assertNotNull(ce);
+        Assert.assertEquals(ce.getInput(), Word.fromString("12"));
+    }
+
+    @Test
+    public void testDeterministicTieBreaking() {
+        // identity-hashed symbols, whose hash order differs between runs
+        final List<Object> symbols = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            symbols.add(new Object());
+        }
+
+        final SampleSetEQOracle<Object, Boolean> sampleOracle = new SampleSetEQOracle<>();
+        for (int i = symbols.size() - 1; i >= 0; i--) {
+            sampleOracle.add(Word.fromLetter(symbols.get(i)), Boolean.FALSE);
+        }
+
+        // all samples are counterexamples of the same length, the first added sample should be returned
+        final DefaultQuery<Object, Boolean> ce =
+                sampleOracle.findCounterExample((prefix, suffix) -> Boolean.TRUE, symbols);
+        Assert.assertNotNull(ce);
+        Assert.assertEquals(ce.getInput(), Word.fromLetter(symbols.get(symbols.size() - 1)));
+    }
+
     @Override
     protected void checkGeneratedQuery(Word<Character> query) {
         this.testedWords.add(query);
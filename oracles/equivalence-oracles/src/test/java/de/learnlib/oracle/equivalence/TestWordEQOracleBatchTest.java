@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Stream;
 
+import de.learnlib.exception.BatchInterruptedException;
 import de.learnlib.oracle.MembershipOracle;
 import de.learnlib.oracle.MembershipOracle.DFAMembershipOracle;
 import de.learnlib.query.Query;
@@ -51,6 +52,27 @@ public class TestWordEQOracleBatchTest {
         Assert.assertEquals(hyp.getQueryCounter(), THRESHOLD);
     }
 
+    @Test
+    public void testInterruption() {
+        final DummyMQOracle<Character> mOracle = new DummyMQOracle<>();
+        final DummyEQOracle<Character> eqOracle = new DummyEQOracle<>(mOracle);
+        final DummyHypothesis<Character> hyp = new DummyHypothesis<>();
+
+        Thread.currentThread().interrupt();
+
+        try {
+            Assert.assertThrows(BatchInterruptedException.class,
+                                () -> eqOracle.findCounterExample(hyp, Collections.singleton('a')));
+            Assert.assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            // clear the interrupt flag so that subsequent tests are not affected
+            Thread.interrupted();
+        }
+
+        Assert.assertEquals(mOracle.getQueryCounter(), 0);
+        Assert.assertEquals(hyp.getQueryCounter(), 0);
+    }
+
     private static final class DummyHypothesis<I> implements Output<I, Boolean> {
 
         private int queryCounter;
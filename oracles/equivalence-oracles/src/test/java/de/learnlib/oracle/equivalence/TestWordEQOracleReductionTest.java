@@ -0,0 +1,150 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import de.learnlib.oracle.MembershipOracle;
+import de.learnlib.oracle.MembershipOracle.MealyMembershipOracle;
+import de.learnlib.query.DefaultQuery;
+import de.learnlib.query.Query;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test for the reduction of test words in {@link AbstractTestWordEQOracle}.
+ */
+public class TestWordEQOracleReductionTest {
+
+    private static final Alphabet<Character> ALPHABET = Alphabets.characters('a', 'b');
+    private static final List<Word<Character>> WORDS = Arrays.asList(Word.fromString("ab"),
+                                                                     Word.fromString("a"),
+                                                                     Word.fromString("abb"),
+                                                                     Word.fromString("b"),
+                                                                     Word.fromString("abb"),
+                                                                     Word.fromString("ba"),
+                                                                     Word.epsilon());
+
+    @Test
+    public void testRemovePrefixes() {
+        Assert.assertEquals(AbstractTestWordEQOracle.removePrefixes(WORDS),
+                            Arrays.asList(Word.fromString("abb"), Word.fromString("ba")));
+        Assert.assertEquals(AbstractTestWordEQOracle.removePrefixes(WORDS.subList(0, 2)),
+                            Arrays.asList(Word.fromString("ab")));
+    }
+
+    @Test
+    public void testPrefixReduction() {
+        final CompactMealy<Character, Integer> target = randomTarget();
+
+        final CountingMQOracle mqo1 = new CountingMQOracle(target);
+        final ListEQOracle oracle1 = new ListEQOracle(mqo1, 1);
+        Assert.assertNull(oracle1.findCounterExample(target, ALPHABET));
+        Assert.assertEquals(mqo1.queries, WORDS);
+
+        // windows of size 3: [ab, a, abb], [b, abb, ba], [eps]
+        final CountingMQOracle mqo2 = new CountingMQOracle(target);
+        final ListEQOracle oracle2 = new ListEQOracle(mqo2, 2);
+        oracle2.setPrefixReductionWindow(3);
+        Assert.assertNull(oracle2.findCounterExample(target, ALPHABET));
+        Assert.assertEquals(mqo2.queries,
+                            Arrays.asList(Word.fromString("abb"),
+                                          Word.fromString("abb"),
+                                          Word.fromString("ba"),
+                                          Word.epsilon()));
+    }
+
+    @Test
+    public void testCacheLookup() {
+        final CompactMealy<Character, Integer> target = randomTarget();
+        final Map<Word<Character>, Word<Integer>> cache = new HashMap<>();
+
+        for (Word<Character> w : WORDS.subList(0, 3)) {
+            cache.put(w, target.computeOutput(w));
+        }
+
+        final CountingMQOracle mqo = new CountingMQOracle(target);
+        final ListEQOracle oracle = new ListEQOracle(mqo, 2);
+        oracle.setCacheLookup(cache::get);
+
+        Assert.assertNull(oracle.findCounterExample(target, ALPHABET));
+        // the second occurrence of 'abb' is cached as well
+        Assert.assertEquals(mqo.queries, Arrays.asList(Word.fromString("b"), Word.fromString("ba"), Word.epsilon()));
+
+        // cached counterexamples are reported without querying the membership oracle
+        final Word<Character> ce = Word.fromString("abb");
+        final Word<Integer> output = target.computeOutput(ce);
+        cache.put(ce, output.subWord(0, 2).append(1 - output.lastSymbol()));
+
+        mqo.queries.clear();
+        final DefaultQuery<Character, Word<Integer>> result = oracle.findCounterExample(target, ALPHABET);
+
+        Assert.assertNotNull(result);
+        Assert.assertEquals(result.getInput(), ce);
+        Assert.assertEquals(result.getOutput(), cache.get(ce));
+        Assert.assertTrue(mqo.queries.isEmpty());
+    }
+
+    private static CompactMealy<Character, Integer> randomTarget() {
+        return RandomAutomata.randomMealy(new Random(42), 5, ALPHABET, Arrays.asList(0, 1));
+    }
+
+    private static final class CountingMQOracle implements MealyMembershipOracle<Character, Integer> {
+
+        private final CompactMealy<Character, Integer> target;
+        private final List<Word<Character>> queries;
+
+        CountingMQOracle(CompactMealy<Character, Integer> target) {
+            this.target = target;
+            this.queries = new ArrayList<>();
+        }
+
+        @Override
+        public void processQueries(Collection<? extends Query<Character, Word<Integer>>> queries) {
+            for (Query<Character, Word<Integer>> q : queries) {
+                this.queries.add(q.getInput());
+                q.answer(target.computeSuffixOutput(q.getPrefix(), q.getSuffix()));
+            }
+        }
+    }
+
+    private static final class ListEQOracle
+            extends AbstractTestWordEQOracle<MealyMachine<?, Character, ?, Integer>, Character, Word<Integer>> {
+
+        ListEQOracle(MembershipOracle<Character, Word<Integer>> membershipOracle, int batchSize) {
+            super(membershipOracle, batchSize);
+        }
+
+        @Override
+        protected Stream<Word<Character>> generateTestWords(MealyMachine<?, Character, ?, Integer> hypothesis,
+                                                            Collection<? extends Character> inputs) {
+            return WORDS.stream();
+        }
+    }
+}
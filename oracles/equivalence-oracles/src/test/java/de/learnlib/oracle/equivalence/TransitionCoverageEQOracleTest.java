@@ -0,0 +1,178 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import de.learnlib.oracle.EquivalenceOracle.MealyEquivalenceOracle;
+import de.learnlib.oracle.membership.MealySimulatorOracle;
+import de.learnlib.query.DefaultQuery;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.common.util.Pair;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+public class TransitionCoverageEQOracleTest {
+
+    private static final Alphabet<Character> INPUTS = Alphabets.characters('a', 'd');
+    private static final List<Integer> OUTPUTS = Arrays.asList(0, 1);
+    private static final int SIZE = 50;
+    private static final int LENGTH = 10;
+    private static final long SEED = 42;
+
+    @Test
+    public void testCoverage() {
+        final CompactMealy<Character, Integer> target = combinationLock();
+        final int numTransitions = target.size() * INPUTS.size();
+
+        final CoverageOracle guidedOracle = new CoverageOracle(target);
+        final CoverageOracle uniformOracle = new CoverageOracle(target);
+
+        final MealyTransitionCoverageEQOracle<Character, Integer> guided =
+                new MealyTransitionCoverageEQOracle<>(guidedOracle, LENGTH, numTransitions, new Random(SEED), 1);
+        final MealyRandomWordsEQOracle<Character, Integer> uniform =
+                new MealyRandomWordsEQOracle<>(uniformOracle, 0, 4 * LENGTH, numTransitions, new Random(SEED));
+
+        Assert.assertNull(guided.findCounterExample(target, INPUTS));
+        Assert.assertNull(uniform.findCounterExample(target, INPUTS));
+
+        Reporter.log(String.format("Covered transitions (of %d): guided %d (%d symbols), uniform %d (%d symbols)",
+                                   numTransitions,
+                                   guidedOracle.covered.size(),
+                                   guidedOracle.symbols,
+                                   uniformOracle.covered.size(),
+                                   uniformOracle.symbols));
+
+        Assert.assertTrue(guidedOracle.covered.size() > uniformOracle.covered.size());
+
+        // coverage information is kept across rounds, so that repeated rounds eventually cover all transitions
+        for (int i = 0; i < 4 && guidedOracle.covered.size() < numTransitions; i++) {
+            Assert.assertNull(guided.findCounterExample(target, INPUTS));
+        }
+
+        Assert.assertEquals(guidedOracle.covered.size(), numTransitions);
+    }
+
+    @Test
+    public void testExecutedTestWords() {
+        final CompactMealy<Character, Integer> target = combinationLock();
+        final CoverageOracle mqOracle = new CoverageOracle(target);
+        final int bound = 4 * target.size();
+        final int[] lookups = new int[1];
+
+        final MealyTransitionCoverageEQOracle<Character, Integer> oracle =
+                new MealyTransitionCoverageEQOracle<>(mqOracle, LENGTH, bound, new Random(SEED), 1);
+
+        // answer every other test word via the cache, so that only the remaining test words are executed
+        oracle.setCacheLookup(w -> lookups[0]++ % 2 == 0 ? target.computeOutput(w) : null);
+
+        Assert.assertNull(oracle.findCounterExample(target, INPUTS));
+        Assert.assertEquals(lookups[0], bound);
+        Assert.assertEquals(mqOracle.queries, bound / 2);
+
+        // only the transitions of the executed test words are counted
+        Word<Character> as = Word.epsilon();
+        for (Integer s = target.getInitialState(); s != null && s <= SIZE; s++) {
+            final long[] hits = oracle.getHits(as);
+            Assert.assertNotNull(hits);
+            for (int i = 0; i < INPUTS.size(); i++) {
+                Assert.assertEquals(hits[i], (long) mqOracle.covered.getOrDefault(Pair.of(s, INPUTS.getSymbol(i)), 0L));
+            }
+            as = as.append('a');
+        }
+    }
+
+    @Test
+    public void testCounterexample() {
+        final CompactMealy<Character, Integer> target = combinationLock();
+        final CompactMealy<Character, Integer> hyp = new CompactMealy<>(target);
+        final Integer state = hyp.getState(Word.fromList(Collections.nCopies(SIZE, 'a')));
+        final Character sym = 'b';
+        Assert.assertNotNull(state);
+        hyp.setTransitionProperty(hyp.getTransition(state, sym), 1);
+
+        final MealyEquivalenceOracle<Character, Integer> oracle =
+                new MealyTransitionCoverageEQOracle<>(new MealySimulatorOracle<>(target),
+                                                      LENGTH,
+                                                      10 * SIZE,
+                                                      new Random(SEED),
+                                                      1);
+
+        final DefaultQuery<Character, Word<Integer>> ce = oracle.findCounterExample(hyp, INPUTS);
+        Assert.assertNotNull(ce);
+        Assert.assertEquals(ce.getOutput(), target.computeOutput(ce.getInput()));
+        Assert.assertNotEquals(ce.getOutput(), hyp.computeOutput(ce.getInput()));
+    }
+
+    /**
+     * Creates a combination lock whose states are only reached by repeatedly inputting 'a' and which is therefore hard
+     * to cover with uniformly sampled words.
+     */
+    private static CompactMealy<Character, Integer> combinationLock() {
+        final CompactMealy<Character, Integer> result = new CompactMealy<>(INPUTS);
+        final Integer init = result.addInitialState();
+        Integer prev = init;
+
+        for (int i = 0; i < SIZE; i++) {
+            final Integer next = result.addState();
+            for (Character c : INPUTS) {
+                result.addTransition(prev, c, c == 'a' ? next : init, i % OUTPUTS.size());
+            }
+            prev = next;
+        }
+
+        for (Character c : INPUTS) {
+            result.addTransition(prev, c, init, 0);
+        }
+
+        return result;
+    }
+
+    private static final class CoverageOracle extends MealySimulatorOracle<Character, Integer> {
+
+        private final CompactMealy<Character, Integer> target;
+        private final Map<Pair<Integer, Character>, Long> covered;
+        private long symbols;
+        private long queries;
+
+        CoverageOracle(CompactMealy<Character, Integer> target) {
+            super(target);
+            this.target = target;
+            this.covered = new HashMap<>();
+        }
+
+        @Override
+        public Word<Integer> answerQuery(Word<Character> prefix, Word<Character> suffix) {
+            Integer state = target.getInitialState();
+            queries++;
+            for (Character c : prefix.concat(suffix)) {
+                covered.merge(Pair.of(state, c), 1L, Long::sum);
+                state = target.getSuccessor(state, c);
+                symbols++;
+            }
+            return super.answerQuery(prefix, suffix);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import de.learnlib.oracle.membership.MealySimulatorOracle;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.word.Word;
+
+/**
+ * A {@link MealySimulatorOracle} that counts the number of (single) queries and their symbols.
+ */
+class CountingMealyOracle<I, O> extends MealySimulatorOracle<I, O> {
+
+    private long tests;
+    private long symbols;
+
+    CountingMealyOracle(MealyMachine<?, I, ?, O> target) {
+        super(target);
+    }
+
+    @Override
+    public Word<O> answerQuery(Word<I> prefix, Word<I> suffix) {
+        tests++;
+        symbols += prefix.length() + suffix.length();
+        return super.answerQuery(prefix, suffix);
+    }
+
+    long getTests() {
+        return tests;
+    }
+
+    long getSymbols() {
+        return symbols;
+    }
+}
@@ -0,0 +1,88 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import de.learnlib.oracle.equivalence.MealyWpMethodEQOracle;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+
+/**
+ * Compares the size of the (complete) test suites of the {@link HybridADSEQOracle Hybrid-ADS method} and the
+ * {@link MealyWpMethodEQOracle Wp-method} on random (equivalent) hypotheses with and without adaptive distinguishing
+ * sequences. This is a standalone benchmark (not executed as part of the unit tests) that can be run via its
+ * {@link #main(String[]) main} method, e.g., from within an IDE.
+ */
+@SuppressWarnings("PMD.SystemPrintln")
+public final class HybridADSEQOracleBenchmark {
+
+    private static final Alphabet<Character> INPUTS = Alphabets.characters('a', 'c');
+    private static final List<Integer> MANY_OUTPUTS = Arrays.asList(0, 1, 2, 3);
+    private static final List<Integer> FEW_OUTPUTS = Arrays.asList(0, 1);
+    private static final int[] SIZES = {20, 50, 100};
+    private static final int LOOKAHEAD = 1;
+    private static final int RUNS = 10;
+    private static final long SEED = 42;
+
+    private HybridADSEQOracleBenchmark() {
+        // prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        for (List<Integer> outputs : Arrays.asList(MANY_OUTPUTS, FEW_OUTPUTS)) {
+            for (int size : SIZES) {
+                run(size, outputs);
+            }
+        }
+    }
+
+    private static void run(int size, List<Integer> outputs) {
+        final Random random = new Random(SEED);
+        long hybridTests = 0;
+        long hybridSymbols = 0;
+        long wpTests = 0;
+        long wpSymbols = 0;
+
+        for (int i = 0; i < RUNS; i++) {
+            final CompactMealy<Character, Integer> target =
+                    RandomAutomata.randomMealy(random, size, INPUTS, outputs, true);
+
+            final CountingMealyOracle<Character, Integer> hybridOracle = new CountingMealyOracle<>(target);
+            final CountingMealyOracle<Character, Integer> wpOracle = new CountingMealyOracle<>(target);
+
+            new HybridADSEQOracle<>(hybridOracle, LOOKAHEAD).findCounterExample(target, INPUTS);
+            new MealyWpMethodEQOracle<>(wpOracle, LOOKAHEAD).findCounterExample(target, INPUTS);
+
+            hybridTests += hybridOracle.getTests();
+            hybridSymbols += hybridOracle.getSymbols();
+            wpTests += wpOracle.getTests();
+            wpSymbols += wpOracle.getSymbols();
+        }
+
+        System.out.printf("%d states, %d outputs: Hybrid-ADS %d tests (%d symbols), Wp-method %d tests (%d symbols)%n",
+                          size,
+                          outputs.size(),
+                          hybridTests / RUNS,
+                          hybridSymbols / RUNS,
+                          wpTests / RUNS,
+                          wpSymbols / RUNS);
+    }
+}
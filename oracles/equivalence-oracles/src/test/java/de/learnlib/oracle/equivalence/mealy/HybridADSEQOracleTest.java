@@ -0,0 +1,212 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import de.learnlib.oracle.EquivalenceOracle.MealyEquivalenceOracle;
+import de.learnlib.oracle.equivalence.MealyWpMethodEQOracle;
+import de.learnlib.oracle.membership.MealySimulatorOracle;
+import de.learnlib.query.DefaultQuery;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.common.util.mapping.Mapping;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class HybridADSEQOracleTest {
+
+    private static final Alphabet<Character> INPUTS = Alphabets.characters('a', 'c');
+    private static final List<Integer> OUTPUTS = Arrays.asList(0, 1, 2, 3);
+    private static final int SIZE = 20;
+    private static final int RUNS = 10;
+    private static final int MAX_SPLIT_ATTEMPTS = 100;
+    private static final long SEED = 42;
+
+    @Test
+    public void testSeparatingFamily() {
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < RUNS; i++) {
+            // alternate between (likely) existing and (likely) non-existing ADSs
+            final List<Integer> outputs = i % 2 == 0 ? OUTPUTS : OUTPUTS.subList(0, 2);
+            final CompactMealy<Character, Integer> hyp = RandomAutomata.randomMealy(random, SIZE, INPUTS, outputs);
+            final Mapping<Integer, List<Word<Character>>> family = SeparatingFamily.compute(hyp, INPUTS);
+
+            for (Integer s : hyp.getStates()) {
+                for (Integer t : hyp.getStates()) {
+                    if (!s.equals(t)) {
+                        Assert.assertTrue(isHarmonized(hyp, s, t, family.get(s), family.get(t)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMutatedHypothesis() {
+        final CompactMealy<Character, Integer> target = randomTarget(new Random(SEED));
+        final CompactMealy<Character, Integer> hyp = new CompactMealy<>(target);
+
+        // introduce a single output difference
+        final Integer state = hyp.getState(Word.fromString("abc"));
+        final Character sym = 'a';
+        Assert.assertNotNull(state);
+        final Integer output = hyp.getOutput(state, sym);
+        Assert.assertNotNull(output);
+        hyp.setTransitionProperty(hyp.getTransition(state, sym), (output + 1) % OUTPUTS.size());
+
+        final MealySimulatorOracle<Character, Integer> mqo = new MealySimulatorOracle<>(target);
+
+        checkCounterexample(new HybridADSEQOracle<>(mqo, 0), target, hyp);
+        checkCounterexample(new RandomHybridADSEQOracle<>(mqo, 0, 4, 10_000, new Random(SEED), 1), target, hyp);
+    }
+
+    @Test
+    public void testAdditionalState() {
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < RUNS; i++) {
+            final CompactMealy<Character, Integer> hyp = randomTarget(random);
+            final CompactMealy<Character, Integer> target = splitUntilGrown(hyp, random);
+
+            Assert.assertEquals(target.size(), hyp.size() + 1);
+
+            final MealySimulatorOracle<Character, Integer> mqo = new MealySimulatorOracle<>(target);
+            checkCounterexample(new HybridADSEQOracle<>(mqo, 1), target, hyp);
+        }
+    }
+
+    @Test
+    public void testEquivalentHypothesis() {
+        final CompactMealy<Character, Integer> target = randomTarget(new Random(SEED));
+        final MealySimulatorOracle<Character, Integer> mqo = new MealySimulatorOracle<>(target);
+
+        Assert.assertNull(new HybridADSEQOracle<>(mqo, 1).findCounterExample(target, INPUTS));
+        Assert.assertNull(new RandomHybridADSEQOracle<>(mqo, 0, 4, 1_000).findCounterExample(target, INPUTS));
+    }
+
+    @Test
+    public void testSuiteSize() {
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < RUNS; i++) {
+            // alternate between (likely) existing and (likely) non-existing ADSs
+            final List<Integer> outputs = i % 2 == 0 ? OUTPUTS : OUTPUTS.subList(0, 2);
+            final CompactMealy<Character, Integer> target =
+                    RandomAutomata.randomMealy(random, SIZE, INPUTS, outputs, true);
+
+            final CountingMealyOracle<Character, Integer> hybridOracle = new CountingMealyOracle<>(target);
+            final CountingMealyOracle<Character, Integer> wpOracle = new CountingMealyOracle<>(target);
+
+            Assert.assertNull(new HybridADSEQOracle<>(hybridOracle, 1).findCounterExample(target, INPUTS));
+            Assert.assertNull(new MealyWpMethodEQOracle<>(wpOracle, 1).findCounterExample(target, INPUTS));
+
+            Assert.assertTrue(hybridOracle.getTests() <= wpOracle.getTests());
+        }
+    }
+
+    private static void checkCounterexample(MealyEquivalenceOracle<Character, Integer> oracle,
+                                            CompactMealy<Character, Integer> target,
+                                            CompactMealy<Character, Integer> hyp) {
+        final DefaultQuery<Character, Word<Integer>> ce = oracle.findCounterExample(hyp, INPUTS);
+        Assert.assertNotNull(ce);
+        Assert.assertEquals(ce.getOutput(), target.computeOutput(ce.getInput()));
+        Assert.assertNotEquals(ce.getOutput(), hyp.computeOutput(ce.getInput()));
+    }
+
+    private static boolean isHarmonized(CompactMealy<Character, Integer> hyp,
+                                        Integer s,
+                                        Integer t,
+                                        List<Word<Character>> hs,
+                                        List<Word<Character>> ht) {
+        for (Word<Character> u : hs) {
+            for (Word<Character> v : ht) {
+                final Word<Character> common = u.prefix(commonPrefixLength(u, v));
+                if (!hyp.computeStateOutput(s, common).equals(hyp.computeStateOutput(t, common))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int commonPrefixLength(Word<Character> u, Word<Character> v) {
+        final int length = Math.min(u.length(), v.length());
+        for (int i = 0; i < length; i++) {
+            if (!u.getSymbol(i).equals(v.getSymbol(i))) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static CompactMealy<Character, Integer> randomTarget(Random random) {
+        return RandomAutomata.randomMealy(random, SIZE, INPUTS, OUTPUTS, true);
+    }
+
+    /**
+     * Repeatedly {@link #split(CompactMealy, Random) splits} the given machine until the (minimized) result has exactly
+     * one additional state.
+     */
+    private static CompactMealy<Character, Integer> splitUntilGrown(CompactMealy<Character, Integer> hyp,
+                                                                    Random random) {
+        for (int i = 0; i < MAX_SPLIT_ATTEMPTS; i++) {
+            final CompactMealy<Character, Integer> result = split(hyp, random);
+            if (result.size() == hyp.size() + 1) {
+                return result;
+            }
+        }
+
+        throw new AssertionError("Could not split the hypothesis");
+    }
+
+    /**
+     * Splits a random state of the given machine by redirecting a random transition to a new state and returns the
+     * minimized result. The new state emits a fresh output for one of its inputs, so it is inequivalent to all other
+     * states. However, the minimized result may still lose states of the original machine, e.g., if the redirected
+     * transition was the only one to reach its original target.
+     */
+    private static CompactMealy<Character, Integer> split(CompactMealy<Character, Integer> hyp, Random random) {
+        final CompactMealy<Character, Integer> result = new CompactMealy<>(hyp);
+
+        final int source = random.nextInt(hyp.size());
+        final Character sym = INPUTS.getSymbol(random.nextInt(INPUTS.size()));
+        final int oldTarget = result.getSuccessor(source, sym);
+        final int newTarget = result.addState();
+
+        for (Character i : INPUTS) {
+            result.addTransition(newTarget,
+                                 i,
+                                 result.getSuccessor(oldTarget, i),
+                                 random.nextInt(OUTPUTS.size()));
+        }
+
+        final Character fresh = INPUTS.getSymbol(random.nextInt(INPUTS.size()));
+        result.setTransitionProperty(result.getTransition(newTarget, fresh), OUTPUTS.size());
+
+        result.removeTransition(source, sym, result.getTransition(source, sym));
+        result.addTransition(source, sym, newTarget, hyp.getOutput(source, sym));
+
+        return Automata.minimize(result, INPUTS, new CompactMealy<>(INPUTS));
+    }
+}
@@ -0,0 +1,194 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of LearnLib <https://learnlib.de>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.learnlib.oracle.equivalence.mealy;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.learnlib.query.DefaultQuery;
+import de.learnlib.sul.SUL;
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParallelRandomWalkEQOracleTest {
+
+    private static final Alphabet<Character> ALPHABET = Alphabets.characters('a', 'c');
+    private static final int SIZE = 20;
+    private static final long MAX_STEPS = 10_000;
+    private static final int WALKERS = 4;
+    private static final long SEED = 42;
+
+    @Test
+    public void testSharedBudget() {
+        final CompactMealy<Character, Integer> target = randomTarget();
+        final AtomicLong sulSteps = new AtomicLong();
+
+        final ParallelRandomWalkEQOracle<Character, Integer> oracle =
+                new ParallelRandomWalkEQOracle<>(new MealySUL(target, sulSteps), 0.05, MAX_STEPS, true, SEED, WALKERS);
+
+        Assert.assertNull(oracle.findCounterExample(target, ALPHABET));
+        Assert.assertEquals(sulSteps.get(), MAX_STEPS);
+        Assert.assertEquals(oracle.getSteps(), MAX_STEPS);
+
+        // the budget is reset for every search
+        Assert.assertNull(oracle.findCounterExample(target, ALPHABET));
+        Assert.assertEquals(sulSteps.get(), 2 * MAX_STEPS);
+
+        oracle.shutdownNow();
+    }
+
+    @Test
+    public void testUserExecutor() throws InterruptedException {
+        final CompactMealy<Character, Integer> target = randomTarget();
+        final AtomicLong sulSteps = new AtomicLong();
+        final SUL<Character, Integer> sul = new MealySUL(target, sulSteps);
+        final ExecutorService executor = Executors.newFixedThreadPool(WALKERS);
+
+        final ParallelRandomWalkEQOracle<Character, Integer> oracle =
+                new ParallelRandomWalkEQOracle<>(sul, 0.05, MAX_STEPS, true, SEED, WALKERS, executor);
+
+        // the executor is re-used for every search
+        for (int i = 1; i <= 3; i++) {
+            Assert.assertNull(oracle.findCounterExample(target, ALPHABET));
+            Assert.assertEquals(sulSteps.get(), i * MAX_STEPS);
+            Assert.assertFalse(executor.isShutdown());
+        }
+
+        oracle.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExhaustedBudget() {
+        final CompactMealy<Character, Integer> target = randomTarget();
+        final AtomicLong sulSteps = new AtomicLong();
+
+        final ParallelRandomWalkEQOracle<Character, Integer> oracle =
+                new ParallelRandomWalkEQOracle<>(new MealySUL(target, sulSteps), 0.05, MAX_STEPS, false, SEED, WALKERS);
+
+        Assert.assertNull(oracle.findCounterExample(target, ALPHABET));
+        Assert.assertNull(oracle.findCounterExample(target, ALPHABET));
+        Assert.assertEquals(sulSteps.get(), MAX_STEPS);
+
+        oracle.shutdownNow();
+    }
+
+    @Test
+    public void testCounterexample() {
+        final CompactMealy<Character, Integer> target = randomTarget();
+        final CompactMealy<Character, Integer> hyp = new CompactMealy<>(target);
+        final AtomicLong sulSteps = new AtomicLong();
+
+        // introduce a single output difference
+        final Integer state = hyp.getState(Word.fromString("abc"));
+        final Character sym = 'a';
+        Assert.assertNotNull(state);
+        hyp.setTransitionProperty(hyp.getTransition(state, sym), 1 - target.getOutput(state, sym));
+
+        final ParallelRandomWalkEQOracle<Character, Integer> oracle =
+                new ParallelRandomWalkEQOracle<>(new MealySUL(target, sulSteps), 0.05, MAX_STEPS, true, SEED, WALKERS);
+
+        final DefaultQuery<Character, Word<Integer>> ce = oracle.findCounterExample(hyp, ALPHABET);
+        Assert.assertNotNull(ce);
+        Assert.assertEquals(target.computeOutput(ce.getInput()), ce.getOutput());
+        Assert.assertNotEquals(hyp.computeOutput(ce.getInput()), ce.getOutput());
+
+        // all walkers stop once a counterexample has been found
+        Assert.assertTrue(sulSteps.get() < MAX_STEPS);
+
+        oracle.shutdownNow();
+    }
+
+    @Test
+    public void testNonForkableSUL() {
+        final SUL<Character, Integer> sul = new SUL<Character, Integer>() {
+
+            @Override
+            public void pre() {}
+
+            @Override
+            public void post() {}
+
+            @Override
+            public Integer step(Character in) {
+                return 0;
+            }
+        };
+
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> new ParallelRandomWalkEQOracle<>(sul, 0.05, MAX_STEPS, true, SEED, WALKERS));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> new ParallelRandomWalkEQOracle<>(sul, 0.05, MAX_STEPS, true, SEED, 0));
+
+        // a single walker does not require forking
+        Assert.assertNotNull(new ParallelRandomWalkEQOracle<>(sul, 0.05, MAX_STEPS, true, SEED, 1));
+    }
+
+    private static CompactMealy<Character, Integer> randomTarget() {
+        return RandomAutomata.randomMealy(new Random(SEED), SIZE, ALPHABET, Arrays.asList(0, 1));
+    }
+
+    private static final class MealySUL implements SUL<Character, Integer> {
+
+        private final CompactMealy<Character, Integer> mealy;
+        private final AtomicLong steps;
+        private @Nullable Integer state;
+
+        MealySUL(CompactMealy<Character, Integer> mealy, AtomicLong steps) {
+            this.mealy = mealy;
+            this.steps = steps;
+        }
+
+        @Override
+        public void pre() {
+            state = mealy.getInitialState();
+        }
+
+        @Override
+        public void post() {
+            state = null;
+        }
+
+        @Override
+        public Integer step(Character in) {
+            Assert.assertNotNull(state);
+            steps.incrementAndGet();
+            final Integer output = mealy.getOutput(state, in);
+            state = mealy.getSuccessor(state, in);
+            return output;
+        }
+
+        @Override
+        public boolean canFork() {
+            return true;
+        }
+
+        @Override
+        public SUL<Character, Integer> fork() {
+            return new MealySUL(mealy, steps);
+        }
+    }
+}
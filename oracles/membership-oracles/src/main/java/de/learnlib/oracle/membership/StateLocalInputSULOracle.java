@@ -18,6 +18,8 @@ package de.learnlib.oracle.membership;
 import java.util.Collection;
 import java.util.Collections;
 
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.oracle.MembershipOracle.MealyMembershipOracle;
 import de.learnlib.query.Query;
 import de.learnlib.sul.StateLocalInputSUL;
@@ -41,10 +43,16 @@ public class StateLocalInputSULOracle<I, O> implements MealyMembershipOracle<I,
 
     @Override
     public void processQueries(Collection<? extends Query<I, Word<O>>> queries) {
+        final Object event = Events.begin(EventKind.QUERY_BATCH);
+        long length = 0;
+
         for (Query<I, Word<O>> q : queries) {
             Word<O> output = answerQuery(q.getPrefix(), q.getSuffix());
             q.answer(output);
+            length += q.getPrefix().length() + q.getSuffix().length();
         }
+
+        Events.commit(event, getClass().getSimpleName(), queries.size(), length);
     }
 
     @Override
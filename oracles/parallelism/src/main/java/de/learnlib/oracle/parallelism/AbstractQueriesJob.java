@@ -17,6 +17,8 @@ package de.learnlib.oracle.parallelism;
 
 import java.util.Collection;
 
+import de.learnlib.event.EventKind;
+import de.learnlib.event.Events;
 import de.learnlib.oracle.BatchProcessor;
 
 /**
@@ -37,9 +39,11 @@ abstract class AbstractQueriesJob<Q> implements Runnable {
 
     @Override
     public void run() {
+        final Object event = Events.begin(EventKind.PARALLEL_JOB);
         BatchProcessor<Q> oracle = getOracle();
 
         oracle.processBatch(queries);
+        Events.commit(event, getClass().getSimpleName(), queries.size(), 0);
     }
 
     protected abstract BatchProcessor<Q> getOracle();